@@ -0,0 +1,146 @@
+package com.github.andrz25.benchmarks;
+
+import static com.github.andrz25.benchmarks.KeyDistribution.box;
+
+import com.github.andrz25.api.BinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every {@link BinarySearchTree} operation on {@link com.github.andrz25.model.MyBinarySearchTree}
+ * and {@link java.util.TreeSet}, for each tree size and key distribution. TreeSet does not expose
+ * its height, so height is measured on MyBinarySearchTree alone by {@link TreeHeightBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// The traversals and height recurse once per level, and a sorted tree is as deep as it is large
+@Fork(value = 2, jvmArgsAppend = "-Xss64m")
+public class BinarySearchTreeBenchmark {
+
+    @Param({"1000", "10000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    @Param({"MyBinarySearchTree", "TreeSet"})
+    String implementation;
+
+    private int[] keys;
+    private Integer[] probes;
+    private int next;
+    private BinarySearchTree<Integer> tree;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = distribution.keys(size, size, 42);
+        probes = probes(keys);
+        tree = build();
+
+        // The traversals print every element, which is part of their cost but not worth reading
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    private BinarySearchTree<Integer> build() {
+        BinarySearchTree<Integer> built = Implementations.tree(implementation);
+        for (int key : keys) {
+            built.insert(key);
+        }
+        return built;
+    }
+
+    /**
+     * Draws the probes from the inserted keys, so every probe is present in the tree and popular
+     * keys are probed as often as they were inserted
+     *
+     * @param keys the keys the tree was built from
+     * @return 2^16 boxed probes
+     */
+    static Integer[] probes(int[] keys) {
+        Random random = new Random(43);
+        int[] probes = new int[1 << 16];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = keys[random.nextInt(keys.length)];
+        }
+        return box(probes);
+    }
+
+    private Integer nextProbe() {
+        Integer probe = probes[next];
+        next = (next + 1) & (probes.length - 1);
+        return probe;
+    }
+
+    // Builds a whole tree, so the time is for size insertions
+    @Benchmark
+    public BinarySearchTree<Integer> insertAll() {
+        return build();
+    }
+
+    // Always a hit, the probes are inserted keys
+    @Benchmark
+    public boolean contains() {
+        return tree.contains(nextProbe());
+    }
+
+    // Deletes a present key and puts it back, so the tree keeps its size
+    @Benchmark
+    public void deleteAndInsert() {
+        Integer probe = nextProbe();
+        tree.delete(probe);
+        tree.insert(probe);
+    }
+
+    @Benchmark
+    public void inOrderTraversal() {
+        tree.inOrderTraversal();
+    }
+
+    @Benchmark
+    public void preOrderTraversal() {
+        tree.preOrderTraversal();
+    }
+
+    @Benchmark
+    public void postOrderTraversal() {
+        tree.postOrderTraversal();
+    }
+
+    @Benchmark
+    public void levelOrderTraversal() {
+        tree.levelOrderTraversal();
+    }
+
+    @Benchmark
+    public void sizeAndIsEmpty(Blackhole blackhole) {
+        blackhole.consume(tree.size());
+        blackhole.consume(tree.isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.andrz25.benchmarks;
+
+import com.github.andrz25.api.DoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The end operations of {@link DoublyLinkedList}, which every implementation supports, on
+ * the lab lists, {@link java.util.LinkedList} and {@link java.util.ArrayDeque}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DequeBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"MyDoublyLinkedList", "ArrayDoublyLinkedList", "LinkedList", "ArrayDeque"})
+    String implementation;
+
+    private DoublyLinkedList<Integer> list;
+    private Integer value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = Implementations.list(implementation);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        // A boxed value outside the Integer cache, allocated once so the benchmark measures the list
+        value = 1_000_000;
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        list.addLast(value);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addFirstRemoveLast() {
+        list.addFirst(value);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public void getFirstAndLast(Blackhole blackhole) {
+        blackhole.consume(list.getFirst());
+        blackhole.consume(list.getLast());
+    }
+
+    @Benchmark
+    public void sizeAndIsEmpty(Blackhole blackhole) {
+        blackhole.consume(list.size());
+        blackhole.consume(list.isEmpty());
+    }
+
+    // Empties the list and fills it again, so the time is for size insertions plus the clear
+    @Benchmark
+    public DoublyLinkedList<Integer> clearAndRefill() {
+        list.clear();
+        for (int i = 0; i < size; i++) {
+            list.addLast(value);
+        }
+        return list;
+    }
+}
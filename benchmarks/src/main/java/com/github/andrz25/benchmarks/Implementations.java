@@ -0,0 +1,229 @@
+package com.github.andrz25.benchmarks;
+
+import com.github.andrz25.api.BinarySearchTree;
+import com.github.andrz25.api.DoublyLinkedList;
+import com.github.andrz25.model.ArrayDoublyLinkedList;
+import com.github.andrz25.model.MyBinarySearchTree;
+import com.github.andrz25.model.MyDoublyLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.TreeSet;
+
+/**
+ * Creates the structures compared by the benchmarks, adapting the JDK collections to the
+ * lab interfaces so every implementation is called through the same interface.
+ */
+final class Implementations {
+
+    private Implementations() {
+    }
+
+    static BinarySearchTree<Integer> tree(String name) {
+        switch (name) {
+            case "MyBinarySearchTree":
+                return new MyBinarySearchTree<>();
+            case "TreeSet":
+                return new TreeSetAdapter();
+            default:
+                throw new IllegalArgumentException("Unknown tree " + name);
+        }
+    }
+
+    static DoublyLinkedList<Integer> list(String name) {
+        switch (name) {
+            case "MyDoublyLinkedList":
+                return new MyDoublyLinkedList<>();
+            case "ArrayDoublyLinkedList":
+                return new ArrayDoublyLinkedList<>();
+            case "LinkedList":
+                return new LinkedListAdapter();
+            case "ArrayDeque":
+                return new DequeAdapter(new ArrayDeque<>());
+            default:
+                throw new IllegalArgumentException("Unknown list " + name);
+        }
+    }
+
+    // TreeSet only iterates in order, which stands in for all four traversals
+    private static final class TreeSetAdapter implements BinarySearchTree<Integer> {
+        private final TreeSet<Integer> set = new TreeSet<>();
+
+        @Override
+        public void insert(Integer data) {
+            set.add(data);
+        }
+
+        @Override
+        public boolean contains(Integer data) {
+            return set.contains(data);
+        }
+
+        @Override
+        public void delete(Integer data) {
+            set.remove(data);
+        }
+
+        @Override
+        public void inOrderTraversal() {
+            print();
+        }
+
+        @Override
+        public void preOrderTraversal() {
+            print();
+        }
+
+        @Override
+        public void postOrderTraversal() {
+            print();
+        }
+
+        @Override
+        public void levelOrderTraversal() {
+            print();
+        }
+
+        private void print() {
+            for (Integer data : set) {
+                System.out.print(data + " ");
+            }
+        }
+
+        // TreeSet does not expose the height of its red-black tree
+        @Override
+        public int height() {
+            throw new UnsupportedOperationException("TreeSet does not expose its height");
+        }
+
+        @Override
+        public int size() {
+            return set.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return set.isEmpty();
+        }
+    }
+
+    // End operations only, the index operations are not supported by a deque
+    private static class DequeAdapter implements DoublyLinkedList<Integer> {
+        final Deque<Integer> deque;
+
+        DequeAdapter(Deque<Integer> deque) {
+            this.deque = deque;
+        }
+
+        @Override
+        public void addFirst(Integer data) {
+            deque.addFirst(data);
+        }
+
+        @Override
+        public void addLast(Integer data) {
+            deque.addLast(data);
+        }
+
+        @Override
+        public void insertAt(int index, Integer data) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Integer removeFirst() {
+            return deque.pollFirst();
+        }
+
+        @Override
+        public Integer removeLast() {
+            return deque.pollLast();
+        }
+
+        @Override
+        public Integer removeAt(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Integer getFirst() {
+            return deque.peekFirst();
+        }
+
+        @Override
+        public Integer getLast() {
+            return deque.peekLast();
+        }
+
+        @Override
+        public Integer getAt(int index) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            return deque.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return deque.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            deque.clear();
+        }
+
+        @Override
+        public boolean contains(Integer data) {
+            return deque.contains(data);
+        }
+
+        @Override
+        public int indexOf(Integer data) {
+            int index = 0;
+            for (Integer element : deque) {
+                if (element.equals(data)) {
+                    return index;
+                }
+                index++;
+            }
+            return -1;
+        }
+    }
+
+    private static final class LinkedListAdapter extends DequeAdapter {
+        private final LinkedList<Integer> list;
+
+        LinkedListAdapter() {
+            this(new LinkedList<>());
+        }
+
+        private LinkedListAdapter(LinkedList<Integer> list) {
+            super(list);
+            this.list = list;
+        }
+
+        @Override
+        public void insertAt(int index, Integer data) {
+            list.add(index, data);
+        }
+
+        @Override
+        public Integer removeAt(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public Integer getAt(int index) {
+            return (index < 0 || index >= list.size()) ? null : list.get(index);
+        }
+
+        @Override
+        public int indexOf(Integer data) {
+            return list.indexOf(data);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.andrz25.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * How benchmark keys are drawn from <code>[0, n)</code>. Every distribution is seeded, so two runs
+ * see exactly the same keys.
+ */
+public enum KeyDistribution {
+
+    /** Every key equally likely. */
+    RANDOM {
+        @Override
+        int[] keys(int n, int count, long seed) {
+            Random random = new Random(seed);
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = random.nextInt(n);
+            }
+            return keys;
+        }
+    },
+
+    /** Ascending keys, the worst case of an unbalanced tree. */
+    SORTED {
+        @Override
+        int[] keys(int n, int count, long seed) {
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = i % n;
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Key of rank k drawn with probability proportional to 1 / (k + 1), with the ranks shuffled
+     * over <code>[0, n)</code> so the popular keys are not all the smallest ones.
+     */
+    ZIPFIAN {
+        @Override
+        int[] keys(int n, int count, long seed) {
+            double[] cumulative = new double[n];
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                sum += 1.0 / (k + 1);
+                cumulative[k] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulative[k] /= sum;
+            }
+
+            Random random = new Random(seed);
+            int[] rankToKey = new int[n];
+            for (int k = 0; k < n; k++) {
+                rankToKey[k] = k;
+            }
+            for (int k = n - 1; k > 0; k--) {
+                int j = random.nextInt(k + 1);
+                int swap = rankToKey[k];
+                rankToKey[k] = rankToKey[j];
+                rankToKey[j] = swap;
+            }
+
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+                rank = (rank >= 0) ? rank : Math.min(-rank - 1, n - 1);
+                keys[i] = rankToKey[rank];
+            }
+            return keys;
+        }
+    };
+
+    /**
+     * Draws keys
+     *
+     * @param n the number of distinct keys
+     * @param count the number of keys to draw
+     * @param seed the seed of the draw
+     * @return the keys, each in [0, n)
+     */
+    abstract int[] keys(int n, int count, long seed);
+
+    /**
+     * Boxes keys ahead of time, so a benchmark does not measure the allocation of the boxes
+     *
+     * @param keys the keys to box
+     * @return the boxed keys
+     */
+    static Integer[] box(int[] keys) {
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            boxed[i] = keys[i];
+        }
+        return boxed;
+    }
+}
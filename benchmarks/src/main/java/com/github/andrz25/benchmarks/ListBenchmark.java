@@ -0,0 +1,84 @@
+package com.github.andrz25.benchmarks;
+
+import static com.github.andrz25.benchmarks.KeyDistribution.box;
+
+import com.github.andrz25.api.DoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The index and search operations of {@link DoublyLinkedList} on the lab lists and
+ * {@link java.util.LinkedList}. The list holds <code>0 .. size - 1</code>, so a key is
+ * also its own index, and the key distribution decides which positions are hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    @Param({"MyDoublyLinkedList", "ArrayDoublyLinkedList", "LinkedList"})
+    String implementation;
+
+    private DoublyLinkedList<Integer> list;
+    private Integer[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = Implementations.list(implementation);
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        probes = box(distribution.keys(size, 1 << 16, 43));
+    }
+
+    private Integer nextProbe() {
+        Integer probe = probes[next];
+        next = (next + 1) & (probes.length - 1);
+        return probe;
+    }
+
+    @Benchmark
+    public Integer getAt() {
+        return list.getAt(nextProbe());
+    }
+
+    // Inserts at an index and removes it again, so the list keeps its contents
+    @Benchmark
+    public Integer insertAtRemoveAt() {
+        Integer index = nextProbe();
+        list.insertAt(index, index);
+        return list.removeAt(index);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(nextProbe());
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(nextProbe());
+    }
+}
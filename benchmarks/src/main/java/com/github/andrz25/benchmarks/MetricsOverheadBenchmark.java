@@ -0,0 +1,126 @@
+package com.github.andrz25.benchmarks;
+
+import com.github.andrz25.metrics.StructureMetrics;
+import com.github.andrz25.model.MyBinarySearchTree;
+import com.github.andrz25.model.MyDoublyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of {@link StructureMetrics}: the same operations with metrics switched off and on. Each
+ * pair of benchmarks differs only in the system property its forked JVMs start with, so the
+ * disabled variant should match the plain structure and the enabled variant shows the price of
+ * counting.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MetricsOverheadBenchmark {
+
+    private static final String DISABLED = "-Dcom.github.andrz25.metrics=false";
+    private static final String ENABLED = "-Dcom.github.andrz25.metrics=true";
+
+    private static final int SIZE = 10_000;
+    private static final int PROBES = 1024;
+
+    private MyBinarySearchTree<Integer> tree;
+    private MyDoublyLinkedList<Integer> list;
+    private Integer[] probes;
+    private int[] indexes;
+    private Integer value;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (StructureMetrics.ENABLED != Boolean.getBoolean("com.github.andrz25.metrics")) {
+            throw new IllegalStateException("metrics switch does not match the fork arguments");
+        }
+        tree = new MyBinarySearchTree<>();
+        for (Integer key : KeyDistribution.box(KeyDistribution.RANDOM.keys(SIZE, SIZE, 1))) {
+            tree.insert(key);
+        }
+        list = new MyDoublyLinkedList<>();
+        for (int i = 0; i < SIZE; i++) {
+            list.addLast(i);
+        }
+        probes = KeyDistribution.box(KeyDistribution.RANDOM.keys(SIZE, PROBES, 2));
+        indexes = KeyDistribution.RANDOM.keys(SIZE, PROBES, 3);
+        value = 1_000_000;
+    }
+
+    private int nextProbe() {
+        return next = (next + 1) & (PROBES - 1);
+    }
+
+    ///////////////// Tree/////////////////
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLED)
+    public boolean treeContainsDisabled() {
+        return tree.contains(probes[nextProbe()]);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ENABLED)
+    public boolean treeContainsEnabled() {
+        return tree.contains(probes[nextProbe()]);
+    }
+
+    // Deletes a key and puts it back, so the tree keeps its shape once every probe is present
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLED)
+    public void treeDeleteInsertDisabled() {
+        Integer key = probes[nextProbe()];
+        tree.delete(key);
+        tree.insert(key);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ENABLED)
+    public void treeDeleteInsertEnabled() {
+        Integer key = probes[nextProbe()];
+        tree.delete(key);
+        tree.insert(key);
+    }
+
+    ///////////////// List/////////////////
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLED)
+    public Integer listAddLastRemoveFirstDisabled() {
+        list.addLast(value);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ENABLED)
+    public Integer listAddLastRemoveFirstEnabled() {
+        list.addLast(value);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = DISABLED)
+    public Integer listGetAtDisabled() {
+        return list.getAt(indexes[nextProbe()]);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = ENABLED)
+    public Integer listGetAtEnabled() {
+        return list.getAt(indexes[nextProbe()]);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.andrz25.benchmarks;
+
+import com.github.andrz25.model.MyBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MyBinarySearchTree#height()} for each tree size and key distribution. Apart from
+ * {@link BinarySearchTreeBenchmark} because TreeSet has no height to compare with.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// height recurses once per level, and a sorted tree is as deep as it is large
+@Fork(value = 2, jvmArgsAppend = "-Xss64m")
+public class TreeHeightBenchmark {
+
+    @Param({"1000", "10000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    private MyBinarySearchTree<Integer> tree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tree = new MyBinarySearchTree<>();
+        for (int key : distribution.keys(size, size, 42)) {
+            tree.insert(key);
+        }
+    }
+
+    @Benchmark
+    public int height() {
+        return tree.height();
+    }
+}
@@ -29,6 +29,8 @@ public interface DoublyLinkedList<T> {
      *
      * @param index the index that will obtain a new node
      * @param data the data contained inside the node
+     * @throws UnsupportedOperationException if the implementation cannot insert in the middle,
+     * which is an optional operation (see ConcurrentDoublyLinkedList)
      */
     void insertAt(int index, T data);
 
@@ -53,6 +55,8 @@ public interface DoublyLinkedList<T> {
      *
      * @param index the index that a node will be deleted
      * @return the deleted node
+     * @throws UnsupportedOperationException if the implementation cannot remove from the middle,
+     * which is an optional operation (see ConcurrentDoublyLinkedList)
      */
     T removeAt(int index);
 
@@ -0,0 +1,103 @@
+package com.github.andrz25.cache;
+
+/**
+ * A count-min sketch of 4-bit counters used by the TinyLFU admission policy
+ * to estimate how often a key has been accessed recently.
+ *
+ * <p>Every key maps to one counter in each of the {@value #DEPTH} rows and its
+ * frequency is the minimum of those counters, so collisions can only
+ * over-estimate. Once the number of recorded accesses reaches ten times the
+ * width of a row, every counter is halved so that old popularity fades out.</p>
+ *
+ * <p>Two counters are packed into each byte of the table, so a sketch whose rows
+ * are w counters wide takes {@value #DEPTH} * w / 2 bytes, two bytes per row slot.</p>
+ *
+ * @param <K> the type of the keys
+ */
+class FrequencySketch<K> {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0xb9c8d0a5, 0x85ebca6b, 0xc2b2ae35};
+
+    private final byte[] table;
+    private final int width;
+    private final int shift;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for the given number of entries.
+     *
+     * @param expectedEntries the number of entries the cache is expected to hold
+     */
+    FrequencySketch(long expectedEntries) {
+        int bits = 4;
+        while (bits < 24 && (1L << bits) < expectedEntries) {
+            bits++;
+        }
+        this.width = 1 << bits;
+        this.shift = 32 - bits;
+        this.table = new byte[DEPTH * width / 2];
+        this.sampleSize = 10 * width;
+    }
+
+    /**
+     * Records one access to the key.
+     *
+     * @param key the accessed key
+     */
+    void increment(K key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            int offset = (index & 1) << 2;
+            if (((table[index >>> 1] >>> offset) & MAX_COUNT) < MAX_COUNT) {
+                table[index >>> 1] += (byte) (1 << offset);
+                added = true;
+            }
+        }
+
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimates how often the key was accessed recently.
+     *
+     * @param key the key to look up
+     * @return the estimated frequency, between 0 and 15
+     */
+    int frequency(K key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            frequency = Math.min(frequency, (table[index >>> 1] >>> ((index & 1) << 2)) & MAX_COUNT);
+        }
+        return frequency;
+    }
+
+    // Halve every counter so that the sketch ages out old accesses, the mask keeps each
+    // high counter's low bit from shifting into its neighbour
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (byte) ((table[i] & 0xFF) >>> 1 & 0x77);
+        }
+        additions /= 2;
+    }
+
+    // Position of the counter among all counters, the byte holding it is index / 2
+    private int indexOf(int hash, int row) {
+        return row * width + ((hash * SEEDS[row]) >>> shift);
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+}
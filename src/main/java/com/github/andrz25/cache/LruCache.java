@@ -0,0 +1,335 @@
+package com.github.andrz25.cache;
+
+import com.github.andrz25.model.MyDoublyLinkedList;
+
+import java.util.HashMap;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A bounded cache that evicts the least recently used entries.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Recency List + Hash Index:</b> Entries are kept in a {@link MyDoublyLinkedList} ordered from
+ * most to least recently used, and a {@link HashMap} maps every key to the list handle of its entry.
+ * A hit moves the entry to the front and an eviction removes the tail, both without traversal.
+ * </li>
+ * <li>
+ * <b>Entry Count or Weight:</b> The capacity is a maximum total weight. With the default
+ * {@link Weigher} every entry weighs 1, so the capacity is an entry count.
+ * </li>
+ * <li>
+ * <b>Optional TinyLFU Admission:</b> With {@link Admission#TINY_LFU} a new entry only replaces the
+ * eviction victims if a {@link FrequencySketch} estimates it has been accessed more often recently
+ * than all of them together, since a heavy entry can displace several light ones. This keeps
+ * one-hit wonders from flushing popular entries out of the cache, which raises the hit rate on
+ * skewed (e.g. Zipfian) workloads at the cost of a few bytes of sketch per entry. Every access is
+ * counted once: a <code>put</code> right after a <code>get</code> missed the same key is the same
+ * access, as in a read-through cache, and is not counted again.
+ * </li>
+ * <li>
+ * <b>Not Thread-Safe:</b> Like the other structures in this project the cache is not synchronized.
+ * Callers sharing it between threads must guard it with a lock.
+ * </li>
+ * </ul>
+ *
+ * <h2>Complexity Summary</h2>
+ * <table border="1">
+ * <tr>
+ * <th>Operation</th>
+ * <th>Time</th>
+ * </tr>
+ * <tr>
+ * <td>get/put/remove</td>
+ * <td>O(1) expected, plus O(1) per evicted entry</td>
+ * </tr>
+ * </table>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class LruCache<K, V> {
+
+    /** Decides whether a new entry may evict existing entries when the cache is full. */
+    public enum Admission {
+        /** Every new entry is admitted, plain LRU. */
+        ALWAYS,
+        /** A new entry is admitted only if it is more frequent than the eviction victim. */
+        TINY_LFU
+    }
+
+    private static final class Entry<K, V> {
+        final K key;
+        V value;
+        long weight;
+
+        Entry(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private final long maximumWeight;
+    private final Weigher<K, V> weigher;
+    private final FrequencySketch<K> sketch;
+
+    private final Map<K, MyDoublyLinkedList.Handle<Entry<K, V>>> index;
+    private final MyDoublyLinkedList<Entry<K, V>> recency;
+    private long totalWeight;
+    // The key of the last get if it missed, so the put filling it is not counted as a second access
+    private K missedKey;
+    private boolean missed;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long rejectionCount;
+
+    /**
+     * Creates an LRU cache holding at most the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public LruCache(long maximumSize) {
+        this(maximumSize, (key, value) -> 1, Admission.ALWAYS);
+    }
+
+    /**
+     * Creates a cache bounded by total weight.
+     *
+     * @param maximumWeight the maximum total weight of the entries
+     * @param weigher computes the weight of each entry
+     * @param admission the admission policy used when the cache is full
+     */
+    public LruCache(long maximumWeight, Weigher<K, V> weigher, Admission admission) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("maximumWeight must not be negative");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.sketch = (admission == Admission.TINY_LFU) ? new FrequencySketch<>(maximumWeight) : null;
+        this.index = new HashMap<>();
+        this.recency = new MyDoublyLinkedList<>();
+    }
+
+    /**
+     * Returns the value cached for the key and marks it as most recently used.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if the key is not cached
+     */
+    public V get(K key) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+
+        MyDoublyLinkedList.Handle<Entry<K, V>> handle = index.get(key);
+        if (handle == null) {
+            missCount++;
+            missedKey = key;
+            missed = true;
+            return null;
+        }
+
+        missedKey = null;
+        missed = false;
+        hitCount++;
+        recency.moveToFront(handle);
+        return handle.get().value;
+    }
+
+    /**
+     * Returns the value cached for the key, loading and caching it on a miss.
+     *
+     * @param key the key to look up
+     * @param loader computes the value on a miss, a null result is not cached
+     * @return the cached or loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        missedKey = null;
+        missed = false;
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                store(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Caches the value for the key, evicting least recently used entries if
+     * the cache is over capacity. An entry heavier than the whole capacity,
+     * or one rejected by the admission policy, is not cached. A put of the
+     * key the previous get missed completes that access instead of counting
+     * as a new one for the admission policy.
+     *
+     * @param key the key of the entry
+     * @param value the value of the entry
+     */
+    public void put(K key, V value) {
+        boolean filling = missed && Objects.equals(key, missedKey);
+        missedKey = null;
+        missed = false;
+        if (sketch != null && !filling) {
+            sketch.increment(key);
+        }
+        store(key, value);
+    }
+
+    /**
+     * Removes the entry of the key.
+     *
+     * @param key the key of the entry
+     * @return the removed value, or null if the key was not cached
+     */
+    public V remove(K key) {
+        MyDoublyLinkedList.Handle<Entry<K, V>> handle = index.remove(key);
+        if (handle == null) {
+            return null;
+        }
+        Entry<K, V> entry = recency.remove(handle);
+        totalWeight -= entry.weight;
+        return entry.value;
+    }
+
+    /** Removes all entries, the counters are kept. */
+    public void clear() {
+        index.clear();
+        recency.clear();
+        totalWeight = 0;
+    }
+
+    // Insert or update an entry without recording an access in the sketch
+    private void store(K key, V value) {
+        long weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative");
+        }
+
+        MyDoublyLinkedList.Handle<Entry<K, V>> handle = index.get(key);
+        if (handle != null) {
+            Entry<K, V> entry = handle.get();
+            if (weight > maximumWeight) {
+                remove(key);
+                rejectionCount++;
+                return;
+            }
+            totalWeight += weight - entry.weight;
+            entry.value = value;
+            entry.weight = weight;
+            recency.moveToFront(handle);
+            evictUntilWithinCapacity();
+            return;
+        }
+
+        if (weight > maximumWeight || !admit(key, weight)) {
+            rejectionCount++;
+            return;
+        }
+
+        index.put(key, recency.linkFirst(new Entry<>(key, value, weight)));
+        totalWeight += weight;
+        evictUntilWithinCapacity();
+    }
+
+    // TinyLFU: only let a new key in if it is more popular than all the victims it would evict together
+    private boolean admit(K key, long weight) {
+        long excess = totalWeight + weight - maximumWeight;
+        if (sketch == null || excess <= 0) {
+            return true;
+        }
+        int candidate = sketch.frequency(key);
+        long victims = 0;
+        ListIterator<Entry<K, V>> lru = recency.listIterator(recency.size());
+        while (excess > 0 && lru.hasPrevious()) {
+            Entry<K, V> victim = lru.previous();
+            victims += sketch.frequency(victim.key);
+            if (victims >= candidate) {
+                return false;
+            }
+            excess -= victim.weight;
+        }
+        return true;
+    }
+
+    private void evictUntilWithinCapacity() {
+        while (totalWeight > maximumWeight) {
+            Entry<K, V> victim = recency.removeLast();
+            index.remove(victim.key);
+            totalWeight -= victim.weight;
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the total weight of the cached entries.
+     *
+     * @return the total weight
+     */
+    public long weight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached value.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached value.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within capacity.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of new entries that were not cached, either because
+     * the admission policy rejected them or because they were too heavy.
+     *
+     * @return the rejection count
+     */
+    public long rejectionCount() {
+        return rejectionCount;
+    }
+
+    /**
+     * Returns the ratio of hits to lookups.
+     *
+     * @return the hit rate, 1.0 if there were no lookups yet
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return (requests == 0) ? 1.0 : (double) hitCount / requests;
+    }
+}
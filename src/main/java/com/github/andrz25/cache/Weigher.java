@@ -0,0 +1,22 @@
+package com.github.andrz25.cache;
+
+/**
+ * Computes the weight of a cache entry, used when the capacity of an
+ * {@link LruCache} is expressed as a total weight instead of an entry count.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Computes the weight of an entry. The weight of an entry is computed
+     * once when it is stored and is not expected to change afterwards.
+     *
+     * @param key the key of the entry
+     * @param value the value of the entry
+     * @return the weight of the entry, must be at least 0
+     */
+    long weigh(K key, V value);
+}
@@ -0,0 +1,26 @@
+package com.github.andrz25.catalog;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A book of the catalog, identified by its ISBN.
+ *
+ * @param isbn the ISBN, unique within a catalog
+ * @param title the title
+ * @param author the author
+ * @param priceCents the price in cents
+ * @param published the publication date
+ */
+public record Book(String isbn, String title, String author, long priceCents, LocalDate published) {
+
+    public Book {
+        Objects.requireNonNull(isbn, "isbn");
+        Objects.requireNonNull(title, "title");
+        Objects.requireNonNull(author, "author");
+        Objects.requireNonNull(published, "published");
+        if (priceCents < 0) {
+            throw new IllegalArgumentException("priceCents must not be negative");
+        }
+    }
+}
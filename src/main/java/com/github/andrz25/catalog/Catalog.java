@@ -0,0 +1,433 @@
+package com.github.andrz25.catalog;
+
+import com.github.andrz25.model.MyBinarySearchTree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * An in-memory book catalog with a primary ISBN index and declared secondary indexes.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Hash Primary Index:</b> Books are stored in a {@link HashMap} by ISBN, so lookups by ISBN are
+ * O(1) expected. The primary index only answers equality predicates.
+ * </li>
+ * <li>
+ * <b>Tree Secondary Indexes:</b> Each secondary index is a {@link MyBinarySearchTree} of
+ * (key, ISBN) entries ordered by key and then ISBN, so books sharing a key are distinct entries and
+ * a range of keys is an in-order range of the tree, found in O(h) and read in O(1) per entry with
+ * {@link MyBinarySearchTree#rangeIterator}. The trees do not self-balance: keys arriving in sorted
+ * order (for example publication dates of a backlist loaded oldest first) make an index as deep as
+ * it is large.
+ * </li>
+ * <li>
+ * <b>Atomic Updates:</b> <code>put</code> computes every index key of the new book before changing
+ * anything, so a failing key function leaves the catalog as it was. Writers hold a write lock and
+ * queries a read lock, so a query never sees a book in some indexes but not in others.
+ * </li>
+ * <li>
+ * <b>Racing Planner:</b> A query scans one index and filters the books found with the other
+ * predicates. To pick the most selective index, the planner advances a range iterator per predicate
+ * in lockstep until the first one runs out. That iterator's predicate matches the fewest books, and
+ * planning costs at most the number of predicates times that smallest match count, whatever the
+ * other ranges hold. There are no statistics to maintain, and the choice is never wrong.
+ * </li>
+ * </ul>
+ *
+ * <h2>Complexity Summary</h2>
+ * <table border="1">
+ * <tr>
+ * <th>Operation</th>
+ * <th>Time</th>
+ * </tr>
+ * <tr>
+ * <td>get</td>
+ * <td>O(1) expected</td>
+ * </tr>
+ * <tr>
+ * <td>put/remove</td>
+ * <td>O(i * h) for i secondary indexes of height h</td>
+ * </tr>
+ * <tr>
+ * <td>find</td>
+ * <td>O(p * (h + m)) for p predicates whose most selective one matches m books</td>
+ * </tr>
+ * </table>
+ */
+public class Catalog {
+
+    /** The name of the primary index, usable in equality predicates. */
+    public static final String PRIMARY = "isbn";
+
+    // A secondary index entry, ordered by key and then ISBN; a null ISBN sorts after all others
+    private static final class Entry<K extends Comparable<? super K>> implements Comparable<Entry<K>> {
+        final K key;
+        final String isbn;
+
+        Entry(K key, String isbn) {
+            this.key = key;
+            this.isbn = isbn;
+        }
+
+        @Override
+        public int compareTo(Entry<K> other) {
+            int comparison = key.compareTo(other.key);
+            if (comparison != 0 || isbn == other.isbn) {
+                return comparison;
+            }
+            if (isbn == null) {
+                return 1;
+            }
+            if (other.isbn == null) {
+                return -1;
+            }
+            return isbn.compareTo(other.isbn);
+        }
+    }
+
+    private static final class Index<K extends Comparable<? super K>> {
+        final String name;
+        final Class<K> keyType;
+        final Function<Book, K> keyFunction;
+        final MyBinarySearchTree<Entry<K>> tree = new MyBinarySearchTree<>();
+
+        Index(String name, Class<K> keyType, Function<Book, K> keyFunction) {
+            this.name = name;
+            this.keyType = keyType;
+            this.keyFunction = keyFunction;
+        }
+
+        K key(Book book) {
+            K key = keyFunction.apply(book);
+            if (key == null) {
+                throw new NullPointerException("Index " + name + " has no key for " + book.isbn());
+            }
+            return key;
+        }
+
+        K bound(Object value) {
+            if (value != null && !keyType.isInstance(value)) {
+                throw new IllegalArgumentException("Index " + name + " has keys of type " + keyType.getSimpleName()
+                        + ", not " + value.getClass().getSimpleName());
+            }
+            return keyType.cast(value);
+        }
+
+        void insert(Object key, String isbn) {
+            tree.insert(new Entry<>(keyType.cast(key), isbn));
+        }
+
+        void delete(Book book) {
+            tree.delete(new Entry<>(key(book), book.isbn()));
+        }
+
+        // ISBNs of the entries with keys between from and to, inclusive
+        Iterator<String> scan(Object from, Object to) {
+            K low = bound(from);
+            K high = bound(to);
+            Iterator<Entry<K>> entries = tree.rangeIterator(
+                    (low == null) ? null : new Entry<>(low, ""),
+                    (high == null) ? null : new Entry<>(high, null));
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return entries.next().isbn;
+                }
+            };
+        }
+
+        boolean matches(Book book, Object from, Object to) {
+            K key = key(book);
+            return (from == null || key.compareTo(keyType.cast(from)) >= 0)
+                    && (to == null || key.compareTo(keyType.cast(to)) <= 0);
+        }
+    }
+
+    private final Map<String, Book> books = new HashMap<>();
+    private final Map<String, Index<?>> indexes = new LinkedHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    ///////////////// Indexes/////////////////
+
+    /**
+     * Declares a secondary index and fills it with the books already in the catalog
+     *
+     * @param name the index name used in queries
+     * @param keyType the class of the keys
+     * @param keyFunction computes the key of a book, must not return null
+     * @param <K> the type of the keys
+     * @throws IllegalArgumentException if the name is already taken
+     */
+    public <K extends Comparable<? super K>> void addIndex(String name, Class<K> keyType, Function<Book, K> keyFunction) {
+        Objects.requireNonNull(keyType, "keyType");
+        Objects.requireNonNull(keyFunction, "keyFunction");
+        lock.writeLock().lock();
+        try {
+            if (PRIMARY.equals(name) || indexes.containsKey(name)) {
+                throw new IllegalArgumentException("Index " + name + " already exists");
+            }
+            // The index is only published once full, so a failing key function leaves nothing behind
+            Index<K> index = new Index<>(name, keyType, keyFunction);
+            for (Book book : books.values()) {
+                index.insert(index.key(book), book.isbn());
+            }
+            indexes.put(name, index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the names of the secondary indexes, in declaration order
+     *
+     * @return the index names
+     */
+    public List<String> indexNames() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(indexes.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    ///////////////// Books/////////////////
+
+    /**
+     * Adds a book, or replaces the book with the same ISBN, updating every index
+     *
+     * @param book the book
+     * @return the replaced book, or null if the ISBN was new
+     */
+    public Book put(Book book) {
+        Objects.requireNonNull(book, "book");
+        lock.writeLock().lock();
+        try {
+            // Compute every key first so that a failing key function changes nothing
+            Object[] keys = new Object[indexes.size()];
+            int i = 0;
+            for (Index<?> index : indexes.values()) {
+                keys[i++] = index.key(book);
+            }
+
+            Book previous = books.put(book.isbn(), book);
+            i = 0;
+            for (Index<?> index : indexes.values()) {
+                if (previous != null) {
+                    index.delete(previous);
+                }
+                index.insert(keys[i++], book.isbn());
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a book from the catalog and every index
+     *
+     * @param isbn the ISBN of the book
+     * @return the removed book, or null if there was none
+     */
+    public Book remove(String isbn) {
+        lock.writeLock().lock();
+        try {
+            Book previous = books.remove(isbn);
+            if (previous != null) {
+                for (Index<?> index : indexes.values()) {
+                    index.delete(previous);
+                }
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Looks a book up by ISBN
+     *
+     * @param isbn the ISBN
+     * @return the book, or null if there is none
+     */
+    public Book get(String isbn) {
+        lock.readLock().lock();
+        try {
+            return books.get(isbn);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of books
+     *
+     * @return the number of books
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return books.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    ///////////////// Queries/////////////////
+
+    /**
+     * Finds the books matching every predicate of the query, using the most selective index
+     *
+     * @param query the query
+     * @return the matching books, ordered by the key of the index scanned
+     * @throws IllegalArgumentException if the query names an unknown index, uses a key of the
+     *                                  wrong type, or has a range predicate on the ISBN
+     */
+    public List<Book> find(Query query) {
+        lock.readLock().lock();
+        try {
+            return run(query, choose(query));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Chooses the index a query would scan, without running it
+     *
+     * @param query the query
+     * @return the plan
+     * @throws IllegalArgumentException as for {@link #find(Query)}
+     */
+    public Plan plan(Query query) {
+        lock.readLock().lock();
+        try {
+            return choose(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Runs the query scanning the index of the plan instead of the planner's choice, for comparisons
+    List<Book> execute(Query query, Plan plan) {
+        lock.readLock().lock();
+        try {
+            validate(query);
+            return run(query, plan);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Scans the index of the plan, which must have a predicate in the query, and filters with the others
+    private List<Book> run(Query query, Plan plan) {
+        Query.Predicate scanned = null;
+        for (Query.Predicate predicate : query.predicates()) {
+            if (predicate.index().equals(plan.index())) {
+                scanned = predicate;
+                break;
+            }
+        }
+        if (scanned == null) {
+            throw new IllegalArgumentException("Query has no predicate on " + plan.index());
+        }
+
+        if (PRIMARY.equals(scanned.index())) {
+            Book book = books.get(scanned.from());
+            return (book != null && matchesAll(book, query, scanned))
+                    ? Collections.singletonList(book) : Collections.emptyList();
+        }
+
+        List<Book> result = new ArrayList<>();
+        Iterator<String> isbns = index(scanned.index()).scan(scanned.from(), scanned.to());
+        while (isbns.hasNext()) {
+            Book book = books.get(isbns.next());
+            if (matchesAll(book, query, scanned)) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    // Races a scan per predicate, the first to run out matches the fewest books
+    private Plan choose(Query query) {
+        validate(query);
+        List<Query.Predicate> predicates = query.predicates();
+        for (Query.Predicate predicate : predicates) {
+            if (PRIMARY.equals(predicate.index())) {
+                return new Plan(PRIMARY, books.containsKey(predicate.from()) ? 1 : 0);
+            }
+        }
+
+        Iterator<?>[] scans = new Iterator<?>[predicates.size()];
+        for (int i = 0; i < scans.length; i++) {
+            Query.Predicate predicate = predicates.get(i);
+            scans[i] = index(predicate.index()).scan(predicate.from(), predicate.to());
+        }
+
+        for (long matches = 0; ; matches++) {
+            for (int i = 0; i < scans.length; i++) {
+                if (!scans[i].hasNext()) {
+                    return new Plan(predicates.get(i).index(), matches);
+                }
+                scans[i].next();
+            }
+        }
+    }
+
+    // Rejects unknown indexes, keys of the wrong type and ISBN ranges
+    private void validate(Query query) {
+        for (Query.Predicate predicate : query.predicates()) {
+            if (PRIMARY.equals(predicate.index())) {
+                if (!predicate.equality() || !(predicate.from() instanceof String)) {
+                    throw new IllegalArgumentException("The primary index only supports equality on an ISBN");
+                }
+            } else {
+                Index<?> index = index(predicate.index());
+                index.bound(predicate.from());
+                index.bound(predicate.to());
+            }
+        }
+    }
+
+    private Index<?> index(String name) {
+        Index<?> index = indexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("No index named " + name);
+        }
+        return index;
+    }
+
+    private boolean matchesAll(Book book, Query query, Query.Predicate scanned) {
+        for (Query.Predicate predicate : query.predicates()) {
+            if (predicate == scanned) {
+                continue;
+            }
+            if (PRIMARY.equals(predicate.index())) {
+                if (!book.isbn().equals(predicate.from())) {
+                    return false;
+                }
+            } else if (!index(predicate.index()).matches(book, predicate.from(), predicate.to())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
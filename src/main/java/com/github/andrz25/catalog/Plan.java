@@ -0,0 +1,11 @@
+package com.github.andrz25.catalog;
+
+/**
+ * The access path chosen for a {@link Query}.
+ *
+ * @param index the index scanned, {@link Catalog#PRIMARY} for an ISBN lookup
+ * @param matches the number of books the scanned predicate matches, before the other predicates
+ *                filter them
+ */
+public record Plan(String index, long matches) {
+}
@@ -0,0 +1,110 @@
+package com.github.andrz25.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A conjunction of equality and range predicates on catalog indexes, for example
+ * <code>Query.where("author", "Austen").andBetween("priceCents", 500L, 1500L)</code>.
+ * Queries are immutable, <code>and</code> returns a new query.
+ */
+public final class Query {
+
+    // A null bound is open, an equality predicate has from equal to to
+    record Predicate(String index, Comparable<?> from, Comparable<?> to, boolean equality) {
+
+        static Predicate equalTo(String index, Comparable<?> value) {
+            return new Predicate(index, value, value, true);
+        }
+
+        // Bounds that are equal, even as distinct objects, select a single key
+        static Predicate between(String index, Comparable<?> from, Comparable<?> to) {
+            return new Predicate(index, from, to, from != null && from.equals(to));
+        }
+    }
+
+    private final List<Predicate> predicates;
+
+    private Query(List<Predicate> predicates) {
+        this.predicates = Collections.unmodifiableList(predicates);
+    }
+
+    /**
+     * Creates a query for the books whose index key equals the value
+     *
+     * @param index the index name, or {@link Catalog#PRIMARY} for the ISBN
+     * @param value the key value
+     * @return the query
+     */
+    public static Query where(String index, Comparable<?> value) {
+        Objects.requireNonNull(value, "value");
+        return new Query(List.of()).with(Predicate.equalTo(index, value));
+    }
+
+    /**
+     * Creates a query for the books whose index key lies between the bounds. Equal bounds
+     * make an equality predicate.
+     *
+     * @param index the index name
+     * @param from the lowest key, inclusive, or null for no lower bound
+     * @param to the highest key, inclusive, or null for no upper bound
+     * @return the query
+     */
+    public static Query whereBetween(String index, Comparable<?> from, Comparable<?> to) {
+        return new Query(List.of()).with(Predicate.between(index, from, to));
+    }
+
+    /**
+     * Adds an equality predicate
+     *
+     * @param index the index name, or {@link Catalog#PRIMARY} for the ISBN
+     * @param value the key value
+     * @return a query with both this query's predicates and the new one
+     */
+    public Query and(String index, Comparable<?> value) {
+        Objects.requireNonNull(value, "value");
+        return with(Predicate.equalTo(index, value));
+    }
+
+    /**
+     * Adds a range predicate. Equal bounds make an equality predicate.
+     *
+     * @param index the index name
+     * @param from the lowest key, inclusive, or null for no lower bound
+     * @param to the highest key, inclusive, or null for no upper bound
+     * @return a query with both this query's predicates and the new one
+     */
+    public Query andBetween(String index, Comparable<?> from, Comparable<?> to) {
+        return with(Predicate.between(index, from, to));
+    }
+
+    List<Predicate> predicates() {
+        return predicates;
+    }
+
+    private Query with(Predicate predicate) {
+        Objects.requireNonNull(predicate.index(), "index");
+        List<Predicate> combined = new ArrayList<>(predicates);
+        combined.add(predicate);
+        return new Query(combined);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Predicate predicate : predicates) {
+            if (text.length() > 0) {
+                text.append(" and ");
+            }
+            if (predicate.equality()) {
+                text.append(predicate.index()).append(" = ").append(predicate.from());
+            } else {
+                text.append(predicate.index()).append(" in [").append(predicate.from())
+                        .append(", ").append(predicate.to()).append(']');
+            }
+        }
+        return text.toString();
+    }
+}
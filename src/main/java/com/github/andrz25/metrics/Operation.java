@@ -0,0 +1,23 @@
+package com.github.andrz25.metrics;
+
+/**
+ * The operations counted by {@link StructureMetrics} and recorded in workload traces.
+ *
+ * <p>Traces store the ordinal, so new constants must be added at the end.</p>
+ */
+public enum Operation {
+    INSERT,
+    CONTAINS,
+    DELETE,
+    ADD_FIRST,
+    ADD_LAST,
+    INSERT_AT,
+    REMOVE_FIRST,
+    REMOVE_LAST,
+    REMOVE_AT,
+    GET_AT,
+    INDEX_OF,
+    GET_FIRST,
+    GET_LAST,
+    CLEAR
+}
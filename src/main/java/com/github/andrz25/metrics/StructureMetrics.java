@@ -0,0 +1,247 @@
+package com.github.andrz25.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Operation counters of one data structure instance, exported through JMX.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Static-Final Switch:</b> Metrics exist only when the JVM is started with
+ * <code>-Dcom.github.andrz25.metrics=true</code>. Structures test {@link #ENABLED} before touching
+ * their metrics. The field is a static final constant, so when it is false the JIT compiler removes
+ * the instrumentation along with the local counters feeding it, and disabled metrics cost nothing
+ * after warm-up.
+ * </li>
+ * <li>
+ * <b>One Update per Call:</b> A structure counts comparisons and visited nodes in local variables
+ * and reports them once when the call ends, so enabled metrics cost a few uncontended
+ * {@link LongAdder} updates per call rather than one per node.
+ * </li>
+ * <li>
+ * <b>Safe to Read From Any Thread:</b> The counters are thread-safe, so a JMX client may read them
+ * while the structure is in use. A read is not an atomic snapshot of all counters together.
+ * </li>
+ * <li>
+ * <b>Height on Demand:</b> A tree passes its <code>height()</code> method, and {@link #getHeight()}
+ * calls it on every read. The O(n) walk happens only when a JMX client asks, which a poll every few
+ * seconds can afford, while keeping the height up to date on every call would need per-node heights
+ * or a subtree walk per deletion. The deepest insertion is also kept, as a high-water mark.
+ * </li>
+ * </ul>
+ */
+public final class StructureMetrics implements StructureMetricsMXBean {
+
+    /** Whether structures collect metrics, read once from the system property. */
+    public static final boolean ENABLED = Boolean.getBoolean("com.github.andrz25.metrics");
+
+    private static final String DOMAIN = "com.github.andrz25";
+    private static final int BUCKETS = Integer.SIZE + 1;
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final String type;
+    private final IntSupplier height;
+    private final LongAdder[] operations = adders(OPERATIONS.length);
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder visited = new LongAdder();
+    private final LongAdder[] histogram = adders(BUCKETS);
+    private final AtomicInteger maxInsertDepth = new AtomicInteger();
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private volatile ObjectName registeredName;
+
+    /**
+     * Creates the metrics of one structure that has no height
+     *
+     * @param type the kind of structure, used as the JMX type key
+     */
+    public StructureMetrics(String type) {
+        this(type, null);
+    }
+
+    /**
+     * Creates the metrics of one tree
+     *
+     * @param type the kind of structure, used as the JMX type key
+     * @param height computes the current height of the tree, called on every read of the height
+     */
+    public StructureMetrics(String type, IntSupplier height) {
+        this.type = type;
+        this.height = height;
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    ///////////////// Recording/////////////////
+
+    /**
+     * Records one finished call
+     *
+     * @param operation the operation called
+     * @param comparisonCount the element comparisons made by the call
+     * @param visitedCount the nodes visited by the call
+     */
+    public void record(Operation operation, int comparisonCount, int visitedCount) {
+        operations[operation.ordinal()].increment();
+        if (comparisonCount > 0) {
+            comparisons.add(comparisonCount);
+        }
+        if (visitedCount > 0) {
+            visited.add(visitedCount);
+        }
+        histogram[Integer.SIZE - Integer.numberOfLeadingZeros(visitedCount)].increment();
+    }
+
+    /**
+     * Records the depth of a newly inserted node
+     *
+     * @param depth the number of links between the root or head and the new node
+     */
+    public void recordInsertDepth(int depth) {
+        int max = maxInsertDepth.get();
+        while (depth > max && !maxInsertDepth.compareAndSet(max, depth)) {
+            max = maxInsertDepth.get();
+        }
+    }
+
+    /**
+     * Records a node being created for an insertion
+     *
+     * @param fromPool true if the node was recycled, false if it was allocated
+     */
+    public void recordNode(boolean fromPool) {
+        if (fromPool) {
+            recycled.increment();
+        } else {
+            allocated.increment();
+        }
+    }
+
+    ///////////////// JMX/////////////////
+
+    /**
+     * Registers these metrics with the platform MBean server
+     *
+     * @param name the name distinguishing this structure from others of its type
+     * @return the name the metrics are registered under
+     * @throws JMException if the name is invalid or already taken
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        registeredName = objectName;
+        return objectName;
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, if registered
+     *
+     * @throws JMException if the server refuses
+     */
+    public void unregister() throws JMException {
+        ObjectName objectName = registeredName;
+        if (objectName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            registeredName = null;
+        }
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Operation operation : OPERATIONS) {
+            long count = operations[operation.ordinal()].sum();
+            if (count > 0) {
+                counts.put(operation.name(), count);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public long getOperationCount() {
+        long total = 0;
+        for (LongAdder adder : operations) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getNodesVisited() {
+        return visited.sum();
+    }
+
+    @Override
+    public double getAverageNodesVisited() {
+        long calls = getOperationCount();
+        return (calls == 0) ? 0 : (double) visited.sum() / calls;
+    }
+
+    @Override
+    public long[] getVisitHistogram() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public int getHeight() {
+        return (height == null) ? -1 : height.getAsInt();
+    }
+
+    @Override
+    public int getMaxInsertDepth() {
+        return maxInsertDepth.get();
+    }
+
+    @Override
+    public long getNodesAllocated() {
+        return allocated.sum();
+    }
+
+    @Override
+    public long getNodesRecycled() {
+        return recycled.sum();
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder adder : operations) {
+            adder.reset();
+        }
+        for (LongAdder adder : histogram) {
+            adder.reset();
+        }
+        comparisons.reset();
+        visited.reset();
+        maxInsertDepth.set(0);
+        allocated.reset();
+        recycled.reset();
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.andrz25.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of a {@link StructureMetrics}, registered under
+ * <code>com.github.andrz25:type=&lt;structure&gt;,name=&lt;name&gt;</code>.
+ */
+public interface StructureMetricsMXBean {
+
+    /**
+     * Gets the number of calls of each operation called at least once
+     *
+     * @return the call count by operation name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Gets the number of calls of all operations
+     *
+     * @return the total call count
+     */
+    long getOperationCount();
+
+    /**
+     * Gets the number of element comparisons (compareTo or equals) of all calls
+     *
+     * @return the total comparison count
+     */
+    long getComparisons();
+
+    /**
+     * Gets the number of nodes visited by all calls
+     *
+     * @return the total visited node count
+     */
+    long getNodesVisited();
+
+    /**
+     * Gets the average number of nodes visited per call
+     *
+     * @return the average visited node count, 0 before the first call
+     */
+    double getAverageNodesVisited();
+
+    /**
+     * Gets how many calls visited how many nodes. Bucket 0 counts calls that visited
+     * no node and bucket i counts calls that visited from 2^(i-1) to 2^i - 1 nodes.
+     * This is a histogram of work per call, not of node depths: a tree search visits one
+     * node per level it descends, but a deletion also counts the walk to the successor,
+     * and a list counts the nodes walked from the nearer end.
+     *
+     * @return the call count of every bucket
+     */
+    long[] getVisitHistogram();
+
+    /**
+     * Gets the current height of a tree, computed on each read by walking every node, O(n).
+     * The walk does not lock the tree, so a read while another thread changes it can be off
+     * by the nodes being moved.
+     *
+     * @return the number of links on the longest path from the root, -1 for an empty tree
+     *         or a structure that is not a tree
+     */
+    int getHeight();
+
+    /**
+     * Gets the greatest depth at which a node was inserted since the last reset. This is a
+     * high-water mark that deletions never lower, see {@link #getHeight()} for the current height.
+     *
+     * @return the greatest insertion depth, 0 for a list
+     */
+    int getMaxInsertDepth();
+
+    /**
+     * Gets the number of nodes allocated with new
+     *
+     * @return the allocated node count
+     */
+    long getNodesAllocated();
+
+    /**
+     * Gets the number of nodes taken from a recycling pool instead of allocated
+     *
+     * @return the recycled node count
+     */
+    long getNodesRecycled();
+
+    /**
+     * Sets every counter back to zero
+     */
+    void reset();
+}
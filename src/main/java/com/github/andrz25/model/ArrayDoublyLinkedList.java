@@ -0,0 +1,320 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.api.DoublyLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of the Doubly Linked List interface backed by a growable circular array.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Ring Buffer:</b> The elements occupy <code>size</code> consecutive slots of the array starting at
+ * <code>head</code>, wrapping around the end. Adding or removing at either end only moves
+ * <code>head</code> or the size, so all six end operations are O(1) without allocating a node per
+ * element, and neighbouring elements sit next to each other in memory, which is much friendlier to
+ * the CPU cache than chasing node references.
+ * </li>
+ * <li>
+ * <b>Power-of-Two Capacity:</b> The capacity is always a power of two so a slot index wraps with a
+ * bit mask instead of a division. When full, the array doubles and the elements are copied in
+ * order, so growth is amortized O(1) per insertion. The array never shrinks.
+ * </li>
+ * <li>
+ * <b>True Random Access:</b> <code>getAt</code> computes the slot directly and is O(1), where the
+ * node-based lists must walk O(n).
+ * </li>
+ * <li>
+ * <b>Shifting the Shorter Side:</b> <code>insertAt</code> and <code>removeAt</code> move the elements
+ * between the index and the nearer end by one slot, so they cost O(min(index, n - index)) element
+ * moves. This is still O(n), and unlike a linked list no cursor or handle can make middle edits
+ * O(1), so lists edited mostly in the middle are better served by {@link MyDoublyLinkedList}.
+ * </li>
+ * </ul>
+ *
+ * <p>Null elements are not allowed, since null is returned for an empty list.</p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public class ArrayDoublyLinkedList<T> implements DoublyLinkedList<T>, Iterable<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head;
+    private int size;
+    private int modCount;
+
+    public ArrayDoublyLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list with room for the given number of elements before growing
+     *
+     * @param initialCapacity the initial capacity, rounded up to a power of two
+     */
+    public ArrayDoublyLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative");
+        }
+        if (initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("initialCapacity must not exceed " + MAX_CAPACITY);
+        }
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        elements = new Object[capacity];
+    }
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head, amortized O(1)
+    @Override
+    public void addFirst(T data) {
+        checkNotNull(data);
+        ensureSpace();
+        head = (head - 1) & mask();
+        elements[head] = data;
+        size++;
+        modCount++;
+    }
+
+    // Insert at the tail, amortized O(1)
+    @Override
+    public void addLast(T data) {
+        checkNotNull(data);
+        ensureSpace();
+        elements[slot(size)] = data;
+        size++;
+        modCount++;
+    }
+
+    // Insert at a given index, shifting the shorter side
+    @Override
+    public void insertAt(int index, T data) {
+        checkNotNull(data);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureSpace();
+        int mask = mask();
+
+        if (index < size / 2) {
+            // Move the first index elements one slot towards the front
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        } else {
+            // Move the elements from index on one slot towards the back
+            for (int i = size; i > index; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+        }
+        elements[(head + index) & mask] = data;
+        size++;
+        modCount++;
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head
+    @Override
+    public T removeFirst() {
+        if (size == 0) {
+            return null;
+        }
+        T data = elementAt(head);
+        elements[head] = null;
+        head = (head + 1) & mask();
+        size--;
+        modCount++;
+        return data;
+    }
+
+    // Remove from tail
+    @Override
+    public T removeLast() {
+        if (size == 0) {
+            return null;
+        }
+        int tail = slot(size - 1);
+        T data = elementAt(tail);
+        elements[tail] = null;
+        size--;
+        modCount++;
+        return data;
+    }
+
+    // Remove from a given index, shifting the shorter side
+    @Override
+    public T removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int mask = mask();
+        T data = elementAt(slot(index));
+
+        if (index < size / 2) {
+            // Move the elements before index one slot towards the back
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // Move the elements after index one slot towards the front
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+        return data;
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element
+    @Override
+    public T getFirst() {
+        return (size == 0) ? null : elementAt(head);
+    }
+
+    // Get tail element
+    @Override
+    public T getLast() {
+        return (size == 0) ? null : elementAt(slot(size - 1));
+    }
+
+    // Get element at index, O(1)
+    @Override
+    public T getAt(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return elementAt(slot(index));
+    }
+
+    ///////////////// Utility/////////////////
+
+    // Number of elements, O(1)
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Check if empty
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Remove all elements, clearing the used slots so they can be garbage collected
+    @Override
+    public void clear() {
+        int mask = mask();
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Gets the number of elements the list can hold before growing
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    ///////////////// Search/////////////////
+
+    // Check existence
+    @Override
+    public boolean contains(T data) {
+        return indexOf(data) >= 0;
+    }
+
+    // First index of element
+    @Override
+    public int indexOf(T data) {
+        int mask = mask();
+        for (int i = 0; i < size; i++) {
+            if (elements[(head + i) & mask].equals(data)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    ///////////////// Iteration/////////////////
+
+    // Iterate from head to tail, fails fast on structural changes
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(slot(next++));
+            }
+        };
+    }
+
+    ///////////////// Slots/////////////////
+
+    private static void checkNotNull(Object data) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    private int mask() {
+        return elements.length - 1;
+    }
+
+    private int slot(int index) {
+        return (head + index) & mask();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int slot) {
+        return (T) elements[slot];
+    }
+
+    // Double the array when full, copying the elements so that head is slot 0
+    private void ensureSpace() {
+        if (size < elements.length) {
+            return;
+        }
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("List is full");
+        }
+        Object[] grown = new Object[elements.length << 1];
+        int front = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, front);
+        System.arraycopy(elements, 0, grown, front, head);
+        elements = grown;
+        head = 0;
+    }
+}
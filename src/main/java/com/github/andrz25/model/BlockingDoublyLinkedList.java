@@ -0,0 +1,540 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.api.DoublyLinkedList;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, blocking Doubly Linked List for hand-off between producer and consumer threads.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Single Lock:</b> The elements live in a {@link MyDoublyLinkedList} guarded by one
+ * {@link ReentrantLock} with a <i>not empty</i> and a <i>not full</i> condition. Consumers block in
+ * <code>take</code> instead of busy-polling <code>removeFirst</code>, and producers block in
+ * <code>put</code> while the list is full, which gives back-pressure.
+ * </li>
+ * <li>
+ * <b>Virtual Thread Friendly:</b> Waiting only happens on {@link Condition}s of a
+ * {@link ReentrantLock}, never inside <code>synchronized</code>, so a blocked virtual thread
+ * unmounts from its carrier thread instead of pinning it.
+ * </li>
+ * <li>
+ * <b>Batching:</b> <code>drainTo</code> and <code>addAll</code> take the lock once per batch and
+ * signal waiting threads once, instead of once per element.
+ * </li>
+ * <li>
+ * <b>Non-Blocking Interface Methods:</b> The {@link DoublyLinkedList} methods never wait.
+ * <code>addFirst</code>, <code>addLast</code> and <code>insertAt</code> throw
+ * {@link IllegalStateException} when the list is full, and the remove methods return null when it
+ * is empty.
+ * </li>
+ * </ul>
+ *
+ * <p>Null elements are not allowed, since null is returned for an empty list.</p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public class BlockingDoublyLinkedList<T> implements DoublyLinkedList<T> {
+
+    private final MyDoublyLinkedList<T> list = new MyDoublyLinkedList<>();
+    private final int capacity;
+    private int count;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Creates a list holding at most the given number of elements.
+     *
+     * @param capacity the maximum number of elements
+     */
+    public BlockingDoublyLinkedList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head, fails if full
+    @Override
+    public void addFirst(T data) {
+        checkNotNull(data);
+        lock.lock();
+        try {
+            checkNotFull();
+            list.addFirst(data);
+            added();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Insert at the tail, fails if full
+    @Override
+    public void addLast(T data) {
+        checkNotNull(data);
+        lock.lock();
+        try {
+            checkNotFull();
+            list.addLast(data);
+            added();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Insert at a given index, fails if full
+    @Override
+    public void insertAt(int index, T data) {
+        checkNotNull(data);
+        lock.lock();
+        try {
+            if (index < 0 || index > count) {
+                throw new IndexOutOfBoundsException();
+            }
+            checkNotFull();
+            list.insertAt(index, data);
+            added();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ///////////////// Blocking Insertion/////////////////
+
+    /**
+     * Inserts an element at the head, waiting for space if the list is full
+     *
+     * @param data the data contained inside the node
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void putFirst(T data) throws InterruptedException {
+        checkNotNull(data);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                notFull.await();
+            }
+            list.addFirst(data);
+            added();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element at the tail, waiting for space if the list is full
+     *
+     * @param data the data contained inside the node
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void putLast(T data) throws InterruptedException {
+        checkNotNull(data);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                notFull.await();
+            }
+            list.addLast(data);
+            added();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element at the head, waiting up to the timeout for space
+     *
+     * @param data the data contained inside the node
+     * @param timeout how long to wait
+     * @param unit the unit of the timeout
+     * @return true if inserted, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offerFirst(T data, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(data);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            list.addFirst(data);
+            added();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts an element at the tail, waiting up to the timeout for space
+     *
+     * @param data the data contained inside the node
+     * @param timeout how long to wait
+     * @param unit the unit of the timeout
+     * @return true if inserted, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offerLast(T data, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(data);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            list.addLast(data);
+            added();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends every element of the collection at the tail, holding the lock
+     * for the whole batch. If the list fills up, consumers are signalled and
+     * the call waits for space before continuing.
+     *
+     * @param elements the elements to append in iteration order
+     * @throws InterruptedException if interrupted while waiting, elements appended so far stay in the list
+     */
+    public void addAll(Collection<? extends T> elements) throws InterruptedException {
+        for (T data : elements) {
+            checkNotNull(data);
+        }
+        lock.lockInterruptibly();
+        try {
+            int pending = 0;
+            try {
+                for (T data : elements) {
+                    while (count == capacity) {
+                        if (pending > 0) {
+                            notEmpty.signalAll();
+                            pending = 0;
+                        }
+                        notFull.await();
+                    }
+                    list.addLast(data);
+                    count++;
+                    pending++;
+                }
+            } finally {
+                if (pending > 0) {
+                    notEmpty.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head, null if empty
+    @Override
+    public T removeFirst() {
+        lock.lock();
+        try {
+            return (count == 0) ? null : removed(list.removeFirst());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Remove from tail, null if empty
+    @Override
+    public T removeLast() {
+        lock.lock();
+        try {
+            return (count == 0) ? null : removed(list.removeLast());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Remove from a given index
+    @Override
+    public T removeAt(int index) {
+        lock.lock();
+        try {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException();
+            }
+            return removed(list.removeAt(index));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ///////////////// Blocking Deletion/////////////////
+
+    /**
+     * Removes the head element, waiting for one if the list is empty
+     *
+     * @return the removed head element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeFirst() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return removed(list.removeFirst());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the tail element, waiting for one if the list is empty
+     *
+     * @return the removed tail element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeLast() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return removed(list.removeLast());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the head element, waiting up to the timeout for one
+     *
+     * @param timeout how long to wait
+     * @param unit the unit of the timeout
+     * @return the removed head element, or null if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return removed(list.removeFirst());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the tail element, waiting up to the timeout for one
+     *
+     * @param timeout how long to wait
+     * @param unit the unit of the timeout
+     * @return the removed tail element, or null if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return removed(list.removeLast());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to max elements from the head into the collection, holding
+     * the lock once for the whole batch. Does not wait for elements.
+     *
+     * @param target the collection receiving the elements
+     * @param max the maximum number of elements to move
+     * @return the number of elements moved
+     * @throws RuntimeException whatever target.add throws, in which case the elements moved
+     * before it stay in the target and the rejected element stays at the head
+     */
+    public int drainTo(Collection<? super T> target, int max) {
+        if (target == null) {
+            throw new NullPointerException();
+        }
+        if (max <= 0) {
+            return 0;
+        }
+        lock.lock();
+        int moved = 0;
+        try {
+            int n = Math.min(max, count);
+            // Each element leaves the list only once the target accepted it
+            while (moved < n) {
+                target.add(list.getFirst());
+                list.removeFirst();
+                moved++;
+            }
+            return moved;
+        } finally {
+            // Account for what was moved even if the target threw partway
+            count -= moved;
+            if (moved > 0) {
+                notFull.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element
+    @Override
+    public T getFirst() {
+        lock.lock();
+        try {
+            return list.getFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Get tail element
+    @Override
+    public T getLast() {
+        lock.lock();
+        try {
+            return list.getLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Get element at index
+    @Override
+    public T getAt(int index) {
+        lock.lock();
+        try {
+            return list.getAt(index);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ///////////////// Utility/////////////////
+
+    // Number of elements, O(1)
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finds how many more elements can be inserted without blocking
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Check if empty
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Remove all elements
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            list.clear();
+            count = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ///////////////// Search/////////////////
+
+    // Check existence
+    @Override
+    public boolean contains(T data) {
+        lock.lock();
+        try {
+            return list.contains(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // First index of element
+    @Override
+    public int indexOf(T data) {
+        lock.lock();
+        try {
+            return list.indexOf(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ///////////////// Helpers/////////////////
+
+    private static void checkNotNull(Object data) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    private void checkNotFull() {
+        if (count == capacity) {
+            throw new IllegalStateException("List is full");
+        }
+    }
+
+    // Called with the lock held after inserting one element
+    private void added() {
+        count++;
+        notEmpty.signal();
+    }
+
+    // Called with the lock held after removing one element
+    private T removed(T data) {
+        count--;
+        notFull.signal();
+        return data;
+    }
+}
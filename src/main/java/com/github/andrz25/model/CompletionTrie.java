@@ -0,0 +1,396 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.cache.LruCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A radix tree answering "the k highest scoring strings starting with a prefix", for search box
+ * autocompletion.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Radix Tree Over a Sorted Array:</b> The strings are sorted once and every node stands for the
+ * strings sharing a prefix. A node only stores how long that prefix is and the index of one string
+ * having it, so edge labels are read from the strings themselves instead of being copied. Chains
+ * of single-child nodes are merged, so there are fewer nodes than strings plus branch points.
+ * Building recurses once per node on a path, so at most as deep as the longest string.
+ * </li>
+ * <li>
+ * <b>Parallel Arrays Instead of Node Objects:</b> Nodes are slot indexes into five <code>int</code>
+ * arrays (depth, best string, terminal string, first child, next sibling), 20 bytes per node with
+ * no object headers. Together with the sorted string array and the scores, the index costs a small
+ * constant number of bytes per string more than the sorted array alone.
+ * </li>
+ * <li>
+ * <b>Best-First Top-k:</b> Each node knows the best scoring string below it, and children are kept
+ * in descending order of that score. A query walks down the prefix in O(|p|), then pops nodes from a
+ * max-heap. A popped node only pushes its first child and its next sibling, so the heap stays small
+ * and each result costs O(d log(k d)), where d is the number of radix nodes between the prefix and
+ * the result (usually a few). A strict O(|p| + k) would need the top k stored at every node, which
+ * would multiply the memory.
+ * </li>
+ * <li>
+ * <b>Immutable with a Prefix Cache:</b> The tree is built once from all strings and never changes,
+ * so it is safe to share between threads, and the results of popular prefixes can be kept in an
+ * {@link LruCache} without ever going stale. Changing the strings means building a new tree, the
+ * way a search engine replaces an index segment.
+ * </li>
+ * </ul>
+ *
+ * <h2>Complexity Summary</h2>
+ * <table border="1">
+ * <tr>
+ * <th>Operation</th>
+ * <th>Time</th>
+ * </tr>
+ * <tr>
+ * <td>build</td>
+ * <td>O(n log n) string comparisons to sort, O(total length) for the tree</td>
+ * </tr>
+ * <tr>
+ * <td>complete (cache miss)</td>
+ * <td>O(|p| + k d log(k d)), d radix nodes per result</td>
+ * </tr>
+ * <tr>
+ * <td>complete (cache hit)</td>
+ * <td>O(|p|) to hash the prefix</td>
+ * </tr>
+ * </table>
+ */
+public class CompletionTrie {
+    private static final int NIL = -1;
+
+    // Results cached per prefix, queries for more than this many bypass the cache
+    private static final int CACHED_RESULTS = 10;
+
+    private final String[] strings;
+    private final int[] scores;
+
+    private int[] depth;
+    private int[] best;
+    private int[] terminal;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int nodes;
+
+    private final LruCache<String, List<String>> cache;
+
+    /**
+     * Builds the tree without a prefix cache
+     *
+     * @param strings the strings to complete, duplicates keep their highest score
+     * @param scores the score of each string, higher scores are completed first
+     */
+    public CompletionTrie(String[] strings, int[] scores) {
+        this(strings, scores, 0);
+    }
+
+    /**
+     * Builds the tree
+     *
+     * @param strings the strings to complete, duplicates keep their highest score
+     * @param scores the score of each string, higher scores are completed first
+     * @param cacheCapacity the number of prefixes whose completions are cached, 0 for none
+     */
+    public CompletionTrie(String[] strings, int[] scores, int cacheCapacity) {
+        if (strings.length != scores.length) {
+            throw new IllegalArgumentException("strings and scores must have the same length");
+        }
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("cacheCapacity must not be negative");
+        }
+
+        // Sort, then merge duplicates keeping the best score
+        Integer[] order = new Integer[strings.length];
+        for (int i = 0; i < order.length; i++) {
+            if (strings[i] == null) {
+                throw new NullPointerException("strings[" + i + "]");
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> strings[i]));
+        String[] sorted = new String[order.length];
+        int[] sortedScores = new int[order.length];
+        int n = 0;
+        for (Integer i : order) {
+            if (n > 0 && sorted[n - 1].equals(strings[i])) {
+                sortedScores[n - 1] = Math.max(sortedScores[n - 1], scores[i]);
+            } else {
+                sorted[n] = strings[i];
+                sortedScores[n++] = scores[i];
+            }
+        }
+        this.strings = Arrays.copyOf(sorted, n);
+        this.scores = Arrays.copyOf(sortedScores, n);
+
+        int capacity = Math.max(2 * n, 1);
+        depth = new int[capacity];
+        best = new int[capacity];
+        terminal = new int[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        build(0, n, 0);
+        trim();
+
+        this.cache = (cacheCapacity > 0) ? new LruCache<>(cacheCapacity) : null;
+    }
+
+    ///////////////// Queries/////////////////
+
+    /**
+     * Returns the highest scoring strings starting with the prefix
+     *
+     * @param prefix the prefix typed so far, may be empty
+     * @param k the maximum number of completions
+     * @return up to k strings in descending score order, ties in lexicographic order, unmodifiable
+     */
+    public List<String> complete(String prefix, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative");
+        }
+        if (cache == null || k > CACHED_RESULTS) {
+            return search(prefix, k);
+        }
+
+        List<String> cached;
+        synchronized (cache) {
+            cached = cache.get(prefix);
+        }
+        if (cached == null) {
+            cached = search(prefix, CACHED_RESULTS);
+            synchronized (cache) {
+                cache.put(prefix, cached);
+            }
+        }
+        return (cached.size() <= k) ? cached : cached.subList(0, k);
+    }
+
+    /**
+     * Gets the number of distinct strings
+     *
+     * @return the number of strings
+     */
+    public int size() {
+        return strings.length;
+    }
+
+    /**
+     * Gets the number of radix nodes, at most twice the number of strings
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return nodes;
+    }
+
+    /**
+     * Gets the fraction of cached lookups answered from the cache
+     *
+     * @return the hit rate, 0 without a cache
+     */
+    public double cacheHitRate() {
+        if (cache == null) {
+            return 0;
+        }
+        synchronized (cache) {
+            return cache.hitRate();
+        }
+    }
+
+    // Best-first search below the node of the prefix
+    private List<String> search(String prefix, int k) {
+        int node = find(prefix);
+        if (node == NIL || k == 0) {
+            return Collections.emptyList();
+        }
+
+        // Candidates are nodes or, as the complement of their index, strings ending at a popped node
+        Heap heap = new Heap();
+        heap.push(key(best[node]), node);
+
+        List<String> result = new ArrayList<>(Math.min(k, 16));
+        while (heap.size > 0 && result.size() < k) {
+            int id = heap.pop();
+            if (id < 0) {
+                result.add(strings[~id]);
+                continue;
+            }
+            // Siblings are in descending order, so the next one is only needed once this one is out
+            if (terminal[id] != NIL) {
+                heap.push(key(terminal[id]), ~terminal[id]);
+            }
+            if (firstChild[id] != NIL) {
+                heap.push(key(best[firstChild[id]]), firstChild[id]);
+            }
+            if (id != node && nextSibling[id] != NIL) {
+                heap.push(key(best[nextSibling[id]]), nextSibling[id]);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    // The highest node whose strings all start with the prefix, or NIL if none does
+    private int find(String prefix) {
+        if (nodes == 0) {
+            return NIL;
+        }
+        int node = 0;
+        int matched = 0;
+        while (true) {
+            // Compare the rest of the node's label with the prefix
+            String label = strings[best[node]];
+            int end = Math.min(depth[node], prefix.length());
+            for (; matched < end; matched++) {
+                if (label.charAt(matched) != prefix.charAt(matched)) {
+                    return NIL;
+                }
+            }
+            if (matched == prefix.length()) {
+                return node;
+            }
+
+            char next = prefix.charAt(matched);
+            int child = firstChild[node];
+            while (child != NIL && strings[best[child]].charAt(matched) != next) {
+                child = nextSibling[child];
+            }
+            if (child == NIL) {
+                return NIL;
+            }
+            node = child;
+        }
+    }
+
+    ///////////////// Building/////////////////
+
+    // Creates the node for the sorted strings [from, to) that share their first length characters
+    private int build(int from, int to, int length) {
+        if (from >= to) {
+            return NIL;
+        }
+        // The strings are sorted, so the prefix shared by all of them is the one of the first and last
+        String first = strings[from];
+        String last = strings[to - 1];
+        int shared = length;
+        int limit = Math.min(first.length(), last.length());
+        while (shared < limit && first.charAt(shared) == last.charAt(shared)) {
+            shared++;
+        }
+
+        int node = nodes++;
+        depth[node] = shared;
+        terminal[node] = NIL;
+        firstChild[node] = NIL;
+        nextSibling[node] = NIL;
+
+        int start = from;
+        if (first.length() == shared) {
+            // A string ending here sorts before every longer one
+            terminal[node] = from;
+            start++;
+        }
+
+        // One child per distinct next character, then order them by their best score
+        List<Integer> children = new ArrayList<>();
+        while (start < to) {
+            char c = strings[start].charAt(shared);
+            int end = start + 1;
+            while (end < to && strings[end].charAt(shared) == c) {
+                end++;
+            }
+            children.add(build(start, end, shared + 1));
+            start = end;
+        }
+        children.sort(Comparator.comparingInt((Integer child) -> scores[best[child]]).reversed()
+                .thenComparingInt(child -> best[child]));
+
+        int bestString = terminal[node];
+        int previous = NIL;
+        for (int child : children) {
+            if (previous == NIL) {
+                firstChild[node] = child;
+            } else {
+                nextSibling[previous] = child;
+            }
+            previous = child;
+            if (bestString == NIL || better(best[child], bestString)) {
+                bestString = best[child];
+            }
+        }
+        best[node] = bestString;
+        return node;
+    }
+
+    // Higher score first, then lexicographic order, which is the order of the sorted indexes
+    private boolean better(int a, int b) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    private void trim() {
+        depth = Arrays.copyOf(depth, nodes);
+        best = Arrays.copyOf(best, nodes);
+        terminal = Arrays.copyOf(terminal, nodes);
+        firstChild = Arrays.copyOf(firstChild, nodes);
+        nextSibling = Arrays.copyOf(nextSibling, nodes);
+    }
+
+    ///////////////// Heap/////////////////
+
+    // Orders by score and then by smaller string index, unique for the candidates in a heap
+    private long key(int string) {
+        return (long) scores[string] << 32 | (0xFFFFFFFFL & ~string);
+    }
+
+    // A binary max-heap of candidate ids by key
+    private static final class Heap {
+        long[] keys = new long[16];
+        int[] ids = new int[16];
+        int size;
+
+        void push(long key, int id) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            int i = size++;
+            while (i > 0 && keys[(i - 1) / 2] < key) {
+                keys[i] = keys[(i - 1) / 2];
+                ids[i] = ids[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            keys[i] = key;
+            ids[i] = id;
+        }
+
+        int pop() {
+            int top = ids[0];
+            long key = keys[--size];
+            int id = ids[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] > keys[child]) {
+                    child++;
+                }
+                if (keys[child] <= key) {
+                    break;
+                }
+                keys[i] = keys[child];
+                ids[i] = ids[child];
+                i = child;
+            }
+            keys[i] = key;
+            ids[i] = id;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.api.DoublyLinkedList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A thread-safe, lock-free Doubly Linked List for deque-style use.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Non-Blocking End Operations:</b> <code>addFirst</code>, <code>addLast</code>,
+ * <code>removeFirst</code>, <code>removeLast</code>, <code>getFirst</code> and <code>getLast</code>
+ * follow Maged Michael's CAS-based deque. Both ends and a status live in one immutable anchor
+ * that is replaced with a single compare-and-set. A push swings the anchor first and links the
+ * old end node to the new one afterwards; any thread that finds the anchor in that unstable state
+ * finishes the link itself, so a stalled thread never blocks the others.
+ * </li>
+ * <li>
+ * <b>No ABA:</b> A fresh anchor object is allocated for every change and nodes are never reused,
+ * so a reference comparison is enough and no version tags are needed.
+ * </li>
+ * <li>
+ * <b>Unlinked Removals:</b> A removal cuts the new end node's link to the removed node with a CAS
+ * once the anchor has moved. Otherwise the live end would keep a chain back through every node
+ * ever removed, and a deque used as a queue would grow without bound while holding only a few
+ * elements. The CAS fails harmlessly when a push has already linked a newer node there. The removed
+ * node keeps its own links, so a walk that is standing on it still finds the live nodes.
+ * </li>
+ * <li>
+ * <b>Weakly Consistent Positional Methods:</b> <code>size</code>, <code>getAt</code>,
+ * <code>contains</code> and <code>indexOf</code> walk the list from a snapshot of the anchor.
+ * They never fail or block, but may or may not reflect changes made concurrently with the walk.
+ * <code>size</code> is O(n) and should not be used for flow control.
+ * </li>
+ * <li>
+ * <b>No Middle Updates:</b> <code>insertAt</code> and <code>removeAt</code> cannot be done with the
+ * single-anchor algorithm and always throw {@link UnsupportedOperationException}. They are optional
+ * operations of {@link DoublyLinkedList}, so code that inserts or removes by index needs another
+ * implementation, e.g. a {@link MyDoublyLinkedList} behind a lock.
+ * </li>
+ * </ul>
+ *
+ * <p>Null elements are not allowed, since null is returned for an empty list.</p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public class ConcurrentDoublyLinkedList<T> implements DoublyLinkedList<T> {
+
+    private static final int STABLE = 0;
+    private static final int RPUSH = 1;
+    private static final int LPUSH = 2;
+
+    private static final class DequeNode<T> {
+        final T data;
+        volatile DequeNode<T> left;
+        volatile DequeNode<T> right;
+
+        DequeNode(T data) {
+            this.data = data;
+        }
+    }
+
+    private static final class Anchor<T> {
+        final DequeNode<T> left;
+        final DequeNode<T> right;
+        final int status;
+
+        Anchor(DequeNode<T> left, DequeNode<T> right, int status) {
+            this.left = left;
+            this.right = right;
+            this.status = status;
+        }
+    }
+
+    private static final VarHandle ANCHOR;
+    private static final VarHandle LEFT;
+    private static final VarHandle RIGHT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ANCHOR = lookup.findVarHandle(ConcurrentDoublyLinkedList.class, "anchor", Anchor.class);
+            LEFT = lookup.findVarHandle(DequeNode.class, "left", DequeNode.class);
+            RIGHT = lookup.findVarHandle(DequeNode.class, "right", DequeNode.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Anchor<T> empty = new Anchor<>(null, null, STABLE);
+    private volatile Anchor<T> anchor = empty;
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head
+    @Override
+    public void addFirst(T data) {
+        DequeNode<T> node = newNode(data);
+
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.left == null) {
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(node, node, STABLE))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                node.right = a.left;
+                Anchor<T> pushed = new Anchor<>(node, a.right, LPUSH);
+                if (ANCHOR.compareAndSet(this, a, pushed)) {
+                    stabilizeLeft(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    // Insert at the tail
+    @Override
+    public void addLast(T data) {
+        DequeNode<T> node = newNode(data);
+
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.right == null) {
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(node, node, STABLE))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                node.left = a.right;
+                Anchor<T> pushed = new Anchor<>(a.left, node, RPUSH);
+                if (ANCHOR.compareAndSet(this, a, pushed)) {
+                    stabilizeRight(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Not supported, the lock-free algorithm only updates the ends
+     *
+     * @param index ignored
+     * @param data ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void insertAt(int index, T data) {
+        throw new UnsupportedOperationException("insertAt is not supported by the lock-free list");
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head
+    @Override
+    public T removeFirst() {
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.left == null) {
+                return null;
+            }
+            if (a.left == a.right) {
+                if (ANCHOR.compareAndSet(this, a, empty)) {
+                    return a.left.data;
+                }
+            } else if (a.status == STABLE) {
+                DequeNode<T> next = a.left.right;
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(next, a.right, STABLE))) {
+                    unlinkLeft(next, a.left);
+                    return a.left.data;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    // Remove from tail
+    @Override
+    public T removeLast() {
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.right == null) {
+                return null;
+            }
+            if (a.left == a.right) {
+                if (ANCHOR.compareAndSet(this, a, empty)) {
+                    return a.right.data;
+                }
+            } else if (a.status == STABLE) {
+                DequeNode<T> prev = a.right.left;
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(a.left, prev, STABLE))) {
+                    unlinkRight(prev, a.right);
+                    return a.right.data;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Not supported, the lock-free algorithm only updates the ends
+     *
+     * @param index ignored
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public T removeAt(int index) {
+        throw new UnsupportedOperationException("removeAt is not supported by the lock-free list");
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element
+    @Override
+    public T getFirst() {
+        DequeNode<T> left = anchor.left;
+        return (left == null) ? null : left.data;
+    }
+
+    // Get tail element
+    @Override
+    public T getLast() {
+        DequeNode<T> right = anchor.right;
+        return (right == null) ? null : right.data;
+    }
+
+    // Get element at index, weakly consistent
+    @Override
+    public T getAt(int index) {
+        Anchor<T> a = anchor;
+        int i = 0;
+        for (DequeNode<T> cur = a.left; cur != null; cur = successor(a, cur)) {
+            if (i == index) {
+                return cur.data;
+            }
+            i++;
+        }
+        return null;
+    }
+
+    ///////////////// Utility/////////////////
+
+    // Number of elements, weakly consistent and O(n)
+    @Override
+    public int size() {
+        Anchor<T> a = anchor;
+        int count = 0;
+        for (DequeNode<T> cur = a.left; cur != null; cur = successor(a, cur)) {
+            count++;
+        }
+        return count;
+    }
+
+    // Check if empty
+    @Override
+    public boolean isEmpty() {
+        return anchor.left == null;
+    }
+
+    // Remove all elements atomically
+    @Override
+    public void clear() {
+        anchor = empty;
+    }
+
+    ///////////////// Search/////////////////
+
+    // Check existence, weakly consistent
+    @Override
+    public boolean contains(T data) {
+        return indexOf(data) >= 0;
+    }
+
+    // First index of element, weakly consistent
+    @Override
+    public int indexOf(T data) {
+        Anchor<T> a = anchor;
+        int index = 0;
+        for (DequeNode<T> cur = a.left; cur != null; cur = successor(a, cur)) {
+            if (cur.data.equals(data)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    ///////////////// Stabilization/////////////////
+
+    private DequeNode<T> newNode(T data) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+        return new DequeNode<>(data);
+    }
+
+    // Next node of a walk that started from snapshot a, null once past a.right
+    private DequeNode<T> successor(Anchor<T> a, DequeNode<T> cur) {
+        if (cur == a.right) {
+            return null;
+        }
+        // The old tail may not be linked to the new one yet while a push is pending
+        if (a.status == RPUSH && cur == a.right.left) {
+            return a.right;
+        }
+        return cur.right;
+    }
+
+    // Drop the new head's link to the removed node, which would keep every node removed before it reachable
+    private static <T> void unlinkLeft(DequeNode<T> head, DequeNode<T> removed) {
+        // Fails harmlessly if a push has already linked a newer head
+        LEFT.compareAndSet(head, removed, null);
+    }
+
+    // Drop the new tail's link to the removed node
+    private static <T> void unlinkRight(DequeNode<T> tail, DequeNode<T> removed) {
+        RIGHT.compareAndSet(tail, removed, null);
+    }
+
+    private void stabilize(Anchor<T> a) {
+        if (a.status == RPUSH) {
+            stabilizeRight(a);
+        } else {
+            stabilizeLeft(a);
+        }
+    }
+
+    // Link the old tail to the new tail, then mark the anchor stable
+    private void stabilizeRight(Anchor<T> a) {
+        DequeNode<T> prev = a.right.left;
+        if (anchor != a) {
+            return;
+        }
+        DequeNode<T> prevNext = prev.right;
+        if (prevNext != a.right) {
+            if (anchor != a) {
+                return;
+            }
+            if (!RIGHT.compareAndSet(prev, prevNext, a.right)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, a, new Anchor<>(a.left, a.right, STABLE));
+    }
+
+    // Link the old head to the new head, then mark the anchor stable
+    private void stabilizeLeft(Anchor<T> a) {
+        DequeNode<T> next = a.left.right;
+        if (anchor != a) {
+            return;
+        }
+        DequeNode<T> nextPrev = next.left;
+        if (nextPrev != a.left) {
+            if (anchor != a) {
+                return;
+            }
+            if (!LEFT.compareAndSet(next, nextPrev, a.left)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, a, new Anchor<>(a.left, a.right, STABLE));
+    }
+}
@@ -0,0 +1,276 @@
+package com.github.andrz25.model;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A Doubly Linked List of primitive <code>int</code> values.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Parallel Arrays Instead of Nodes:</b> A node is a slot index. Its value and its prev/next
+ * links live in three parallel <code>int</code> arrays, so an element costs 12 bytes instead of a
+ * boxed {@link Integer} plus a {@link MyDoublyLinkedList} node object, and the garbage collector
+ * only has three arrays to trace no matter how long the list is.
+ * </li>
+ * <li>
+ * <b>Free-List:</b> Removed slots are chained through the <code>next</code> array and reused by
+ * the next insertion, so once the arrays are large enough, add and remove allocate nothing.
+ * The arrays grow by half their size when full and never shrink.
+ * </li>
+ * <li>
+ * <b>Same Operations as {@link com.github.andrz25.api.DoublyLinkedList}:</b> The interface cannot
+ * be implemented without boxing, so the methods are mirrored with <code>int</code> values.
+ * Since there is no null, removing or reading from an empty list throws
+ * {@link NoSuchElementException} and an out of range index throws
+ * {@link IndexOutOfBoundsException}.
+ * </li>
+ * </ul>
+ *
+ * @see LongDoublyLinkedList
+ */
+public class IntDoublyLinkedList {
+    private static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int[] prev;
+    private int[] next;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+
+    // Slots below used have been handed out at least once, free ones are chained from freeHead
+    private int used;
+    private int freeHead = NIL;
+
+    public IntDoublyLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a list with room for the given number of elements before growing
+     *
+     * @param initialCapacity the initial capacity
+     */
+    public IntDoublyLinkedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative");
+        }
+        values = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        next = new int[initialCapacity];
+    }
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head
+    public void addFirst(int value) {
+        int slot = allocate(value);
+        prev[slot] = NIL;
+        next[slot] = head;
+
+        if (head != NIL) {
+            prev[head] = slot;
+        } else {
+            tail = slot;
+        }
+        head = slot;
+        size++;
+    }
+
+    // Insert at the tail
+    public void addLast(int value) {
+        int slot = allocate(value);
+        next[slot] = NIL;
+        prev[slot] = tail;
+
+        if (tail != NIL) {
+            next[tail] = slot;
+        } else {
+            head = slot;
+        }
+        tail = slot;
+        size++;
+    }
+
+    // Insert at a given index
+    public void insertAt(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size) {
+            addLast(value);
+            return;
+        }
+
+        int succ = slotAt(index);
+        int pred = prev[succ];
+        int slot = allocate(value);
+        prev[slot] = pred;
+        next[slot] = succ;
+        prev[succ] = slot;
+
+        if (pred != NIL) {
+            next[pred] = slot;
+        } else {
+            head = slot;
+        }
+        size++;
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head
+    public int removeFirst() {
+        if (head == NIL) {
+            throw new NoSuchElementException();
+        }
+        return unlink(head);
+    }
+
+    // Remove from tail
+    public int removeLast() {
+        if (tail == NIL) {
+            throw new NoSuchElementException();
+        }
+        return unlink(tail);
+    }
+
+    // Remove from a given index
+    public int removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(slotAt(index));
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element
+    public int getFirst() {
+        if (head == NIL) {
+            throw new NoSuchElementException();
+        }
+        return values[head];
+    }
+
+    // Get tail element
+    public int getLast() {
+        if (tail == NIL) {
+            throw new NoSuchElementException();
+        }
+        return values[tail];
+    }
+
+    // Get element at index
+    public int getAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return values[slotAt(index)];
+    }
+
+    ///////////////// Utility/////////////////
+
+    // Number of elements, O(1)
+    public int size() {
+        return size;
+    }
+
+    // Check if empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Remove all elements in O(1), the arrays are kept for reuse
+    public void clear() {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        used = 0;
+        freeHead = NIL;
+    }
+
+    ///////////////// Search/////////////////
+
+    // Check existence
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    // First index of element
+    public int indexOf(int value) {
+        int index = 0;
+        for (int cur = head; cur != NIL; cur = next[cur]) {
+            if (values[cur] == value) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    ///////////////// Slots/////////////////
+
+    // Walk from the nearer end to the slot at index
+    private int slotAt(int index) {
+        int cur;
+        if (index < size / 2) {
+            cur = head;
+            for (int i = 0; i < index; i++) {
+                cur = next[cur];
+            }
+        } else {
+            cur = tail;
+            for (int i = size - 1; i > index; i--) {
+                cur = prev[cur];
+            }
+        }
+        return cur;
+    }
+
+    // Take a slot from the free-list, or a fresh one, growing the arrays if needed
+    private int allocate(int value) {
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == values.length) {
+                int capacity = Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1));
+                values = Arrays.copyOf(values, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            slot = used++;
+        }
+        values[slot] = value;
+        return slot;
+    }
+
+    // Unlink a slot and push it on the free-list
+    private int unlink(int slot) {
+        int p = prev[slot];
+        int n = next[slot];
+
+        if (p != NIL) {
+            next[p] = n;
+        } else {
+            head = n;
+        }
+
+        if (n != NIL) {
+            prev[n] = p;
+        } else {
+            tail = p;
+        }
+
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+        return values[slot];
+    }
+}
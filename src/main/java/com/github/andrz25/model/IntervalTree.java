@@ -0,0 +1,450 @@
+package com.github.andrz25.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maps closed intervals [low, high] to values and finds every interval containing a point or
+ * overlapping a range, e.g. the promotions active at a given time.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Max-Endpoint Augmentation:</b> The tree is a binary search tree ordered by low endpoint (then by
+ * high endpoint), like {@link MyBinarySearchTree}, and every node also keeps the highest endpoint in
+ * its subtree. A query skips every subtree whose highest endpoint lies before the range, and stops
+ * at the first node starting after it, so it visits few nodes that do not overlap.
+ * </li>
+ * <li>
+ * <b>Optional AVL Balancing:</b> Validity windows are usually created in time order, which would turn
+ * an unbalanced tree into a linked list. By default the tree keeps the AVL invariant, so inserts,
+ * removals and queries descend O(log n) levels. The rotations recompute the max endpoints of the two
+ * nodes they move, so the augmentation costs nothing extra. {@code new IntervalTree<>(false)} skips
+ * the rotations, for keys known to arrive in random order.
+ * </li>
+ * <li>
+ * <b>Iterative with a Path Stack:</b> Inserts and removals descend iteratively, recording the nodes
+ * they pass in a reused array, then walk that path back up to refresh heights and max endpoints and to
+ * rotate. Queries walk in order with an explicit stack sized by the tree's height. Nothing recurses,
+ * so a deep unbalanced tree cannot overflow the call stack.
+ * </li>
+ * <li>
+ * <b>Intervals Are Keys:</b> Like a map, the tree holds one value per distinct interval, and putting
+ * an equal interval replaces its value. Several items sharing a window need a collection as the value.
+ * </li>
+ * <li>
+ * <b>Not Thread-Safe:</b> Like the other structures in this project the tree is not synchronized.
+ * </li>
+ * </ul>
+ *
+ * <h2>Complexity Summary</h2>
+ * <table border="1">
+ * <tr>
+ * <th>Operation</th>
+ * <th>Balanced</th>
+ * <th>Unbalanced, Worst Case</th>
+ * </tr>
+ * <tr>
+ * <td>put/remove/get</td>
+ * <td>O(log n)</td>
+ * <td>O(n)</td>
+ * </tr>
+ * <tr>
+ * <td>stab/overlapping, k results</td>
+ * <td>O(log n + k) typical, O(min(n, (k + 1) log n)) worst</td>
+ * <td>O(n)</td>
+ * </tr>
+ * </table>
+ *
+ * @param <T> the type of the endpoints, must extend Comparable
+ * @param <V> the type of the values
+ */
+public class IntervalTree<T extends Comparable<? super T>, V> {
+
+    /**
+     * An interval and its value
+     *
+     * @param low the start, inclusive
+     * @param high the end, inclusive
+     * @param value the value
+     */
+    public record Entry<T, V>(T low, T high, V value) {
+    }
+
+    private static final class Node<T, V> {
+        T low;
+        T high;
+        V value;
+        // Highest endpoint in this subtree
+        T max;
+        // Levels in this subtree, 1 for a leaf
+        int height = 1;
+        Node<T, V> left;
+        Node<T, V> right;
+
+        Node(T low, T high, V value) {
+            this.low = low;
+            this.high = high;
+            this.value = value;
+            this.max = high;
+        }
+    }
+
+    private final boolean balanced;
+    private Node<T, V> root;
+    private int size;
+    // Nodes passed by the current insert or remove, reused between calls
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Node<T, V>[] path = (Node<T, V>[]) new Node[32];
+
+    /**
+     * Creates an AVL-balanced interval tree
+     */
+    public IntervalTree() {
+        this(true);
+    }
+
+    /**
+     * Creates an interval tree
+     *
+     * @param balanced true to keep the tree AVL-balanced, false to never rotate
+     */
+    public IntervalTree(boolean balanced) {
+        this.balanced = balanced;
+    }
+
+    ///////////////// Updates/////////////////
+
+    /**
+     * Associates a value with the interval [low, high], replacing the value of an equal interval.
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h) for the descent and the walk back up. O(log n) when balanced.</li>
+     * <li><b>Space:</b> O(1), the path array is reused.</li>
+     * </ul>
+     *
+     * @param low the start, inclusive
+     * @param high the end, inclusive, not before low
+     * @param value the value
+     * @return the previous value of the interval, or null if it was absent
+     * @throws IllegalArgumentException if high is before low
+     */
+    public V put(T low, T high, V value) {
+        checkInterval(low, high);
+        int depth = 0;
+        int comparison = 0;
+        Node<T, V> current = root;
+        while (current != null) {
+            comparison = compare(low, high, current);
+            if (comparison == 0) {
+                Arrays.fill(path, 0, depth, null);
+                V old = current.value;
+                current.value = value;
+                return old;
+            }
+            push(depth++, current);
+            current = comparison < 0 ? current.left : current.right;
+        }
+
+        Node<T, V> node = new Node<>(low, high, value);
+        if (depth == 0) {
+            root = node;
+        } else if (comparison < 0) {
+            path[depth - 1].left = node;
+        } else {
+            path[depth - 1].right = node;
+        }
+        size++;
+        fixUp(depth);
+        return null;
+    }
+
+    /**
+     * Removes the interval [low, high].
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h) to find the node and potentially the successor, then the walk back up.
+     * O(log n) when balanced.</li>
+     * <li><b>Space:</b> O(1), the path array is reused.</li>
+     * </ul>
+     *
+     * @param low the start
+     * @param high the end
+     * @return the value of the removed interval, or null if it was absent
+     */
+    public V remove(T low, T high) {
+        Objects.requireNonNull(low, "low");
+        Objects.requireNonNull(high, "high");
+        int depth = 0;
+        Node<T, V> current = root;
+        while (current != null) {
+            int comparison = compare(low, high, current);
+            push(depth++, current);
+            if (comparison == 0) {
+                break;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        if (current == null) {
+            Arrays.fill(path, 0, depth, null);
+            return null;
+        }
+
+        V old = current.value;
+        // Two children: move the in-order successor's interval here and remove the successor instead
+        if (current.left != null && current.right != null) {
+            Node<T, V> successor = current.right;
+            push(depth++, successor);
+            while (successor.left != null) {
+                successor = successor.left;
+                push(depth++, successor);
+            }
+            current.low = successor.low;
+            current.high = successor.high;
+            current.value = successor.value;
+            current = successor;
+        }
+
+        Node<T, V> replacement = current.left != null ? current.left : current.right;
+        depth--;
+        relink(depth == 0 ? null : path[depth - 1], current, replacement);
+        path[depth] = null;
+        size--;
+        fixUp(depth);
+        return old;
+    }
+
+    /**
+     * Removes every interval
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    ///////////////// Queries/////////////////
+
+    /**
+     * Gets the value of the interval [low, high]
+     *
+     * @param low the start
+     * @param high the end
+     * @return the value, or null if the interval is absent
+     */
+    public V get(T low, T high) {
+        Objects.requireNonNull(low, "low");
+        Objects.requireNonNull(high, "high");
+        Node<T, V> current = root;
+        while (current != null) {
+            int comparison = compare(low, high, current);
+            if (comparison == 0) {
+                return current.value;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    /**
+     * Finds the intervals containing a point
+     *
+     * @param point the point
+     * @return the intervals with low &lt;= point &lt;= high, ordered by low then high
+     */
+    public List<Entry<T, V>> stab(T point) {
+        return overlapping(point, point);
+    }
+
+    /**
+     * Finds the intervals overlapping the range [from, to].
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h + k) typical for k results. Subtrees ending before from are skipped whole,
+     * and the walk stops at the first interval starting after to.</li>
+     * <li><b>Space:</b> O(h) for the stack, plus the result list.</li>
+     * </ul>
+     *
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, inclusive, not before from
+     * @return the intervals sharing at least one point with the range, ordered by low then high
+     * @throws IllegalArgumentException if to is before from
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Entry<T, V>> overlapping(T from, T to) {
+        checkInterval(from, to);
+        List<Entry<T, V>> result = new ArrayList<>();
+        if (root == null) {
+            return result;
+        }
+
+        // In-order walk, the pending ancestors on the stack
+        Node<T, V>[] stack = (Node<T, V>[]) new Node[root.height];
+        int top = 0;
+        Node<T, V> current = root;
+        while (true) {
+            // A subtree whose highest endpoint is before from holds nothing overlapping
+            while (current != null && current.max.compareTo(from) >= 0) {
+                stack[top++] = current;
+                current = current.left;
+            }
+            if (top == 0) {
+                break;
+            }
+            Node<T, V> node = stack[--top];
+            // Everything after this node in order starts after to as well
+            if (node.low.compareTo(to) > 0) {
+                break;
+            }
+            if (node.high.compareTo(from) >= 0) {
+                result.add(new Entry<>(node.low, node.high, node.value));
+            }
+            current = node.right;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of intervals
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the tree is empty
+     *
+     * @return true if it holds no intervals
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the height of the tree, in O(1) as every node stores its height
+     *
+     * @return the number of edges on the longest root-to-leaf path, -1 when empty
+     */
+    public int height() {
+        return height(root) - 1;
+    }
+
+    /**
+     * Checks if the tree keeps itself balanced
+     *
+     * @return true for an AVL tree, false if it never rotates
+     */
+    public boolean isBalanced() {
+        return balanced;
+    }
+
+    ///////////////// Internals/////////////////
+
+    // Refreshes the nodes on path[0, depth) from the bottom up, rotating where the AVL invariant broke
+    private void fixUp(int depth) {
+        for (int i = depth - 1; i >= 0; i--) {
+            Node<T, V> node = path[i];
+            path[i] = null;
+            update(node);
+            if (balanced) {
+                Node<T, V> top = rebalance(node);
+                if (top != node) {
+                    relink(i == 0 ? null : path[i - 1], node, top);
+                }
+            }
+        }
+    }
+
+    // Recomputes the height and max endpoint of a node from its children
+    private void update(Node<T, V> node) {
+        Node<T, V> left = node.left;
+        Node<T, V> right = node.right;
+        node.height = 1 + Math.max(height(left), height(right));
+        T max = node.high;
+        if (left != null && left.max.compareTo(max) > 0) {
+            max = left.max;
+        }
+        if (right != null && right.max.compareTo(max) > 0) {
+            max = right.max;
+        }
+        node.max = max;
+    }
+
+    // Restores the AVL invariant at node, returning the root of its subtree
+    private Node<T, V> rebalance(Node<T, V> node) {
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T, V> rotateRight(Node<T, V> node) {
+        Node<T, V> top = node.left;
+        node.left = top.right;
+        top.right = node;
+        update(node);
+        update(top);
+        return top;
+    }
+
+    private Node<T, V> rotateLeft(Node<T, V> node) {
+        Node<T, V> top = node.right;
+        node.right = top.left;
+        top.left = node;
+        update(node);
+        update(top);
+        return top;
+    }
+
+    // Replaces child, a child of parent (or the root when parent is null), with replacement
+    private void relink(Node<T, V> parent, Node<T, V> child, Node<T, V> replacement) {
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.left == child) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+    }
+
+    private void push(int depth, Node<T, V> node) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+        }
+        path[depth] = node;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    // Orders intervals by low, then by high
+    private int compare(T low, T high, Node<T, V> node) {
+        int comparison = low.compareTo(node.low);
+        return comparison != 0 ? comparison : high.compareTo(node.high);
+    }
+
+    private static <T extends Comparable<? super T>> void checkInterval(T low, T high) {
+        Objects.requireNonNull(low, "low");
+        Objects.requireNonNull(high, "high");
+        if (low.compareTo(high) > 0) {
+            throw new IllegalArgumentException("interval ends before it starts: [" + low + ", " + high + "]");
+        }
+    }
+}
@@ -0,0 +1,646 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.api.DoublyLinkedList;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * A Doubly Linked List whose contents survive a restart or a crash.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Write-Ahead Journal:</b> The elements live in a {@link MyDoublyLinkedList}, so reads cost the
+ * same as for the in-memory list. Every mutation first appends a fixed-width record
+ * <code>[op][index][element][checksum]</code> to a journal file, written through memory-mapped
+ * regions of {@value #REGION_BYTES} bytes, so appending is a memory copy rather than a system call.
+ * Elements are encoded by a {@link RecordCodec}.
+ * </li>
+ * <li>
+ * <b>Durability Levels:</b> {@link Durability#NONE} never forces the journal to disk. The records
+ * are in the operating system's page cache as soon as they are written, so they survive the
+ * process being killed but not a power loss. {@link Durability#BATCHED} forces the journal once
+ * every <code>batchSize</code> records (group commit), losing at most that many operations on a
+ * power loss. {@link Durability#PER_OP} forces after every record. {@link #sync()} forces on demand.
+ * Forcing a mapped region writes its pages but not the file length, so when a new region grows
+ * the journal, BATCHED and PER_OP also force the channel with its metadata. Every new generation
+ * does too, whatever the level.
+ * </li>
+ * <li>
+ * <b>Snapshot Compaction:</b> Once the journal holds <code>compactAfter</code> records and at least
+ * as many records as the list has elements, the list is written to a snapshot file that atomically
+ * replaces the previous one, and the journal starts over. Each snapshot starts a new generation.
+ * The generation is stored in the journal header and is part of every record checksum, so records
+ * left over from an older generation are never replayed, even though the journal file is reused
+ * in place instead of truncated.
+ * </li>
+ * <li>
+ * <b>Recovery:</b> Opening a directory loads the snapshot, then replays journal records until the
+ * first zeroed or torn record, whose checksum does not match. Whenever the journal was of the
+ * snapshot's generation, the list is then compacted right away, even if no record replayed. Valid
+ * records of that generation may lie beyond a torn one, and moving to a new generation makes them
+ * stale, so they can never mix with the records appended afterwards. Opening therefore costs one
+ * snapshot write, O(n).
+ * </li>
+ * </ul>
+ *
+ * <p>Null elements are not allowed. The list is not thread-safe.</p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public class JournaledDoublyLinkedList<T> implements DoublyLinkedList<T>, AutoCloseable {
+
+    /**
+     * When journal records are forced to stable storage.
+     */
+    public enum Durability {
+        /** Never forced, survives a process crash but not a power loss. */
+        NONE,
+        /** Forced once every batch of records, and on {@link #sync()} and close. */
+        BATCHED,
+        /** Forced after every record. */
+        PER_OP
+    }
+
+    static final String JOURNAL_FILE = "journal";
+    static final String SNAPSHOT_FILE = "snapshot";
+
+    private static final int MAGIC = 0x4A524E4C;
+    private static final int HEADER = 16;
+    private static final int SNAPSHOT_HEADER = 16;
+    private static final int REGION_BYTES = 1 << 26;
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+    private static final long DEFAULT_COMPACT_AFTER = 1 << 22;
+
+    private static final byte ADD_FIRST = 1;
+    private static final byte ADD_LAST = 2;
+    private static final byte INSERT_AT = 3;
+    private static final byte REMOVE_FIRST = 4;
+    private static final byte REMOVE_LAST = 5;
+    private static final byte REMOVE_AT = 6;
+    private static final byte CLEAR = 7;
+
+    private static final int OP = 0;
+    private static final int INDEX = 1;
+    private static final int ELEMENT = 5;
+
+    private final MyDoublyLinkedList<T> list = new MyDoublyLinkedList<>();
+    private final RecordCodec<T> codec;
+    private final Path directory;
+    private final Durability durability;
+    private final int batchSize;
+    private final long compactAfter;
+
+    private final int recordSize;
+    private final int regionBytes;
+    private final byte[] record;
+    private final ByteBuffer recordBuffer;
+    private final byte[] generationBytes = new byte[Long.BYTES];
+    private final CRC32C checksum = new CRC32C();
+
+    private final FileChannel journal;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer region;
+    private int regionIndex;
+    private int regionPos;
+    private int forcedPos;
+    private int unforced;
+    private long records;
+    private long generation;
+    private boolean closed;
+
+    /**
+     * Opens or creates a list in the directory with batched durability.
+     *
+     * @param codec the codec of the element records
+     * @param directory the directory holding the journal and snapshot files
+     * @throws IOException if the files cannot be opened or recovered
+     */
+    public JournaledDoublyLinkedList(RecordCodec<T> codec, Path directory) throws IOException {
+        this(codec, directory, Durability.BATCHED);
+    }
+
+    /**
+     * Opens or creates a list in the directory.
+     *
+     * @param codec the codec of the element records
+     * @param directory the directory holding the journal and snapshot files
+     * @param durability when records are forced to stable storage
+     * @throws IOException if the files cannot be opened or recovered
+     */
+    public JournaledDoublyLinkedList(RecordCodec<T> codec, Path directory, Durability durability) throws IOException {
+        this(codec, directory, durability, DEFAULT_BATCH_SIZE, DEFAULT_COMPACT_AFTER);
+    }
+
+    /**
+     * Opens or creates a list in the directory.
+     *
+     * @param codec the codec of the element records
+     * @param directory the directory holding the journal and snapshot files
+     * @param durability when records are forced to stable storage
+     * @param batchSize the number of records per force with {@link Durability#BATCHED}
+     * @param compactAfter the number of journal records that triggers a snapshot
+     * @throws IOException if the files cannot be opened or recovered
+     */
+    public JournaledDoublyLinkedList(RecordCodec<T> codec, Path directory, Durability durability,
+                                     int batchSize, long compactAfter) throws IOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (compactAfter <= 0) {
+            throw new IllegalArgumentException("compactAfter must be positive");
+        }
+        this.codec = codec;
+        this.directory = directory;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.compactAfter = compactAfter;
+
+        this.recordSize = ELEMENT + codec.width() + Integer.BYTES;
+        this.regionBytes = (REGION_BYTES / recordSize) * recordSize;
+        this.record = new byte[recordSize];
+        this.recordBuffer = ByteBuffer.wrap(record);
+
+        Files.createDirectories(directory);
+        long snapshotGeneration = readSnapshot();
+        journal = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            header = journal.map(FileChannel.MapMode.READ_WRITE, 0, HEADER);
+            recover(Math.max(snapshotGeneration, 0));
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+    }
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head
+    @Override
+    public void addFirst(T data) {
+        checkWritable(data);
+        append(ADD_FIRST, 0, data);
+        list.addFirst(data);
+        compactIfDue();
+    }
+
+    // Insert at the tail
+    @Override
+    public void addLast(T data) {
+        checkWritable(data);
+        append(ADD_LAST, 0, data);
+        list.addLast(data);
+        compactIfDue();
+    }
+
+    // Insert at a given index
+    @Override
+    public void insertAt(int index, T data) {
+        checkWritable(data);
+        if (index < 0 || index > list.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        append(INSERT_AT, index, data);
+        list.insertAt(index, data);
+        compactIfDue();
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head
+    @Override
+    public T removeFirst() {
+        ensureOpen();
+        if (list.isEmpty()) {
+            return null;
+        }
+        append(REMOVE_FIRST, 0, null);
+        T data = list.removeFirst();
+        compactIfDue();
+        return data;
+    }
+
+    // Remove from tail
+    @Override
+    public T removeLast() {
+        ensureOpen();
+        if (list.isEmpty()) {
+            return null;
+        }
+        append(REMOVE_LAST, 0, null);
+        T data = list.removeLast();
+        compactIfDue();
+        return data;
+    }
+
+    // Remove from a given index
+    @Override
+    public T removeAt(int index) {
+        ensureOpen();
+        if (index < 0 || index >= list.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        append(REMOVE_AT, index, null);
+        T data = list.removeAt(index);
+        compactIfDue();
+        return data;
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element
+    @Override
+    public T getFirst() {
+        ensureOpen();
+        return list.getFirst();
+    }
+
+    // Get tail element
+    @Override
+    public T getLast() {
+        ensureOpen();
+        return list.getLast();
+    }
+
+    // Get element at index
+    @Override
+    public T getAt(int index) {
+        ensureOpen();
+        return list.getAt(index);
+    }
+
+    ///////////////// Utility/////////////////
+
+    // Number of elements, O(1)
+    @Override
+    public int size() {
+        ensureOpen();
+        return list.size();
+    }
+
+    // Check if empty
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Remove all elements
+    @Override
+    public void clear() {
+        ensureOpen();
+        append(CLEAR, 0, null);
+        list.clear();
+        compactIfDue();
+    }
+
+    /**
+     * Gets the number of records in the journal since the last snapshot
+     *
+     * @return the number of journal records
+     */
+    public long journalRecords() {
+        return records;
+    }
+
+    /**
+     * Forces every journal record written so far to stable storage,
+     * whatever the durability level.
+     */
+    public void sync() {
+        ensureOpen();
+        force();
+    }
+
+    /**
+     * Writes the whole list to a new snapshot and starts an empty journal.
+     * O(n), done automatically once the journal is long enough.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void compact() throws IOException {
+        ensureOpen();
+        writeSnapshot(generation + 1);
+
+        // Only once the snapshot is in place may the journal move to the new generation
+        setGeneration(generation + 1);
+        writeHeader();
+
+        regionIndex = 0;
+        region = mapRegion(0);
+        regionPos = 0;
+        forcedPos = 0;
+        unforced = 0;
+        records = 0;
+    }
+
+    /**
+     * Forces the journal, unless the durability level is {@link Durability#NONE},
+     * and closes it. The list cannot be used afterwards. Calling close again has no effect.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (durability != Durability.NONE) {
+            force();
+        }
+        closed = true;
+        region = null;
+        journal.close();
+    }
+
+    ///////////////// Search/////////////////
+
+    // Check existence
+    @Override
+    public boolean contains(T data) {
+        ensureOpen();
+        return list.contains(data);
+    }
+
+    // First index of element
+    @Override
+    public int indexOf(T data) {
+        ensureOpen();
+        return list.indexOf(data);
+    }
+
+    ///////////////// Journal/////////////////
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void checkWritable(T data) {
+        ensureOpen();
+        if (data == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    // Encode a record, copy it to the mapped region and force it if the durability level says so
+    private void append(byte op, int index, T data) {
+        if (regionPos == regionBytes) {
+            nextRegion();
+        }
+        record[OP] = op;
+        recordBuffer.putInt(INDEX, index);
+        if (data != null) {
+            codec.write(data, recordBuffer, ELEMENT);
+        } else {
+            Arrays.fill(record, ELEMENT, recordSize, (byte) 0);
+        }
+        recordBuffer.putInt(recordSize - Integer.BYTES, checksum());
+        region.put(regionPos, record, 0, recordSize);
+        regionPos += recordSize;
+        records++;
+
+        if (durability == Durability.PER_OP || (durability == Durability.BATCHED && ++unforced >= batchSize)) {
+            force();
+        }
+    }
+
+    private void compactIfDue() {
+        if (records >= compactAfter && records >= list.size()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void force() {
+        if (regionPos > forcedPos) {
+            region.force(forcedPos, regionPos - forcedPos);
+            forcedPos = regionPos;
+        }
+        unforced = 0;
+    }
+
+    private void nextRegion() {
+        if (durability != Durability.NONE) {
+            force();
+        }
+        regionIndex++;
+        region = mapRegion(regionIndex);
+        regionPos = 0;
+        forcedPos = 0;
+    }
+
+    // Map a journal region, growing the file if needed
+    private MappedByteBuffer mapRegion(int index) {
+        long position = HEADER + (long) index * regionBytes;
+        try {
+            boolean grows = journal.size() < position + regionBytes;
+            MappedByteBuffer mapped = journal.map(FileChannel.MapMode.READ_WRITE, position, regionBytes);
+            // Forcing mapped pages does not write the file's new length, only forcing the channel does
+            if (grows && durability != Durability.NONE) {
+                journal.force(true);
+            }
+            return mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Start the journal of the current generation, durable before any record of it is appended
+    private void writeHeader() throws IOException {
+        header.putInt(0, MAGIC);
+        header.putInt(4, recordSize);
+        header.putLong(8, generation);
+        header.force();
+        journal.force(true);
+    }
+
+    // Checksum of the record seeded with the generation, so older generations never match
+    private int checksum() {
+        checksum.reset();
+        checksum.update(generationBytes, 0, Long.BYTES);
+        checksum.update(record, 0, recordSize - Integer.BYTES);
+        return (int) checksum.getValue();
+    }
+
+    private void setGeneration(long generation) {
+        this.generation = generation;
+        ByteBuffer.wrap(generationBytes).putLong(0, generation);
+    }
+
+    ///////////////// Recovery/////////////////
+
+    private void recover(long snapshotGeneration) throws IOException {
+        boolean initialized = header.getInt(0) == MAGIC;
+        long journalGeneration = header.getLong(8);
+        if (initialized && header.getInt(4) != recordSize) {
+            throw new IOException("Journal was written with a different record width");
+        }
+        if (initialized && journalGeneration > snapshotGeneration) {
+            throw new IOException("Journal generation " + journalGeneration
+                    + " is newer than snapshot generation " + snapshotGeneration);
+        }
+
+        // A journal from an older generation is already contained in the snapshot
+        setGeneration(snapshotGeneration);
+        if (!initialized || journalGeneration < snapshotGeneration) {
+            writeHeader();
+            region = mapRegion(0);
+            return;
+        }
+
+        region = mapRegion(0);
+        while (true) {
+            if (regionPos == regionBytes) {
+                regionIndex++;
+                region = mapRegion(regionIndex);
+                regionPos = 0;
+            }
+            region.get(regionPos, record, 0, recordSize);
+            if (record[OP] == 0 || recordBuffer.getInt(recordSize - Integer.BYTES) != checksum()) {
+                break;
+            }
+            replay();
+            regionPos += recordSize;
+            records++;
+        }
+        forcedPos = regionPos;
+
+        // Always move to a new generation, even if nothing replayed: records of this generation may
+        // follow a torn one, and new appends from offset 0 must never be followed by them
+        compact();
+    }
+
+    private void replay() throws IOException {
+        int index = recordBuffer.getInt(INDEX);
+        try {
+            switch (record[OP]) {
+                case ADD_FIRST -> list.addFirst(codec.read(recordBuffer, ELEMENT));
+                case ADD_LAST -> list.addLast(codec.read(recordBuffer, ELEMENT));
+                case INSERT_AT -> list.insertAt(index, codec.read(recordBuffer, ELEMENT));
+                case REMOVE_FIRST -> list.removeFirst();
+                case REMOVE_LAST -> list.removeLast();
+                case REMOVE_AT -> list.removeAt(index);
+                case CLEAR -> list.clear();
+                default -> throw new IOException("Unknown journal operation " + record[OP]);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Journal record " + records + " does not match the list", e);
+        }
+    }
+
+    ///////////////// Snapshot/////////////////
+
+    // Snapshot layout: [magic][generation][size][elements...][checksum of everything before]
+    private void writeSnapshot(long snapshotGeneration) throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        int width = codec.width();
+        CRC32C sum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(BUFFER_BYTES, SNAPSHOT_HEADER + width));
+
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(MAGIC).putLong(snapshotGeneration).putInt(list.size());
+            for (T data : list) {
+                if (buffer.remaining() < width) {
+                    flush(out, buffer, sum);
+                }
+                codec.write(data, buffer, buffer.position());
+                buffer.position(buffer.position() + width);
+            }
+            flush(out, buffer, sum);
+            buffer.putInt((int) sum.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer, CRC32C sum) throws IOException {
+        buffer.flip();
+        sum.update(buffer.array(), buffer.arrayOffset(), buffer.limit());
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Make the rename durable, not supported on every platform
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Best effort
+        }
+    }
+
+    // Load the snapshot into the list, returning its generation or -1 if there is none
+    private long readSnapshot() throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return -1;
+        }
+        int width = codec.width();
+        CRC32C sum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(BUFFER_BYTES, SNAPSHOT_HEADER + width));
+        buffer.limit(0);
+
+        try (FileChannel in = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            fill(in, buffer, SNAPSHOT_HEADER);
+            sum.update(buffer.array(), buffer.position(), SNAPSHOT_HEADER);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a snapshot file: " + snapshot);
+            }
+            long snapshotGeneration = buffer.getLong();
+            int count = buffer.getInt();
+
+            for (int i = 0; i < count; i++) {
+                fill(in, buffer, width);
+                sum.update(buffer.array(), buffer.position(), width);
+                list.addLast(codec.read(buffer, buffer.position()));
+                buffer.position(buffer.position() + width);
+            }
+
+            fill(in, buffer, Integer.BYTES);
+            if (buffer.getInt() != (int) sum.getValue()) {
+                throw new IOException("Snapshot checksum mismatch: " + snapshot);
+            }
+            return snapshotGeneration;
+        }
+    }
+
+    // Make sure at least needed bytes are between position and limit
+    private static void fill(FileChannel in, ByteBuffer buffer, int needed) throws IOException {
+        if (buffer.remaining() >= needed) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < needed) {
+            if (in.read(buffer) < 0) {
+                throw new EOFException("Snapshot is truncated");
+            }
+        }
+        buffer.flip();
+    }
+}
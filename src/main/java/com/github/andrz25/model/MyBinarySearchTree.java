@@ -1,8 +1,14 @@
 package com.github.andrz25.model;
 
 import com.github.andrz25.api.BinarySearchTree;
+import com.github.andrz25.metrics.Operation;
+import com.github.andrz25.metrics.StructureMetrics;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 
 /**
@@ -23,6 +29,16 @@ import java.util.Queue;
  * simple and memory-efficient (no need to store color or height in nodes), it means
  * worst-case performance is O(n) for sorted input.
  * </li>
+ * <li>
+ * <b>Opt-in Node Recycling:</b> A tree created with a recycle capacity keeps up to that many deleted
+ * nodes (with their data cleared) and reuses them for later insertions, so that a steady stream of
+ * inserts and deletes allocates nothing. The default constructor disables it.
+ * </li>
+ * <li>
+ * <b>Opt-in Metrics:</b> When the JVM runs with <code>-Dcom.github.andrz25.metrics=true</code>, each tree
+ * counts its calls, comparisons, visited nodes, insertion depths and node allocations in a
+ * {@link StructureMetrics} that can be registered as a JMX MBean. Otherwise the counting compiles away.
+ * </li>
  * </ul>
  *
  * @param <T> the type of elements maintained by this tree, must extend Comparable
@@ -70,9 +86,30 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
     private TreeNode<T> root;
     private int size;
 
+    // Deleted nodes kept for reuse, chained through right
+    private final int recycleCapacity;
+    private TreeNode<T> pool;
+    private int pooled;
+
+    // Null unless metrics are enabled for the JVM
+    private final StructureMetrics metrics = StructureMetrics.ENABLED ? new StructureMetrics("MyBinarySearchTree", this::height) : null;
+
     public MyBinarySearchTree() {
+        this(0);
+    }
+
+    /**
+     * Creates a tree that reuses up to recycleCapacity deleted nodes for later insertions.
+     *
+     * @param recycleCapacity the maximum number of nodes kept for reuse, 0 disables recycling
+     */
+    public MyBinarySearchTree(int recycleCapacity) {
+        if (recycleCapacity < 0) {
+            throw new IllegalArgumentException("recycleCapacity must not be negative");
+        }
         root = null;
         size = 0;
+        this.recycleCapacity = recycleCapacity;
     }
 
     /**
@@ -90,37 +127,51 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
     @Override
     public void insert(T data) {
         if (root == null) {
-            root = new TreeNode<T>(data);
+            root = newNode(data);
             size++;
+            if (StructureMetrics.ENABLED) {
+                metrics.record(Operation.INSERT, 0, 0);
+            }
             return;
         }
 
         TreeNode<T> current = root;
         TreeNode<T> parent = null;
+        int visited = 0;
+        int comparison = 0;
 
         while (current != null) {
             parent = current;
+            visited++;
 
-            int comparison = data.compareTo(current.data);
+            comparison = data.compareTo(current.data);
 
             if (comparison < 0) {
                 current = current.left;
             } else if (comparison > 0) {
                 current = current.right;
             } else {
+                if (StructureMetrics.ENABLED) {
+                    metrics.record(Operation.INSERT, visited, visited);
+                }
                 return;
             }
         }
 
-        TreeNode<T> newNode = new TreeNode<T>(data);
+        TreeNode<T> newNode = newNode(data);
 
-        if (data.compareTo(parent.data) < 0) {
+        // The last comparison of the descent already tells which side of the parent to attach to
+        if (comparison < 0) {
             parent.left = newNode;
         } else {
             parent.right = newNode;
         }
 
         size++;
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.INSERT, visited, visited);
+            metrics.recordInsertDepth(visited);
+        }
     }
 
     /**
@@ -138,11 +189,16 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
     @Override
     public boolean contains(T data) {
         TreeNode<T> current = root;
+        int visited = 0;
 
         while (current != null) {
+            visited++;
             int comparison = data.compareTo(current.data);
 
             if (comparison == 0) {
+                if (StructureMetrics.ENABLED) {
+                    metrics.record(Operation.CONTAINS, visited, visited);
+                }
                 return true;
             } else if (comparison < 0) {
                 current = current.left;
@@ -151,6 +207,9 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
             }
         }
 
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.CONTAINS, visited, visited);
+        }
         return false;
     }
 
@@ -170,8 +229,12 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
     public void delete(T data) {
         TreeNode<T> parent = null;
         TreeNode<T> current = root;
+        int comparisons = 0;
+        int visited = 0;
 
         while (current != null) {
+            visited++;
+            comparisons++;
             int comparison = data.compareTo(current.data);
 
             if (comparison < 0) {
@@ -188,9 +251,11 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
                     TreeNode<T> successorParent = current;
                     TreeNode<T> successor = current.right;
 
+                    visited++;
                     while (successor.left != null) {
                         successorParent = successor;
                         successor = successor.left;
+                        visited++;
                     }
 
                     current.data = successor.data;
@@ -201,6 +266,10 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
                         successorParent.left = successor.right;
                     }
 
+                    recycle(successor);
+                    if (StructureMetrics.ENABLED) {
+                        metrics.record(Operation.DELETE, comparisons, visited);
+                    }
                     return;
                 }
 
@@ -214,9 +283,53 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
                     parent.right = replacement;
                 }
 
+                recycle(current);
+                if (StructureMetrics.ENABLED) {
+                    metrics.record(Operation.DELETE, comparisons, visited);
+                }
                 return;
             }
         }
+
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.DELETE, comparisons, visited);
+        }
+    }
+
+    // Take a node from the recycling pool, or allocate one
+    private TreeNode<T> newNode(T data) {
+        TreeNode<T> node = pool;
+        if (StructureMetrics.ENABLED) {
+            metrics.recordNode(node != null);
+        }
+        if (node == null) {
+            return new TreeNode<T>(data);
+        }
+        pool = node.right;
+        pooled--;
+        node.right = null;
+        node.data = data;
+        return node;
+    }
+
+    /**
+     * Gets the operation metrics of this tree, which can be registered as a JMX MBean.
+     *
+     * @return the metrics, or null unless the JVM runs with <code>-Dcom.github.andrz25.metrics=true</code>
+     */
+    public StructureMetrics metrics() {
+        return metrics;
+    }
+
+    // Keep a detached node for reuse if the pool has room
+    private void recycle(TreeNode<T> node) {
+        if (pooled < recycleCapacity) {
+            node.data = null;
+            node.left = null;
+            node.right = pool;
+            pool = node;
+            pooled++;
+        }
     }
 
     /**
@@ -315,6 +428,54 @@ public class MyBinarySearchTree<T extends Comparable<T>> implements BinarySearch
         }
     }
 
+    /**
+     * Returns an iterator over the elements between from and to, in ascending order.
+     * The tree must not be modified while the iterator is in use.
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h) to find the first element, then O(1) amortized per element,
+     * so O(h + k) for k elements in the range.</li>
+     * <li><b>Space:</b> O(h) for an explicit stack (Iterative implementation).</li>
+     * </ul>
+     *
+     * @param from the lowest element to return, inclusive, or null for no lower bound
+     * @param to the highest element to return, inclusive, or null for no upper bound
+     * @return an iterator over the elements in the range
+     */
+    public Iterator<T> rangeIterator(T from, T to) {
+        // Ancestors still to be visited, the next element on top
+        Deque<TreeNode<T>> stack = new ArrayDeque<>();
+        TreeNode<T> current = root;
+        while (current != null) {
+            if (from != null && current.data.compareTo(from) < 0) {
+                current = current.right;
+            } else {
+                stack.push(current);
+                current = current.left;
+            }
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty() && (to == null || stack.peek().data.compareTo(to) <= 0);
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                TreeNode<T> node = stack.pop();
+                for (TreeNode<T> child = node.right; child != null; child = child.left) {
+                    stack.push(child);
+                }
+                return node.data;
+            }
+        };
+    }
+
     /**
      * Calculates the height of the tree.
      *
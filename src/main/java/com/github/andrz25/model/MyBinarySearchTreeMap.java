@@ -0,0 +1,583 @@
+package com.github.andrz25.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A map ordered by key, stored as an unbalanced binary search tree whose nodes hold the values.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Values in the Nodes:</b> Pairing a {@link MyBinarySearchTree} of keys with a {@code HashMap} from
+ * key to value keeps two structures in step and pays two lookups per access. Here each node is the
+ * map entry itself, so one descent finds both the position and the value.
+ * </li>
+ * <li>
+ * <b>Single-Descent Compound Operations:</b> <code>put</code>, <code>computeIfAbsent</code>,
+ * <code>merge</code> and <code>remove</code> walk down once, remembering the parent and the result of
+ * the last comparison. A missing key is attached to that parent directly, and a key to remove is
+ * unlinked from it, so a read-modify-write never searches first and inserts after. The inherited
+ * {@link AbstractMap} versions would descend twice.
+ * </li>
+ * <li>
+ * <b>Structural Removal:</b> A node with two children is replaced by relinking its in-order successor
+ * into its place rather than by copying the successor's key and value, so entries handed out earlier
+ * keep their key.
+ * </li>
+ * <li>
+ * <b>No Null Keys:</b> Keys are compared with {@link Comparable#compareTo}, so null keys throw a
+ * {@link NullPointerException}. A null value is stored like any other, except that
+ * <code>computeIfAbsent</code> and <code>merge</code> treat it as absent, as {@link Map} specifies.
+ * </li>
+ * <li>
+ * <b>Navigation without Views:</b> The map offers the first, last, floor, ceiling, lower and higher
+ * keys and a bounded {@link #rangeIterator}, but no sub-map views, so it does not implement
+ * {@link java.util.SortedMap}.
+ * </li>
+ * <li>
+ * <b>Fail-Fast Iteration:</b> Iterators throw a {@link ConcurrentModificationException} once the
+ * map has been structurally modified after their creation. Replacing a value is not structural.
+ * </li>
+ * </ul>
+ *
+ * <h2>Complexity Summary</h2>
+ * <table border="1">
+ * <tr>
+ * <th>Operation</th>
+ * <th>Average Case (Balanced)</th>
+ * <th>Worst Case (Skewed)</th>
+ * </tr>
+ * <tr>
+ * <td>get/put/remove/computeIfAbsent/merge</td>
+ * <td>O(log n)</td>
+ * <td>O(n)</td>
+ * </tr>
+ * <tr>
+ * <td>Navigation</td>
+ * <td>O(log n)</td>
+ * <td>O(n)</td>
+ * </tr>
+ * <tr>
+ * <td>Iteration</td>
+ * <td>O(n)</td>
+ * <td>O(n)</td>
+ * </tr>
+ * </table>
+ *
+ * @param <K> the type of the keys, must extend Comparable
+ * @param <V> the type of the values
+ */
+public class MyBinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractMap<K, V> {
+
+    private static final class Node<K, V> implements Map.Entry<K, V> {
+        final K key;
+        V value;
+        Node<K, V> left;
+        Node<K, V> right;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && key.equals(e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private Node<K, V> root;
+    private int size;
+    // Counts structural changes, for the fail-fast iterators
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    ///////////////// Lookups/////////////////
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        Node<K, V> node = find(key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    // The node holding key, or null
+    @SuppressWarnings("unchecked")
+    private Node<K, V> find(Object key) {
+        K k = (K) Objects.requireNonNull(key, "key");
+        Node<K, V> current = root;
+        while (current != null) {
+            int comparison = k.compareTo(current.key);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    ///////////////// Updates/////////////////
+
+    /**
+     * Associates value with key, replacing any previous value.
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h), one descent. Average: O(log n), Worst: O(n).</li>
+     * <li><b>Space:</b> O(1) (Iterative implementation).</li>
+     * </ul>
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or null if there was none
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Node<K, V> parent = null;
+        Node<K, V> current = root;
+        int comparison = 0;
+        while (current != null) {
+            comparison = key.compareTo(current.key);
+            if (comparison == 0) {
+                return current.setValue(value);
+            }
+            parent = current;
+            current = comparison < 0 ? current.left : current.right;
+        }
+        attach(parent, comparison, new Node<>(key, value));
+        return null;
+    }
+
+    /**
+     * Returns the value of key, computing and storing it first if the key is absent or maps to null.
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h), one descent whether or not the key is present.</li>
+     * <li><b>Space:</b> O(1).</li>
+     * </ul>
+     *
+     * @param key the key
+     * @param mappingFunction computes the value of an absent key, a null result stores nothing
+     * @return the current value, or null if the function returned null
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(mappingFunction, "mappingFunction");
+        Node<K, V> parent = null;
+        Node<K, V> current = root;
+        int comparison = 0;
+        while (current != null) {
+            comparison = key.compareTo(current.key);
+            if (comparison == 0) {
+                if (current.value == null) {
+                    current.value = callback(() -> mappingFunction.apply(key));
+                }
+                return current.value;
+            }
+            parent = current;
+            current = comparison < 0 ? current.left : current.right;
+        }
+
+        V value = callback(() -> mappingFunction.apply(key));
+        if (value != null) {
+            attach(parent, comparison, new Node<>(key, value));
+        }
+        return value;
+    }
+
+    /**
+     * Stores value for an absent key, or combines it with the present value. A null result of the
+     * function removes the key.
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h), one descent, plus the walk to the successor when a node with two
+     * children is removed.</li>
+     * <li><b>Space:</b> O(1).</li>
+     * </ul>
+     *
+     * @param key the key
+     * @param value the value to store or combine, not null
+     * @param remappingFunction combines the present value with value
+     * @return the new value, or null if the key was removed
+     */
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(remappingFunction, "remappingFunction");
+        Node<K, V> parent = null;
+        Node<K, V> current = root;
+        int comparison = 0;
+        while (current != null) {
+            comparison = key.compareTo(current.key);
+            if (comparison == 0) {
+                V old = current.value;
+                V merged = old == null ? value : callback(() -> remappingFunction.apply(old, value));
+                if (merged == null) {
+                    unlink(parent, current);
+                } else {
+                    current.value = merged;
+                }
+                return merged;
+            }
+            parent = current;
+            current = comparison < 0 ? current.left : current.right;
+        }
+        attach(parent, comparison, new Node<>(key, value));
+        return value;
+    }
+
+    /**
+     * Removes key and its value.
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h) to find the node and potentially the successor.
+     * Average: O(log n), Worst: O(n).</li>
+     * <li><b>Space:</b> O(1) (Iterative implementation).</li>
+     * </ul>
+     *
+     * @param key the key
+     * @return the removed value, or null if the key was absent
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        K k = (K) Objects.requireNonNull(key, "key");
+        Node<K, V> parent = null;
+        Node<K, V> current = root;
+        while (current != null) {
+            int comparison = k.compareTo(current.key);
+            if (comparison == 0) {
+                unlink(parent, current);
+                return current.value;
+            }
+            parent = current;
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Hangs node below parent, on the side the last comparison of the descent chose
+    private void attach(Node<K, V> parent, int comparison, Node<K, V> node) {
+        if (parent == null) {
+            root = node;
+        } else if (comparison < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        size++;
+        modCount++;
+    }
+
+    // Removes node, a child of parent (or the root when parent is null)
+    private void unlink(Node<K, V> parent, Node<K, V> node) {
+        Node<K, V> replacement;
+        if (node.left == null) {
+            replacement = node.right;
+        } else if (node.right == null) {
+            replacement = node.left;
+        } else {
+            // Move the in-order successor into the node's place
+            Node<K, V> successorParent = node;
+            Node<K, V> successor = node.right;
+            while (successor.left != null) {
+                successorParent = successor;
+                successor = successor.left;
+            }
+            if (successorParent != node) {
+                successorParent.left = successor.right;
+                successor.right = node.right;
+            }
+            successor.left = node.left;
+            replacement = successor;
+        }
+
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.left == node) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+        node.left = null;
+        node.right = null;
+        size--;
+        modCount++;
+    }
+
+    // Runs a mapping function, which must not modify the map, as the descent's parent would be stale
+    private V callback(Supplier<? extends V> function) {
+        int expectedModCount = modCount;
+        V value = function.get();
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        return value;
+    }
+
+    ///////////////// Navigation/////////////////
+
+    /**
+     * Gets the lowest key.
+     *
+     * @return the lowest key
+     * @throws NoSuchElementException if the map is empty
+     */
+    public K firstKey() {
+        if (root == null) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        Node<K, V> node = root;
+        while (node.left != null) node = node.left;
+        return node.key;
+    }
+
+    /**
+     * Gets the highest key.
+     *
+     * @return the highest key
+     * @throws NoSuchElementException if the map is empty
+     */
+    public K lastKey() {
+        if (root == null) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        Node<K, V> node = root;
+        while (node.right != null) node = node.right;
+        return node.key;
+    }
+
+    /**
+     * Gets the highest key lower than or equal to key.
+     *
+     * @param key the key to search from
+     * @return the floor key, or null if there is none
+     */
+    public K floorKey(K key) {
+        return below(key, true);
+    }
+
+    /**
+     * Gets the highest key strictly lower than key.
+     *
+     * @param key the key to search from
+     * @return the lower key, or null if there is none
+     */
+    public K lowerKey(K key) {
+        return below(key, false);
+    }
+
+    /**
+     * Gets the lowest key higher than or equal to key.
+     *
+     * @param key the key to search from
+     * @return the ceiling key, or null if there is none
+     */
+    public K ceilingKey(K key) {
+        return above(key, true);
+    }
+
+    /**
+     * Gets the lowest key strictly higher than key.
+     *
+     * @param key the key to search from
+     * @return the higher key, or null if there is none
+     */
+    public K higherKey(K key) {
+        return above(key, false);
+    }
+
+    // The highest key below key, or equal to it when inclusive
+    private K below(K key, boolean inclusive) {
+        Objects.requireNonNull(key, "key");
+        K best = null;
+        Node<K, V> current = root;
+        while (current != null) {
+            int comparison = key.compareTo(current.key);
+            if (comparison > 0 || (inclusive && comparison == 0)) {
+                best = current.key;
+                if (comparison == 0) {
+                    break;
+                }
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        return best;
+    }
+
+    // The lowest key above key, or equal to it when inclusive
+    private K above(K key, boolean inclusive) {
+        Objects.requireNonNull(key, "key");
+        K best = null;
+        Node<K, V> current = root;
+        while (current != null) {
+            int comparison = key.compareTo(current.key);
+            if (comparison < 0 || (inclusive && comparison == 0)) {
+                best = current.key;
+                if (comparison == 0) {
+                    break;
+                }
+                current = current.left;
+            } else {
+                current = current.right;
+            }
+        }
+        return best;
+    }
+
+    ///////////////// Iteration/////////////////
+
+    /**
+     * Iterates in key order over the entries whose keys lie in the given range.
+     *
+     * <h3>Complexity Analysis</h3>
+     * <ul>
+     * <li><b>Time:</b> O(h + k) for k entries returned.</li>
+     * <li><b>Space:</b> O(h) for the stack of pending ancestors.</li>
+     * </ul>
+     *
+     * @param from the lowest key to return, inclusive, or null for no lower bound
+     * @param to the highest key to return, inclusive, or null for no upper bound
+     * @return an iterator over the entries in the range, whose setValue writes through
+     */
+    public Iterator<Map.Entry<K, V>> rangeIterator(K from, K to) {
+        // Ancestors still to be visited, the next entry on top
+        Deque<Node<K, V>> stack = new ArrayDeque<>();
+        Node<K, V> current = root;
+        while (current != null) {
+            if (from != null && current.key.compareTo(from) < 0) {
+                current = current.right;
+            } else {
+                stack.push(current);
+                current = current.left;
+            }
+        }
+        int expectedModCount = modCount;
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty() && (to == null || stack.peek().key.compareTo(to) <= 0);
+            }
+
+            @Override
+            public Map.Entry<K, V> next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Node<K, V> node = stack.pop();
+                for (Node<K, V> child = node.right; child != null; child = child.left) {
+                    stack.push(child);
+                }
+                return node;
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return rangeIterator(null, null);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    if (!(o instanceof Map.Entry<?, ?> e) || e.getKey() == null) {
+                        return false;
+                    }
+                    Node<K, V> node = find(e.getKey());
+                    return node != null && Objects.equals(node.value, e.getValue());
+                }
+
+                @Override
+                public void clear() {
+                    MyBinarySearchTreeMap.this.clear();
+                }
+            };
+        }
+        return entrySet;
+    }
+}
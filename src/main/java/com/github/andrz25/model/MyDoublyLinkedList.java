@@ -1,9 +1,25 @@
 package com.github.andrz25.model;
 
 import com.github.andrz25.api.DoublyLinkedList;
+import com.github.andrz25.metrics.Operation;
+import com.github.andrz25.metrics.StructureMetrics;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /** Node class for Doubly Linked List. */
-class Node<T> {
+class Node<T> implements MyDoublyLinkedList.Handle<T> {
     T data;
     Node<T> prev;
     Node<T> next;
@@ -13,6 +29,11 @@ class Node<T> {
         this.prev = null;
         this.next = null;
     }
+
+    @Override
+    public T get() {
+        return data;
+    }
 }
 
 /**
@@ -21,14 +42,62 @@ class Node<T> {
  * Version: 1.0 
  * A generic Doubly Linked List
  */
-public class MyDoublyLinkedList<T> implements DoublyLinkedList<T> {
+public class MyDoublyLinkedList<T> implements DoublyLinkedList<T>, Iterable<T> {
+
+    /**
+     * Opaque reference to an element of the list, returned by the handle
+     * based insert operations. A handle stays valid until its element is
+     * removed; it must only be passed back to the list that created it.
+     *
+     * @param <T> the type of the element
+     */
+    public interface Handle<T> {
+
+        /**
+         * Gets the element referenced by this handle
+         *
+         * @return the element
+         */
+        T get();
+    }
 
     Node<T> head;
     Node<T> tail;
 
+    // Number of elements, kept up to date by the link and unlink helpers
+    int size;
+
+    // Number of structural changes, used by cursors to fail fast
+    int modCount;
+
+    // Detached nodes kept for reuse, chained through next
+    private final int recycleCapacity;
+    private Node<T> pool;
+    private int pooled;
+
+    // Null unless metrics are enabled for the JVM, see StructureMetrics
+    private final StructureMetrics metrics = StructureMetrics.ENABLED ? new StructureMetrics("MyDoublyLinkedList") : null;
+
     public MyDoublyLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates a list that keeps up to recycleCapacity removed nodes and
+     * reuses them for later insertions, so that a steady stream of adds and
+     * removes allocates nothing. Recycled nodes have their element cleared.
+     * A handle must not be used once its element has been removed, since its
+     * node may already hold another element.
+     *
+     * @param recycleCapacity the maximum number of nodes kept for reuse, 0 disables recycling
+     */
+    public MyDoublyLinkedList(int recycleCapacity) {
+        if (recycleCapacity < 0) {
+            throw new IllegalArgumentException("recycleCapacity must not be negative");
+        }
         this.head = null;
         this.tail = null;
+        this.recycleCapacity = recycleCapacity;
     }
 
     ///////////////// Basic Operations/////////////////
@@ -36,67 +105,38 @@ public class MyDoublyLinkedList<T> implements DoublyLinkedList<T> {
     // Insert at the head
     @Override
     public void addFirst(T data) {
-        Node<T> node = new Node<>(data);
-        node.prev = null;
-
-        if (head != null) {
-            node.next = head;
-            head.prev = node;
-        } else {
-            node.next = null;
-            tail = node;
+        linkFirst(newNode(data));
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.ADD_FIRST, 0, 0);
         }
-        head = node;
     }
 
     // Insert at the tail
     @Override
     public void addLast(T data) {
-        Node<T> node = new Node<>(data);
-        node.next = null;
-
-        if (tail != null) {
-            node.prev = tail;
-            tail.next = node;
-        } else {
-            node.prev = null;
-            head = node;
+        linkLast(newNode(data));
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.ADD_LAST, 0, 0);
         }
-        tail = node;
     }
 
     // Insert at a given index
     @Override
     public void insertAt(int index, T data) {
-        if (index < 0 || index > size()) {
+        if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (index == 0) {
-            addFirst(data);
-            return;
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.INSERT_AT, 0, (index == size) ? 0 : walkLength(index));
         }
 
-        if (index == size()) {
-            addLast(data);
+        if (index == size) {
+            linkLast(newNode(data));
             return;
         }
 
-        Node<T> node = new Node<>(data);
-        Node<T> cur = head.next;
-        Node<T> prev = head;
-
-        for (int i = 1; i < size(); i++) {
-            if (i == index) {
-                node.prev = prev;
-                node.next = cur;
-                prev.next = node;
-                cur.prev = node;
-                break;
-            }
-            prev = cur;
-            cur = cur.next;
-        }
+        linkBefore(newNode(data), node(index));
     }
 
     ///////////////// Deletion/////////////////
@@ -104,74 +144,39 @@ public class MyDoublyLinkedList<T> implements DoublyLinkedList<T> {
     // Remove from head
     @Override
     public T removeFirst() {
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.REMOVE_FIRST, 0, 0);
+        }
         if (head == null) {
             return null;
         }
 
-        Node<T> node = head.next;
-        T data = head.data;
-        head = node;
-
-        if (head != null) {
-            head.prev = null;
-        } else {
-            tail = null;
-        }
-        return data;
+        return removeNode(head);
     }
 
     // Remove from tail
     @Override
     public T removeLast() {
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.REMOVE_LAST, 0, 0);
+        }
         if (tail == null) {
             return null;
         }
-        Node<T> node = tail.prev;
-
-        T data = tail.data;
-        tail = node;
-
-        if (tail != null) {
-            tail.next = null;
-        } else {
-            head = null;
-        }
-        return data;
+        return removeNode(tail);
     }
 
     // Remove from a given index
     @Override
     public T removeAt(int index) {
-        if (index < 0 || index >= size()) {
+        if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<T> cur = head;
-        int i = 0;
-
-        while (cur != null) {
-            if (i == index) {
-                Node<T> prev = cur.prev;
-                Node<T> next = cur.next;
-
-                if (prev != null) {
-                    prev.next = next;
-                } else {
-                    head = next;
-                }
-
-                if (next != null) {
-                    next.prev = prev;
-                } else {
-                    tail = prev;
-                }
-
-                return cur.data;
-            }
-            i++;
-            cur = cur.next;
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.REMOVE_AT, 0, walkLength(index));
         }
-        return null;
+        return removeNode(node(index));
     }
 
     ///////////////// Access/////////////////
@@ -197,30 +202,21 @@ public class MyDoublyLinkedList<T> implements DoublyLinkedList<T> {
     // Get element at index
     @Override
     public T getAt(int index) {
-        Node<T> cur = head;
-        int i = 0;
-        while (cur != null) {
-            if (i == index) {
-                return cur.data;
-            }
-            i++;
-            cur = cur.next;
+        if (index < 0 || index >= size) {
+            return null;
         }
-        return null;
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.GET_AT, 0, walkLength(index));
+        }
+        return node(index).data;
     }
 
     ///////////////// Utility/////////////////
 
-    // Number of elements
+    // Number of elements, O(1)
     @Override
     public int size() {
-        Node cur = head;
-        int count = 0;
-        while (cur != null) {
-            count++;
-            cur = cur.next;
-        }
-        return count;
+        return size;
     }
 
     // Check if empty
@@ -235,8 +231,29 @@ public class MyDoublyLinkedList<T> implements DoublyLinkedList<T> {
     // Remove all elements
     @Override
     public void clear() {
+        // Detach every node so that handles to cleared elements are rejected
+        Node<T> cur = head;
+        while (cur != null) {
+            Node<T> next = cur.next;
+            cur.prev = null;
+            cur.next = null;
+            recycle(cur);
+            cur = next;
+        }
         head = null;
         tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Gets the operation metrics of this list, which can be registered as a JMX MBean.
+     * Only the index and end operations of the list interface are counted.
+     *
+     * @return the metrics, or null unless the JVM runs with <code>-Dcom.github.andrz25.metrics=true</code>
+     */
+    public StructureMetrics metrics() {
+        return metrics;
     }
 
     ///////////////// Search/////////////////
@@ -245,12 +262,20 @@ public class MyDoublyLinkedList<T> implements DoublyLinkedList<T> {
     @Override
     public boolean contains(T data) {
         Node<T> cur = head;
+        int visited = 0;
         while (cur != null) {
+            visited++;
             if (cur.data.equals(data)) {
+                if (StructureMetrics.ENABLED) {
+                    metrics.record(Operation.CONTAINS, visited, visited);
+                }
                 return true;
             }
             cur = cur.next;
         }
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.CONTAINS, visited, visited);
+        }
         return false;
     }
 
@@ -261,11 +286,768 @@ public class MyDoublyLinkedList<T> implements DoublyLinkedList<T> {
         int index = 0;
         while (cur != null) {
             if (cur.data.equals(data)) {
+                if (StructureMetrics.ENABLED) {
+                    metrics.record(Operation.INDEX_OF, index + 1, index + 1);
+                }
                 return index;
             }
             index++;
             cur = cur.next;
         }
+        if (StructureMetrics.ENABLED) {
+            metrics.record(Operation.INDEX_OF, index, index);
+        }
         return -1;
     }
+
+    ///////////////// Handles/////////////////
+
+    /**
+     * Inserts an element at the head and returns a handle to it
+     *
+     * @param data the data contained inside the node
+     * @return the handle of the new element
+     */
+    public Handle<T> linkFirst(T data) {
+        Node<T> node = newNode(data);
+        linkFirst(node);
+        return node;
+    }
+
+    /**
+     * Inserts an element at the tail and returns a handle to it
+     *
+     * @param data the data contained inside the node
+     * @return the handle of the new element
+     */
+    public Handle<T> linkLast(T data) {
+        Node<T> node = newNode(data);
+        linkLast(node);
+        return node;
+    }
+
+    /**
+     * Inserts an element right before the element of the handle in O(1)
+     *
+     * @param handle the handle of the element that will follow the new one
+     * @param data the data contained inside the node
+     * @return the handle of the new element
+     */
+    public Handle<T> insertBefore(Handle<T> handle, T data) {
+        Node<T> succ = linked(handle);
+        Node<T> node = newNode(data);
+        linkBefore(node, succ);
+        return node;
+    }
+
+    /**
+     * Inserts an element right after the element of the handle in O(1)
+     *
+     * @param handle the handle of the element that will precede the new one
+     * @param data the data contained inside the node
+     * @return the handle of the new element
+     */
+    public Handle<T> insertAfter(Handle<T> handle, T data) {
+        Node<T> pred = linked(handle);
+        Node<T> node = newNode(data);
+        if (pred.next == null) {
+            linkLast(node);
+        } else {
+            linkBefore(node, pred.next);
+        }
+        return node;
+    }
+
+    /**
+     * Removes the element of the handle in O(1). The handle is invalid afterwards.
+     *
+     * @param handle the handle of the element to remove
+     * @return the removed element
+     */
+    public T remove(Handle<T> handle) {
+        return removeNode(linked(handle));
+    }
+
+    /**
+     * Moves the element of the handle to the head in O(1)
+     *
+     * @param handle the handle of the element to move
+     */
+    public void moveToFront(Handle<T> handle) {
+        Node<T> node = linked(handle);
+        if (node != head) {
+            unlink(node);
+            linkFirst(node);
+        }
+    }
+
+    /**
+     * Moves the element of the handle to the tail in O(1)
+     *
+     * @param handle the handle of the element to move
+     */
+    public void moveToBack(Handle<T> handle) {
+        Node<T> node = linked(handle);
+        if (node != tail) {
+            unlink(node);
+            linkLast(node);
+        }
+    }
+
+    // Resolve a handle to its node, rejecting handles of removed elements
+    private Node<T> linked(Handle<T> handle) {
+        Node<T> node = (Node<T>) handle;
+        if ((node.prev == null && node.next == null && head != node) || node.prev == node) {
+            throw new IllegalArgumentException("Handle does not reference a linked element");
+        }
+        return node;
+    }
+
+    ///////////////// Bulk Relinking/////////////////
+
+    /**
+     * Moves every element of the other list to the tail of this one in O(1)
+     * by relinking, the other list is left empty. Handles of the moved
+     * elements now belong to this list.
+     *
+     * @param other the list whose elements are appended
+     */
+    public void appendAll(MyDoublyLinkedList<T> other) {
+        spliceAt(size, other);
+    }
+
+    /**
+     * Moves the elements from the given index to the tail into a new list
+     * by relinking. Takes O(min(index, size - index)) to find the split point.
+     *
+     * @param index the index of the first element of the returned list
+     * @return a list holding the tail part, empty if index equals the size
+     */
+    public MyDoublyLinkedList<T> splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        MyDoublyLinkedList<T> rest = new MyDoublyLinkedList<>(recycleCapacity);
+        if (index == size) {
+            return rest;
+        }
+
+        Node<T> first = node(index);
+        rest.head = first;
+        rest.tail = tail;
+        rest.size = size - index;
+
+        tail = first.prev;
+        if (tail != null) {
+            tail.next = null;
+        } else {
+            head = null;
+        }
+        first.prev = null;
+        size = index;
+        modCount++;
+        return rest;
+    }
+
+    /**
+     * Moves every element of the other list into this one before the given
+     * index by relinking, the other list is left empty. Takes
+     * O(min(index, size - index)) to find the position, O(1) at either end.
+     *
+     * @param index the index the first moved element will have
+     * @param other the list whose elements are spliced in
+     */
+    public void spliceAt(int index, MyDoublyLinkedList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (other.head == null) {
+            return;
+        }
+
+        Node<T> succ = (index == size) ? null : node(index);
+        Node<T> pred = (succ == null) ? tail : succ.prev;
+
+        other.head.prev = pred;
+        if (pred == null) {
+            head = other.head;
+        } else {
+            pred.next = other.head;
+        }
+
+        other.tail.next = succ;
+        if (succ == null) {
+            tail = other.tail;
+        } else {
+            succ.prev = other.tail;
+        }
+
+        size += other.size;
+        modCount++;
+
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+        other.modCount++;
+    }
+
+    /**
+     * Reverses the order of the elements in place by swapping the links of
+     * every node. O(n) time, O(1) space, no node is copied or allocated.
+     */
+    public void reverse() {
+        Node<T> cur = head;
+        while (cur != null) {
+            Node<T> next = cur.next;
+            cur.next = cur.prev;
+            cur.prev = next;
+            cur = next;
+        }
+        Node<T> oldHead = head;
+        head = tail;
+        tail = oldHead;
+        modCount++;
+    }
+
+    ///////////////// Bulk Removal/////////////////
+
+    /**
+     * Removes every element matching the filter in a single pass over the
+     * nodes. O(n) plus the cost of the filter.
+     *
+     * @param filter returns true for the elements to remove
+     * @return the number of elements removed
+     */
+    public int removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int removed = 0;
+        Node<T> cur = head;
+        while (cur != null) {
+            Node<T> next = cur.next;
+            if (filter.test(cur.data)) {
+                removeNode(cur);
+                removed++;
+            }
+            cur = next;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every element contained in the collection in a single pass.
+     * O(n) times the cost of the collection's contains, so pass a set for large collections.
+     *
+     * @param elements the elements to remove
+     * @return the number of elements removed
+     */
+    public int removeAll(Collection<?> elements) {
+        Objects.requireNonNull(elements);
+        return removeIf(elements::contains);
+    }
+
+    /**
+     * Removes every element not contained in the collection in a single pass.
+     * O(n) times the cost of the collection's contains, so pass a set for large collections.
+     *
+     * @param elements the elements to keep
+     * @return the number of elements removed
+     */
+    public int retainAll(Collection<?> elements) {
+        Objects.requireNonNull(elements);
+        return removeIf(data -> !elements.contains(data));
+    }
+
+    ///////////////// Sorting/////////////////
+
+    /**
+     * Sorts the elements with a stable, bottom-up merge sort that relinks the
+     * existing nodes. O(n log n) time, O(1) extra space, allocates nothing.
+     * Handles keep referencing their elements.
+     *
+     * @param comparator the order to sort by, null for the natural order of Comparable elements
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        if (size < 2) {
+            return;
+        }
+        Comparator<? super T> order = (comparator != null) ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+
+        Node<T> first = head;
+        Node<T> last;
+        // Merge neighbouring sorted runs of length width, doubling width until one run is left
+        for (int width = 1; ; width *= 2) {
+            Node<T> left = first;
+            first = null;
+            last = null;
+            int merges = 0;
+
+            while (left != null) {
+                merges++;
+                Node<T> right = left;
+                int leftSize = 0;
+                while (leftSize < width && right != null) {
+                    leftSize++;
+                    right = right.next;
+                }
+                int rightSize = width;
+
+                while (leftSize > 0 || (rightSize > 0 && right != null)) {
+                    Node<T> next;
+                    if (leftSize == 0) {
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    } else if (rightSize == 0 || right == null || order.compare(left.data, right.data) <= 0) {
+                        // Taking from the left run on ties keeps the sort stable
+                        next = left;
+                        left = left.next;
+                        leftSize--;
+                    } else {
+                        next = right;
+                        right = right.next;
+                        rightSize--;
+                    }
+
+                    next.prev = last;
+                    if (last == null) {
+                        first = next;
+                    } else {
+                        last.next = next;
+                    }
+                    last = next;
+                }
+                left = right;
+            }
+            last.next = null;
+
+            if (merges <= 1) {
+                break;
+            }
+        }
+
+        head = first;
+        tail = last;
+        modCount++;
+    }
+
+    /**
+     * Inserts an element into a list already sorted by the comparator,
+     * after any equal elements. O(1) when the element belongs at the tail,
+     * O(n) otherwise.
+     *
+     * @param data the data contained inside the node
+     * @param comparator the order the list is sorted by, null for the natural order of Comparable elements
+     * @return the handle of the new element
+     */
+    @SuppressWarnings("unchecked")
+    public Handle<T> sortedInsert(T data, Comparator<? super T> comparator) {
+        Comparator<? super T> order = (comparator != null) ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+        Node<T> node = newNode(data);
+
+        if (tail == null || order.compare(tail.data, data) <= 0) {
+            linkLast(node);
+            return node;
+        }
+
+        Node<T> cur = head;
+        while (order.compare(cur.data, data) <= 0) {
+            cur = cur.next;
+        }
+        linkBefore(node, cur);
+        return node;
+    }
+
+    ///////////////// Iteration/////////////////
+
+    /**
+     * Returns a fail-fast iterator from head to tail
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator();
+    }
+
+    /**
+     * Returns a late-binding, fail-fast spliterator that reports SIZED and
+     * ORDERED. Splitting copies the next batch of elements into an array
+     * (1024 elements first, growing by 1024 per split) so that parallel
+     * streams can hand batches to other threads while this one keeps walking.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BatchSpliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the elements
+     *
+     * @return a stream of the elements from head to tail
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements
+     *
+     * @return a possibly parallel stream of the elements from head to tail
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /** Walks the nodes, splitting off array batches like {@code LinkedList}'s spliterator. */
+    private final class BatchSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current;
+        private int remaining = -1;   // -1 until bound to the list on first use
+        private int expectedModCount;
+        private int batch;
+
+        private int bind() {
+            if (remaining < 0) {
+                current = head;
+                remaining = size;
+                expectedModCount = modCount;
+            }
+            return remaining;
+        }
+
+        @Override
+        public long estimateSize() {
+            return bind();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int left = bind();
+            if (left <= 1 || current == null) {
+                return null;
+            }
+
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), left);
+            Object[] array = new Object[n];
+            int j = 0;
+            Node<T> cur = current;
+            while (j < n && cur != null) {
+                array[j++] = cur.data;
+                cur = cur.next;
+            }
+            current = cur;
+            remaining -= j;
+            batch = j;
+            return Spliterators.spliterator(array, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (bind() <= 0 || current == null) {
+                return false;
+            }
+            T data = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(data);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            bind();
+            Node<T> cur = current;
+            current = null;
+            remaining = 0;
+            while (cur != null) {
+                action.accept(cur.data);
+                cur = cur.next;
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    ///////////////// Cursor/////////////////
+
+    /**
+     * Returns a bidirectional cursor positioned before the head. Every cursor
+     * operation (next, previous, add, remove, set) is O(1), so an edit pass
+     * over the whole list is O(n) instead of O(n^2) with insertAt/removeAt.
+     *
+     * @return a cursor over the list
+     */
+    public ListIterator<T> listIterator() {
+        return new Cursor(head, 0);
+    }
+
+    /**
+     * Returns a bidirectional cursor positioned before the given index.
+     * Reaching the index takes O(index); the cursor operations are O(1).
+     *
+     * @param index the index of the element returned by the first call to next
+     * @return a cursor over the list
+     */
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new Cursor((index == size) ? null : node(index), index);
+    }
+
+    // Take a node from the recycling pool, or allocate one
+    private Node<T> newNode(T data) {
+        Node<T> node = pool;
+        if (StructureMetrics.ENABLED) {
+            metrics.recordNode(node != null);
+        }
+        if (node == null) {
+            return new Node<>(data);
+        }
+        pool = node.next;
+        pooled--;
+        node.prev = null;
+        node.next = null;
+        node.data = data;
+        return node;
+    }
+
+    // Keep a detached node for reuse if the pool has room
+    private void recycle(Node<T> node) {
+        if (pooled < recycleCapacity) {
+            node.data = null;
+            // A self link marks pooled nodes so that their stale handles are rejected
+            node.prev = node;
+            node.next = pool;
+            pool = node;
+            pooled++;
+        }
+    }
+
+    // Unlink a node, recycle it and return its element
+    private T removeNode(Node<T> node) {
+        unlink(node);
+        T data = node.data;
+        recycle(node);
+        return data;
+    }
+
+    // Walk from the nearer end to the node at a valid index
+    private Node<T> node(int index) {
+        Node<T> cur;
+        if (index < size / 2) {
+            cur = head;
+            for (int i = 0; i < index; i++) {
+                cur = cur.next;
+            }
+        } else {
+            cur = tail;
+            for (int i = size - 1; i > index; i--) {
+                cur = cur.prev;
+            }
+        }
+        return cur;
+    }
+
+    // Number of nodes node(index) visits, counting the end it starts from
+    private int walkLength(int index) {
+        return Math.min(index, size - 1 - index) + 1;
+    }
+
+    // Link a detached node at the head
+    private void linkFirst(Node<T> node) {
+        node.prev = null;
+
+        if (head != null) {
+            node.next = head;
+            head.prev = node;
+        } else {
+            node.next = null;
+            tail = node;
+        }
+        head = node;
+        size++;
+        modCount++;
+    }
+
+    // Link a detached node at the tail
+    private void linkLast(Node<T> node) {
+        node.next = null;
+
+        if (tail != null) {
+            node.prev = tail;
+            tail.next = node;
+        } else {
+            node.prev = null;
+            head = node;
+        }
+        tail = node;
+        size++;
+        modCount++;
+    }
+
+    // Link a detached node right before succ
+    private void linkBefore(Node<T> node, Node<T> succ) {
+        Node<T> pred = succ.prev;
+        node.prev = pred;
+        node.next = succ;
+        succ.prev = node;
+
+        if (pred == null) {
+            head = node;
+        } else {
+            pred.next = node;
+        }
+        size++;
+        modCount++;
+    }
+
+    // Unlink a node known to be in this list
+    private void unlink(Node<T> node) {
+        Node<T> prev = node.prev;
+        Node<T> next = node.next;
+
+        if (prev != null) {
+            prev.next = next;
+        } else {
+            head = next;
+        }
+
+        if (next != null) {
+            next.prev = prev;
+        } else {
+            tail = prev;
+        }
+
+        node.prev = null;
+        node.next = null;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Cursor that sits between two nodes. Any structural change made to the
+     * list outside of this cursor makes it throw a
+     * {@link ConcurrentModificationException} on its next operation.
+     */
+    private class Cursor implements ListIterator<T> {
+        private Node<T> next;
+        private Node<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        Cursor(Node<T> next, int nextIndex) {
+            this.next = next;
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (lastReturned == next) {
+                // previous() was called last, the cursor moves to the successor
+                next = lastReturned.next;
+            } else {
+                nextIndex--;
+            }
+            removeNode(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T data) {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            lastReturned.data = data;
+        }
+
+        @Override
+        public void add(T data) {
+            checkForComodification();
+            lastReturned = null;
+
+            if (next == null) {
+                addLast(data);
+            } else {
+                linkBefore(newNode(data), next);
+            }
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
 }
@@ -0,0 +1,451 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.api.DoublyLinkedList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A Doubly Linked List whose elements and links are stored outside of the Java heap.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Fixed-Width Slots:</b> Every element occupies one slot of <code>8 + codec.width()</code> bytes:
+ * the prev and next slot indexes followed by the record written by the {@link RecordCodec}.
+ * Nothing but the chunk table lives on the heap, so the garbage collector has nothing to trace
+ * however many elements the list holds. The price is that every read decodes a new element object.
+ * </li>
+ * <li>
+ * <b>Chunked Buffers:</b> Slots are grouped in chunks of {@value #SLOTS_PER_CHUNK} slots, each a
+ * direct {@link ByteBuffer} or a memory-mapped region of a backing file. Growing adds a chunk
+ * instead of copying, and the 2 GB limit of a single buffer does not apply to the whole list. It
+ * does apply to a chunk, so the constructors reject codecs wider than 32,759 bytes.
+ * With a backing file, the operating system pages chunks in and out, so the list can be larger
+ * than the heap and than physical memory. The file is scratch space, not a persistent format.
+ * </li>
+ * <li>
+ * <b>Free-List:</b> Removed slots are chained through their next link and reused by the next
+ * insertion, so steady-state add and remove neither allocate chunks nor leave holes behind.
+ * </li>
+ * <li>
+ * <b>Explicit Release:</b> {@link #close()} unmaps and frees the chunks right away instead of
+ * waiting for the buffers to be garbage collected. Any use of the list after closing throws
+ * {@link IllegalStateException}.
+ * </li>
+ * </ul>
+ *
+ * <p>Null elements are not allowed. The list is not thread-safe.</p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public class OffHeapDoublyLinkedList<T> implements DoublyLinkedList<T>, AutoCloseable {
+    private static final int NIL = -1;
+    private static final int CHUNK_SHIFT = 16;
+    private static final int SLOTS_PER_CHUNK = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = SLOTS_PER_CHUNK - 1;
+
+    private static final int PREV = 0;
+    private static final int NEXT = 4;
+    private static final int RECORD = 8;
+
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available, buffers are released by the garbage collector instead
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final RecordCodec<T> codec;
+    private final int slotSize;
+    private final FileChannel file;
+
+    private ByteBuffer[] chunks = new ByteBuffer[0];
+    private int chunkCount;
+    private boolean closed;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+    private int used;
+    private int freeHead = NIL;
+
+    /**
+     * Creates a list stored in direct memory.
+     *
+     * @param codec the codec of the element records
+     * @throws IllegalArgumentException if a chunk of records of the codec's width would exceed 2 GB
+     */
+    public OffHeapDoublyLinkedList(RecordCodec<T> codec) {
+        this.codec = codec;
+        this.slotSize = slotSize(codec);
+        this.file = null;
+    }
+
+    /**
+     * Creates a list stored in a memory-mapped file. An existing file is truncated.
+     *
+     * @param codec the codec of the element records
+     * @param path the backing file
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if a chunk of records of the codec's width would exceed 2 GB
+     */
+    public OffHeapDoublyLinkedList(RecordCodec<T> codec, Path path) throws IOException {
+        this.codec = codec;
+        this.slotSize = slotSize(codec);
+        this.file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    // A chunk is one buffer, so its size must fit in an int
+    private static int slotSize(RecordCodec<?> codec) {
+        int width = codec.width();
+        if (width < 0 || (long) SLOTS_PER_CHUNK * (RECORD + width) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Record width " + width + " does not fit " + SLOTS_PER_CHUNK
+                    + " slots in one buffer, the most is " + (Integer.MAX_VALUE / SLOTS_PER_CHUNK - RECORD));
+        }
+        return RECORD + width;
+    }
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head
+    @Override
+    public void addFirst(T data) {
+        int slot = allocate(data);
+        setPrev(slot, NIL);
+        setNext(slot, head);
+
+        if (head != NIL) {
+            setPrev(head, slot);
+        } else {
+            tail = slot;
+        }
+        head = slot;
+        size++;
+    }
+
+    // Insert at the tail
+    @Override
+    public void addLast(T data) {
+        int slot = allocate(data);
+        setNext(slot, NIL);
+        setPrev(slot, tail);
+
+        if (tail != NIL) {
+            setNext(tail, slot);
+        } else {
+            head = slot;
+        }
+        tail = slot;
+        size++;
+    }
+
+    // Insert at a given index
+    @Override
+    public void insertAt(int index, T data) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size) {
+            addLast(data);
+            return;
+        }
+
+        int succ = slotAt(index);
+        int pred = prev(succ);
+        int slot = allocate(data);
+        setPrev(slot, pred);
+        setNext(slot, succ);
+        setPrev(succ, slot);
+
+        if (pred != NIL) {
+            setNext(pred, slot);
+        } else {
+            head = slot;
+        }
+        size++;
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head
+    @Override
+    public T removeFirst() {
+        ensureOpen();
+        return (head == NIL) ? null : unlink(head);
+    }
+
+    // Remove from tail
+    @Override
+    public T removeLast() {
+        ensureOpen();
+        return (tail == NIL) ? null : unlink(tail);
+    }
+
+    // Remove from a given index
+    @Override
+    public T removeAt(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(slotAt(index));
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element
+    @Override
+    public T getFirst() {
+        ensureOpen();
+        return (head == NIL) ? null : read(head);
+    }
+
+    // Get tail element
+    @Override
+    public T getLast() {
+        ensureOpen();
+        return (tail == NIL) ? null : read(tail);
+    }
+
+    // Get element at index
+    @Override
+    public T getAt(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return read(slotAt(index));
+    }
+
+    ///////////////// Utility/////////////////
+
+    // Number of elements, O(1)
+    @Override
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+
+    // Check if empty
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // Remove all elements in O(1), the chunks are kept for reuse
+    @Override
+    public void clear() {
+        ensureOpen();
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        used = 0;
+        freeHead = NIL;
+    }
+
+    /**
+     * Gets the number of bytes reserved outside of the heap
+     *
+     * @return the reserved bytes
+     */
+    public long reservedBytes() {
+        return (long) chunkCount * SLOTS_PER_CHUNK * slotSize;
+    }
+
+    /**
+     * Frees every chunk and closes the backing file, if any. The list cannot
+     * be used afterwards. Calling close again has no effect.
+     *
+     * @throws IOException if the backing file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ByteBuffer[] released = chunks;
+        chunks = null;
+        for (int i = 0; i < chunkCount; i++) {
+            free(released[i]);
+        }
+        chunkCount = 0;
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    ///////////////// Search/////////////////
+
+    // Check existence
+    @Override
+    public boolean contains(T data) {
+        return indexOf(data) >= 0;
+    }
+
+    // First index of element
+    @Override
+    public int indexOf(T data) {
+        ensureOpen();
+        int index = 0;
+        for (int cur = head; cur != NIL; cur = next(cur)) {
+            if (read(cur).equals(data)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    ///////////////// Slots/////////////////
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private ByteBuffer chunk(int slot) {
+        return chunks[slot >>> CHUNK_SHIFT];
+    }
+
+    private int offset(int slot) {
+        return (slot & CHUNK_MASK) * slotSize;
+    }
+
+    private int prev(int slot) {
+        return chunk(slot).getInt(offset(slot) + PREV);
+    }
+
+    private int next(int slot) {
+        return chunk(slot).getInt(offset(slot) + NEXT);
+    }
+
+    private void setPrev(int slot, int prev) {
+        chunk(slot).putInt(offset(slot) + PREV, prev);
+    }
+
+    private void setNext(int slot, int next) {
+        chunk(slot).putInt(offset(slot) + NEXT, next);
+    }
+
+    private T read(int slot) {
+        return codec.read(chunk(slot), offset(slot) + RECORD);
+    }
+
+    // Walk from the nearer end to the slot at index
+    private int slotAt(int index) {
+        int cur;
+        if (index < size / 2) {
+            cur = head;
+            for (int i = 0; i < index; i++) {
+                cur = next(cur);
+            }
+        } else {
+            cur = tail;
+            for (int i = size - 1; i > index; i--) {
+                cur = prev(cur);
+            }
+        }
+        return cur;
+    }
+
+    // Take a slot from the free-list, or a fresh one, adding a chunk if needed
+    private int allocate(T data) {
+        ensureOpen();
+        if (data == null) {
+            throw new NullPointerException();
+        }
+
+        int slot;
+        if (freeHead != NIL) {
+            slot = freeHead;
+            freeHead = next(slot);
+        } else {
+            if (used == chunkCount * SLOTS_PER_CHUNK) {
+                addChunk();
+            }
+            slot = used++;
+        }
+        codec.write(data, chunk(slot), offset(slot) + RECORD);
+        return slot;
+    }
+
+    // Unlink a slot, push it on the free-list and return its element
+    private T unlink(int slot) {
+        int p = prev(slot);
+        int n = next(slot);
+
+        if (p != NIL) {
+            setNext(p, n);
+        } else {
+            head = n;
+        }
+
+        if (n != NIL) {
+            setPrev(n, p);
+        } else {
+            tail = p;
+        }
+
+        T data = read(slot);
+        setNext(slot, freeHead);
+        freeHead = slot;
+        size--;
+        return data;
+    }
+
+    private void addChunk() {
+        if (chunkCount == (Integer.MAX_VALUE >>> CHUNK_SHIFT)) {
+            throw new IllegalStateException("List is full");
+        }
+        int chunkBytes = SLOTS_PER_CHUNK * slotSize;
+        ByteBuffer chunk;
+        if (file == null) {
+            chunk = ByteBuffer.allocateDirect(chunkBytes);
+        } else {
+            try {
+                chunk = file.map(FileChannel.MapMode.READ_WRITE, (long) chunkCount * chunkBytes, chunkBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(4, chunkCount * 2));
+        }
+        chunks[chunkCount++] = chunk;
+    }
+
+    private static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // Leave it to the garbage collector
+        }
+    }
+}
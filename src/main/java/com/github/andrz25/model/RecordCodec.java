@@ -0,0 +1,73 @@
+package com.github.andrz25.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from fixed-width binary records, used by
+ * structures that keep their elements outside of the Java heap.
+ *
+ * @param <T> the type of the elements
+ */
+public interface RecordCodec<T> {
+
+    /** Codec for {@link Integer} elements, 4 bytes each. */
+    RecordCodec<Integer> INT = new RecordCodec<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /** Codec for {@link Long} elements, 8 bytes each. */
+    RecordCodec<Long> LONG = new RecordCodec<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Gets the number of bytes of every record
+     *
+     * @return the record width in bytes
+     */
+    int width();
+
+    /**
+     * Writes an element as a record, using absolute positioning only
+     *
+     * @param value the element to write, never null
+     * @param buffer the buffer receiving the record
+     * @param offset the position of the first byte of the record
+     */
+    void write(T value, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads the element stored in a record, using absolute positioning only
+     *
+     * @param buffer the buffer holding the record
+     * @param offset the position of the first byte of the record
+     * @return the decoded element
+     */
+    T read(ByteBuffer buffer, int offset);
+}
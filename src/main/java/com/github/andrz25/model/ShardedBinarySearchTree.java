@@ -0,0 +1,577 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.api.BinarySearchTree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe Binary Search Tree whose key space is split into ranges, each held by its own
+ * {@link MyBinarySearchTree} behind its own lock, so writers to different ranges do not wait for each
+ * other.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Range Partitioning:</b> Shard i holds the keys from its lower bound (inclusive) to the next
+ * shard's lower bound (exclusive). A key is routed by a binary search over the lower bounds, then
+ * only that shard is locked, with a read lock for <code>contains</code> and a write lock for changes.
+ * Keeping ranges rather than hashing keeps the shards in key order, so an ordered traversal reads them
+ * one after the other and never has to merge them.
+ * </li>
+ * <li>
+ * <b>Sampled Boundaries:</b> Given a sample of the expected keys, the initial bounds are its quantiles,
+ * so each shard starts with an equal share of the keys.
+ * </li>
+ * <li>
+ * <b>Adaptive Splits and Merges:</b> Every shard counts its writes. Each time a shard has seen another
+ * <code>checkInterval</code> of them, the shards' shares of the writes since the previous check are
+ * compared. A shard taking at least twice the average share is split at its median key. At
+ * <code>maxShards</code> the coldest adjacent pair is merged first, if it is much colder, but never
+ * below the initial shard count. Rebalancing is done by
+ * one thread at a time and is skipped if another thread is already doing it. The shards being split or
+ * merged are rebuilt, balanced, under their write locks, which blocks their writers for O(shard size).
+ * </li>
+ * <li>
+ * <b>Retired Shards:</b> The shard list is an immutable array that is replaced as a whole. A shard that
+ * is split or merged is marked retired before its write lock is released. An operation that finds its
+ * shard retired after locking it routes again with the new list, so no operation is lost to a
+ * concurrent split.
+ * </li>
+ * <li>
+ * <b>Weakly Consistent Iteration:</b> {@link #rangeIterator} reads the shards in batches, each under
+ * that shard's read lock, and resumes after the last key returned. It never throws because of
+ * concurrent changes and never returns a key twice, but a key may or may not be seen if it is
+ * changed during the iteration, as with the iterators of <code>java.util.concurrent</code>.
+ * </li>
+ * </ul>
+ *
+ * <h2>Complexity Summary</h2>
+ * <table border="1">
+ * <tr>
+ * <th>Operation</th>
+ * <th>Time</th>
+ * </tr>
+ * <tr>
+ * <td>insert/contains/delete</td>
+ * <td>O(log s) to route among s shards, plus O(h) in the shard</td>
+ * </tr>
+ * <tr>
+ * <td>split/merge</td>
+ * <td>O(shard size), amortized over <code>checkInterval</code> writes</td>
+ * </tr>
+ * <tr>
+ * <td>size</td>
+ * <td>O(number of threads), the sum of a striped counter</td>
+ * </tr>
+ * </table>
+ *
+ * @param <T> the type of elements maintained by this tree, must extend Comparable
+ */
+public class ShardedBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int DEFAULT_MIN_SHARDS = 16;
+    private static final int DEFAULT_MAX_SHARDS = 64;
+    private static final int DEFAULT_CHECK_INTERVAL = 1 << 14;
+    private static final int BATCH = 256;
+
+    private static final class Shard<T extends Comparable<T>> {
+        // null for the first shard's lower bound and the last shard's upper bound
+        final T lower;
+        final T upper;
+        final MyBinarySearchTree<T> tree;
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final AtomicLong writes = new AtomicLong();
+        // Writes counted at the previous rebalancing check, only used by the rebalancing thread
+        long checkpoint;
+        // Set under the write lock once the keys have moved to other shards
+        boolean retired;
+
+        Shard(T lower, T upper, MyBinarySearchTree<T> tree) {
+            this.lower = lower;
+            this.upper = upper;
+            this.tree = tree;
+        }
+    }
+
+    private volatile Shard<T>[] shards;
+    private final ReentrantLock resizeLock = new ReentrantLock();
+    private final LongAdder size = new LongAdder();
+    private final int minShards;
+    private final int maxShards;
+    private final int checkInterval;
+
+    // Only changed under the resize lock
+    private volatile long splits;
+    private volatile long merges;
+
+    /**
+     * Creates a tree that starts with a single shard and splits the busiest one as writes arrive,
+     * until there are {@value #DEFAULT_MIN_SHARDS}, so the bounds are learnt from the keys written.
+     */
+    public ShardedBinarySearchTree() {
+        this(List.of(), 1, DEFAULT_MIN_SHARDS, DEFAULT_MAX_SHARDS, DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * Creates a tree whose initial shard bounds are the quantiles of a sample of the keys.
+     *
+     * @param sample keys expected to be inserted, in any order
+     * @param shards the initial number of shards, fewer if the sample has fewer distinct keys
+     */
+    public ShardedBinarySearchTree(Collection<? extends T> sample, int shards) {
+        this(sample, shards, Math.max(shards, DEFAULT_MAX_SHARDS), DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * Creates a tree whose initial shard bounds are the quantiles of a sample of the keys.
+     *
+     * @param sample keys expected to be inserted, in any order
+     * @param shards the initial number of shards, fewer if the sample has fewer distinct keys
+     * @param maxShards the most shards that splitting may create, merging never goes below shards
+     * @param checkInterval the number of writes to a shard between rebalancing checks
+     */
+    public ShardedBinarySearchTree(Collection<? extends T> sample, int shards, int maxShards, int checkInterval) {
+        this(sample, shards, shards, maxShards, checkInterval);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ShardedBinarySearchTree(Collection<? extends T> sample, int shards, int minShards, int maxShards,
+                                    int checkInterval) {
+        if (shards <= 0 || maxShards < Math.max(shards, minShards)) {
+            throw new IllegalArgumentException("need 0 < shards <= maxShards");
+        }
+        if (checkInterval <= 0) {
+            throw new IllegalArgumentException("checkInterval must be positive");
+        }
+        this.minShards = minShards;
+        this.maxShards = maxShards;
+        this.checkInterval = checkInterval;
+
+        Object[] sorted = sample.stream().distinct().sorted().toArray();
+        List<T> lowers = new ArrayList<>();
+        lowers.add(null);
+        for (int i = 1; i < shards && sorted.length > 0; i++) {
+            T bound = (T) sorted[(int) ((long) i * sorted.length / shards)];
+            if (lowers.get(lowers.size() - 1) == null || bound.compareTo(lowers.get(lowers.size() - 1)) > 0) {
+                lowers.add(bound);
+            }
+        }
+        Shard<T>[] initial = new Shard[lowers.size()];
+        for (int i = 0; i < initial.length; i++) {
+            T upper = (i + 1 < initial.length) ? lowers.get(i + 1) : null;
+            initial[i] = new Shard<>(lowers.get(i), upper, new MyBinarySearchTree<>());
+        }
+        this.shards = initial;
+    }
+
+    ///////////////// Core Operations/////////////////
+
+    // Insert into the shard covering the key
+    @Override
+    public void insert(T data) {
+        Objects.requireNonNull(data, "data");
+        Shard<T> shard = lock(data, true);
+        long writes;
+        try {
+            int before = shard.tree.size();
+            shard.tree.insert(data);
+            size.add(shard.tree.size() - before);
+            writes = shard.writes.incrementAndGet();
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+        if (writes % checkInterval == 0) {
+            rebalance();
+        }
+    }
+
+    // Search the shard covering the key under its read lock
+    @Override
+    public boolean contains(T data) {
+        Objects.requireNonNull(data, "data");
+        Shard<T> shard = lock(data, false);
+        try {
+            return shard.tree.contains(data);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    // Delete from the shard covering the key
+    @Override
+    public void delete(T data) {
+        Objects.requireNonNull(data, "data");
+        Shard<T> shard = lock(data, true);
+        long writes;
+        try {
+            int before = shard.tree.size();
+            shard.tree.delete(data);
+            size.add(shard.tree.size() - before);
+            writes = shard.writes.incrementAndGet();
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+        if (writes % checkInterval == 0) {
+            rebalance();
+        }
+    }
+
+    // Locks the live shard covering the key, routing again if it was retired meanwhile
+    private Shard<T> lock(T key, boolean write) {
+        while (true) {
+            Shard<T> shard = route(shards, key);
+            Lock lock = write ? shard.lock.writeLock() : shard.lock.readLock();
+            lock.lock();
+            if (!shard.retired) {
+                return shard;
+            }
+            lock.unlock();
+        }
+    }
+
+    // The shard with the greatest lower bound not above the key, null keys go to the first shard
+    private static <T extends Comparable<T>> Shard<T> route(Shard<T>[] shards, T key) {
+        int low = 0;
+        int high = shards.length - 1;
+        if (key == null) {
+            return shards[0];
+        }
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (key.compareTo(shards[mid].lower) >= 0) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return shards[low];
+    }
+
+    ///////////////// Rebalancing/////////////////
+
+    // Splits a shard taking too many of the writes, merging the coldest pair first if at the limit
+    private void rebalance() {
+        if (!resizeLock.tryLock()) {
+            return;
+        }
+        try {
+            Shard<T>[] current = shards;
+            long[] recent = new long[current.length];
+            long total = 0;
+            int hottest = 0;
+            for (int i = 0; i < current.length; i++) {
+                long writes = current[i].writes.get();
+                recent[i] = writes - current[i].checkpoint;
+                current[i].checkpoint = writes;
+                total += recent[i];
+                if (recent[i] > recent[hottest]) {
+                    hottest = i;
+                }
+            }
+            // Hot means at least twice the average share, or any load while below the minimum
+            int n = current.length;
+            if (total == 0 || (n >= minShards && n > 1 && recent[hottest] * n < 2 * total)) {
+                return;
+            }
+
+            if (n == maxShards) {
+                if (n == minShards) {
+                    return;
+                }
+                int coldest = -1;
+                for (int i = 0; i + 1 < current.length; i++) {
+                    if (i + 1 != hottest && i != hottest
+                            && (coldest < 0 || recent[i] + recent[i + 1] < recent[coldest] + recent[coldest + 1])) {
+                        coldest = i;
+                    }
+                }
+                if (coldest < 0 || 2 * (recent[coldest] + recent[coldest + 1]) >= recent[hottest]) {
+                    return;
+                }
+                merge(coldest);
+                if (coldest < hottest) {
+                    hottest--;
+                }
+            }
+            split(hottest);
+        } finally {
+            resizeLock.unlock();
+        }
+    }
+
+    // Replaces shard i with two shards split at its median key
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void split(int i) {
+        Shard<T>[] current = shards;
+        Shard<T> shard = current[i];
+        shard.lock.writeLock().lock();
+        try {
+            Object[] keys = keys(shard.tree);
+            if (keys.length < 2) {
+                return;
+            }
+            int median = keys.length / 2;
+            T bound = (T) keys[median];
+            Shard<T> left = new Shard<>(shard.lower, bound, balanced(keys, 0, median));
+            Shard<T> right = new Shard<>(bound, shard.upper, balanced(keys, median, keys.length));
+
+            Shard<T>[] next = new Shard[current.length + 1];
+            System.arraycopy(current, 0, next, 0, i);
+            next[i] = left;
+            next[i + 1] = right;
+            System.arraycopy(current, i + 1, next, i + 2, current.length - i - 1);
+            shards = next;
+            shard.retired = true;
+            splits++;
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    // Replaces shards i and i + 1 with one shard
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void merge(int i) {
+        Shard<T>[] current = shards;
+        Shard<T> first = current[i];
+        Shard<T> second = current[i + 1];
+        // Locks are always taken in key order
+        first.lock.writeLock().lock();
+        second.lock.writeLock().lock();
+        try {
+            Object[] low = keys(first.tree);
+            Object[] high = keys(second.tree);
+            Object[] keys = Arrays.copyOf(low, low.length + high.length);
+            System.arraycopy(high, 0, keys, low.length, high.length);
+            Shard<T> merged = new Shard<>(first.lower, second.upper, balanced(keys, 0, keys.length));
+
+            Shard<T>[] next = new Shard[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            next[i] = merged;
+            System.arraycopy(current, i + 2, next, i + 1, current.length - i - 2);
+            shards = next;
+            first.retired = true;
+            second.retired = true;
+            merges++;
+        } finally {
+            second.lock.writeLock().unlock();
+            first.lock.writeLock().unlock();
+        }
+    }
+
+    private static Object[] keys(MyBinarySearchTree<?> tree) {
+        Object[] keys = new Object[tree.size()];
+        Iterator<?> it = tree.rangeIterator(null, null);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = it.next();
+        }
+        return keys;
+    }
+
+    // Inserting the middle key first, then each half the same way, gives a tree of height log n
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> MyBinarySearchTree<T> balanced(Object[] keys, int from, int to) {
+        MyBinarySearchTree<T> tree = new MyBinarySearchTree<>();
+        ArrayDeque<int[]> ranges = new ArrayDeque<>();
+        ranges.add(new int[] {from, to});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.poll();
+            if (range[0] >= range[1]) {
+                continue;
+            }
+            int mid = (range[0] + range[1]) >>> 1;
+            tree.insert((T) keys[mid]);
+            ranges.add(new int[] {range[0], mid});
+            ranges.add(new int[] {mid + 1, range[1]});
+        }
+        return tree;
+    }
+
+    ///////////////// Traversals/////////////////
+
+    /**
+     * Prints every element in ascending order, reading the shards one after the other.
+     */
+    @Override
+    public void inOrderTraversal() {
+        Iterator<T> it = rangeIterator(null, null);
+        while (it.hasNext()) {
+            System.out.print(it.next() + " ");
+        }
+    }
+
+    /**
+     * Performs a pre-order traversal of each shard, in shard order.
+     */
+    @Override
+    public void preOrderTraversal() {
+        forEachShard(MyBinarySearchTree::preOrderTraversal);
+    }
+
+    /**
+     * Performs a post-order traversal of each shard, in shard order.
+     */
+    @Override
+    public void postOrderTraversal() {
+        forEachShard(MyBinarySearchTree::postOrderTraversal);
+    }
+
+    /**
+     * Performs a level-order traversal of each shard, in shard order.
+     */
+    @Override
+    public void levelOrderTraversal() {
+        forEachShard(MyBinarySearchTree::levelOrderTraversal);
+    }
+
+    /**
+     * Returns the elements between two bounds in ascending order. The iterator is weakly consistent
+     * and holds no lock between calls.
+     *
+     * @param from the lowest element to return (inclusive), or null for no lower bound
+     * @param to the highest element to return (inclusive), or null for no upper bound
+     * @return an iterator over the elements in range
+     */
+    public Iterator<T> rangeIterator(T from, T to) {
+        return new Iterator<>() {
+            private final ArrayDeque<T> batch = new ArrayDeque<>(BATCH);
+            // Where the next batch starts, and whether that key itself was already returned
+            private T cursor = from;
+            private boolean cursorReturned;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                while (batch.isEmpty() && !done) {
+                    fill();
+                }
+                return !batch.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return batch.poll();
+            }
+
+            private void fill() {
+                Shard<T> shard = lock(cursor, false);
+                try {
+                    Iterator<T> it = shard.tree.rangeIterator(cursor, to);
+                    while (it.hasNext() && batch.size() < BATCH) {
+                        T key = it.next();
+                        if (!cursorReturned || key.compareTo(cursor) != 0) {
+                            batch.add(key);
+                        }
+                    }
+                    if (batch.size() == BATCH) {
+                        // Resume after the last key of this batch
+                        cursor = batch.peekLast();
+                        cursorReturned = true;
+                    } else if (shard.upper == null || (to != null && shard.upper.compareTo(to) > 0)) {
+                        done = true;
+                    } else {
+                        // Nothing more in this shard, continue at the next one
+                        cursor = shard.upper;
+                        cursorReturned = false;
+                    }
+                } finally {
+                    shard.lock.readLock().unlock();
+                }
+            }
+        };
+    }
+
+    // Runs an action on every shard, holding all read locks so the shards cannot change meanwhile
+    private void forEachShard(Consumer<MyBinarySearchTree<T>> action) {
+        while (true) {
+            Shard<T>[] current = shards;
+            int locked = 0;
+            try {
+                for (Shard<T> shard : current) {
+                    shard.lock.readLock().lock();
+                    locked++;
+                    if (shard.retired) {
+                        break;
+                    }
+                }
+                if (locked == current.length && !current[locked - 1].retired) {
+                    for (Shard<T> shard : current) {
+                        action.accept(shard.tree);
+                    }
+                    return;
+                }
+            } finally {
+                for (int i = 0; i < locked; i++) {
+                    current[i].lock.readLock().unlock();
+                }
+            }
+        }
+    }
+
+    ///////////////// Properties/////////////////
+
+    /**
+     * Gets the height of the tallest shard, the routing adds log2 of the shard count comparisons.
+     *
+     * @return the height of the tallest shard, -1 if the tree is empty
+     */
+    @Override
+    public int height() {
+        int[] height = {-1};
+        forEachShard(tree -> height[0] = Math.max(height[0], tree.height()));
+        return height[0];
+    }
+
+    // Number of elements, summed over the threads' counter cells
+    @Override
+    public int size() {
+        return (int) size.sum();
+    }
+
+    // Check if empty
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the current number of shards
+     *
+     * @return the shard count
+     */
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * Gets how many times a shard was split in two
+     *
+     * @return the split count
+     */
+    public long splitCount() {
+        return splits;
+    }
+
+    /**
+     * Gets how many times two shards were merged
+     *
+     * @return the merge count
+     */
+    public long mergeCount() {
+        return merges;
+    }
+}
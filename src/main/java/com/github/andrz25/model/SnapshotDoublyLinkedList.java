@@ -0,0 +1,533 @@
+package com.github.andrz25.model;
+
+import com.github.andrz25.api.DoublyLinkedList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A Doubly Linked List whose readers iterate consistent snapshots without ever blocking writers.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Versioned Nodes:</b> Every mutation advances a version number. A node records the version
+ * that inserted it and, once removed, the version that removed it. A snapshot taken at version
+ * <i>v</i> sees exactly the nodes with <code>born &lt;= v &lt; died</code>, so it keeps seeing the
+ * list as it was while the writer goes on inserting and removing. Nothing is copied: a write
+ * costs one node and a few link updates, not a copy of the list like <code>CopyOnWriteArrayList</code>.
+ * </li>
+ * <li>
+ * <b>Single Writer, Lock-Free Readers:</b> Mutations are serialized by a lock. Readers follow only
+ * the volatile <code>next</code> links of the physical chain and never take the lock. A new node is
+ * fully built before it is linked, so readers never see a half-linked node. The writer publishes
+ * with release stores instead of full fences, which is enough since readers start by reading the
+ * version. The writer keeps a separate doubly linked chain of the live nodes, so its own end
+ * operations stay O(1).
+ * </li>
+ * <li>
+ * <b>Deferred Unlinking:</b> Removed nodes stay in the physical chain while a snapshot that can still
+ * see them is open. Readers pin their version in one of {@value #MAX_SNAPSHOTS} slots before
+ * walking, and the writer only unlinks nodes removed at or before the oldest pinned version. A
+ * pinned reader checks the writer's announced reclaim horizon after pinning and retries if it lost
+ * the race. Unlinking is done in sweeps once enough removed nodes have piled up, so it is amortized
+ * O(1) per removal. A snapshot that stays open keeps every node removed after it in memory, so
+ * snapshots should be closed promptly.
+ * </li>
+ * <li>
+ * <b>Reads Through Snapshots:</b> <code>getFirst</code>, <code>getLast</code>, <code>getAt</code>,
+ * <code>contains</code> and <code>indexOf</code> may be called from any thread. They open a short
+ * snapshot, so <code>getLast</code> walks the list and is O(n).
+ * </li>
+ * </ul>
+ *
+ * <p>Null elements are not allowed, since null is returned for an empty list.</p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public class SnapshotDoublyLinkedList<T> implements DoublyLinkedList<T> {
+
+    private static final int MAX_SNAPSHOTS = 64;
+    private static final long FREE = Long.MAX_VALUE;
+    private static final int MIN_SWEEP = 64;
+
+    private static final class VersionedNode<T> {
+        final T data;
+        final long born;
+        // Zero while the node is live
+        volatile long died;
+        volatile VersionedNode<T> next;
+
+        // Live chain, only used by the writer
+        VersionedNode<T> livePrev;
+        VersionedNode<T> liveNext;
+
+        VersionedNode(T data, long born) {
+            this.data = data;
+            this.born = born;
+        }
+    }
+
+    /**
+     * A consistent view of the list at one version. Must be closed so the
+     * nodes it can see may be reclaimed. Not thread-safe.
+     */
+    public final class Snapshot implements Iterable<T>, AutoCloseable {
+        private final long version;
+        private final int slot;
+        private boolean closed;
+
+        private Snapshot(long version, int slot) {
+            this.version = version;
+            this.slot = slot;
+        }
+
+        /**
+         * Gets the version of the list this snapshot sees
+         *
+         * @return the version
+         */
+        public long version() {
+            return version;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            ensureOpen();
+            return new Iterator<>() {
+                private VersionedNode<T> next = visibleFrom(head.next);
+
+                @Override
+                public boolean hasNext() {
+                    ensureOpen();
+                    return next != null;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    T data = next.data;
+                    next = visibleFrom(next.next);
+                    return data;
+                }
+            };
+        }
+
+        // Releases the pinned version. Calling close again has no effect
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                pins.set(slot, FREE);
+            }
+        }
+
+        private VersionedNode<T> visibleFrom(VersionedNode<T> node) {
+            while (node != null && (node.born > version || isDeadAt(node, version))) {
+                node = node.next;
+            }
+            return node;
+        }
+
+        private void ensureOpen() {
+            if (closed) {
+                throw new IllegalStateException("Snapshot is closed");
+            }
+        }
+    }
+
+    private static final VarHandle NEXT;
+    private static final VarHandle DIED;
+    private static final VarHandle VERSION;
+    private static final VarHandle SIZE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(VersionedNode.class, "next", VersionedNode.class);
+            DIED = lookup.findVarHandle(VersionedNode.class, "died", long.class);
+            VERSION = lookup.findVarHandle(SnapshotDoublyLinkedList.class, "version", long.class);
+            SIZE = lookup.findVarHandle(SnapshotDoublyLinkedList.class, "size", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Physical chain read by snapshots, starting after the sentinel
+    private final VersionedNode<T> head = new VersionedNode<>(null, 0);
+    private final AtomicLongArray pins = new AtomicLongArray(MAX_SNAPSHOTS);
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile long version;
+    private volatile long horizon;
+    private volatile int size;
+
+    // Guarded by writeLock
+    private VersionedNode<T> physicalTail = head;
+    private VersionedNode<T> first;
+    private VersionedNode<T> last;
+    private int retired;
+    private int sweepAt = MIN_SWEEP;
+
+    public SnapshotDoublyLinkedList() {
+        for (int i = 0; i < MAX_SNAPSHOTS; i++) {
+            pins.set(i, FREE);
+        }
+    }
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head
+    @Override
+    public void addFirst(T data) {
+        checkNotNull(data);
+        writeLock.lock();
+        try {
+            long v = version + 1;
+            VersionedNode<T> node = new VersionedNode<>(data, v);
+            linkAfter(head, node);
+            linkLive(null, node);
+            SIZE.setRelease(this, size + 1);
+            VERSION.setRelease(this, v);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Insert at the tail
+    @Override
+    public void addLast(T data) {
+        checkNotNull(data);
+        writeLock.lock();
+        try {
+            long v = version + 1;
+            VersionedNode<T> node = new VersionedNode<>(data, v);
+            linkAfter(physicalTail, node);
+            linkLive(last, node);
+            SIZE.setRelease(this, size + 1);
+            VERSION.setRelease(this, v);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Insert at a given index
+    @Override
+    public void insertAt(int index, T data) {
+        checkNotNull(data);
+        writeLock.lock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            long v = version + 1;
+            VersionedNode<T> node = new VersionedNode<>(data, v);
+            VersionedNode<T> pred = (index == 0) ? null : liveNode(index - 1);
+            linkAfter((pred == null) ? head : pred, node);
+            linkLive(pred, node);
+            SIZE.setRelease(this, size + 1);
+            VERSION.setRelease(this, v);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head
+    @Override
+    public T removeFirst() {
+        writeLock.lock();
+        try {
+            return (first == null) ? null : remove(first);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Remove from tail
+    @Override
+    public T removeLast() {
+        writeLock.lock();
+        try {
+            return (last == null) ? null : remove(last);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Remove from a given index
+    @Override
+    public T removeAt(int index) {
+        writeLock.lock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            return remove(liveNode(index));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    ///////////////// Snapshots/////////////////
+
+    /**
+     * Opens a snapshot of the current version. Never blocks the writer;
+     * waits only if {@value #MAX_SNAPSHOTS} snapshots are already open.
+     *
+     * @return the snapshot, to be closed after use
+     */
+    public Snapshot snapshot() {
+        int start = (int) Thread.currentThread().getId();
+        while (true) {
+            long v = version;
+            int slot = pin(start, v);
+            // The writer announces its horizon before reading the pins, so one of us sees the other
+            if (horizon <= v) {
+                return new Snapshot(v, slot);
+            }
+            pins.set(slot, FREE);
+        }
+    }
+
+    private int pin(int start, long v) {
+        for (int attempt = 0; ; attempt++) {
+            int i = (start + attempt) & (MAX_SNAPSHOTS - 1);
+            if (pins.get(i) == FREE && pins.compareAndSet(i, FREE, v)) {
+                return i;
+            }
+            if ((attempt & (MAX_SNAPSHOTS - 1)) == MAX_SNAPSHOTS - 1) {
+                Thread.yield();
+            }
+        }
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element
+    @Override
+    public T getFirst() {
+        try (Snapshot snapshot = snapshot()) {
+            Iterator<T> it = snapshot.iterator();
+            return it.hasNext() ? it.next() : null;
+        }
+    }
+
+    // Get tail element, O(n) walk of a snapshot
+    @Override
+    public T getLast() {
+        try (Snapshot snapshot = snapshot()) {
+            T lastSeen = null;
+            for (T data : snapshot) {
+                lastSeen = data;
+            }
+            return lastSeen;
+        }
+    }
+
+    // Get element at index
+    @Override
+    public T getAt(int index) {
+        if (index < 0) {
+            return null;
+        }
+        try (Snapshot snapshot = snapshot()) {
+            int i = 0;
+            for (T data : snapshot) {
+                if (i++ == index) {
+                    return data;
+                }
+            }
+            return null;
+        }
+    }
+
+    ///////////////// Utility/////////////////
+
+    // Number of elements at the latest version, O(1)
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Check if empty
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Remove all elements, O(n) since every node is marked
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            long v = version + 1;
+            for (VersionedNode<T> cur = first; cur != null; cur = cur.liveNext) {
+                DIED.setRelease(cur, v);
+                retired++;
+            }
+            first = null;
+            last = null;
+            SIZE.setRelease(this, 0);
+            VERSION.setRelease(this, v);
+            sweepIfDue();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    ///////////////// Search/////////////////
+
+    // Check existence
+    @Override
+    public boolean contains(T data) {
+        return indexOf(data) >= 0;
+    }
+
+    // First index of element
+    @Override
+    public int indexOf(T data) {
+        try (Snapshot snapshot = snapshot()) {
+            int index = 0;
+            for (T element : snapshot) {
+                if (element.equals(data)) {
+                    return index;
+                }
+                index++;
+            }
+            return -1;
+        }
+    }
+
+    // Number of nodes still in the physical chain, removed or not
+    int physicalSize() {
+        int count = 0;
+        for (VersionedNode<T> cur = head.next; cur != null; cur = cur.next) {
+            count++;
+        }
+        return count;
+    }
+
+    ///////////////// Writer Helpers/////////////////
+
+    private static void checkNotNull(Object data) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    // Publish a fully built node in the physical chain
+    private void linkAfter(VersionedNode<T> pred, VersionedNode<T> node) {
+        // The node is not reachable yet, a plain store is enough until pred publishes it
+        NEXT.set(node, pred.next);
+        NEXT.setRelease(pred, node);
+        if (pred == physicalTail) {
+            physicalTail = node;
+        }
+    }
+
+    // Link a node into the live chain after pred, or first if pred is null
+    private void linkLive(VersionedNode<T> pred, VersionedNode<T> node) {
+        VersionedNode<T> succ = (pred == null) ? first : pred.liveNext;
+        node.livePrev = pred;
+        node.liveNext = succ;
+        if (pred == null) {
+            first = node;
+        } else {
+            pred.liveNext = node;
+        }
+        if (succ == null) {
+            last = node;
+        } else {
+            succ.livePrev = node;
+        }
+    }
+
+    // Walk the live chain from the nearer end
+    private VersionedNode<T> liveNode(int index) {
+        VersionedNode<T> cur;
+        if (index < size / 2) {
+            cur = first;
+            for (int i = 0; i < index; i++) {
+                cur = cur.liveNext;
+            }
+        } else {
+            cur = last;
+            for (int i = size - 1; i > index; i--) {
+                cur = cur.livePrev;
+            }
+        }
+        return cur;
+    }
+
+    // Mark a node removed at a new version and take it out of the live chain
+    private T remove(VersionedNode<T> node) {
+        long v = version + 1;
+        DIED.setRelease(node, v);
+
+        VersionedNode<T> pred = node.livePrev;
+        VersionedNode<T> succ = node.liveNext;
+        if (pred == null) {
+            first = succ;
+        } else {
+            pred.liveNext = succ;
+        }
+        if (succ == null) {
+            last = pred;
+        } else {
+            succ.livePrev = pred;
+        }
+        node.livePrev = null;
+        node.liveNext = null;
+
+        SIZE.setRelease(this, size - 1);
+        retired++;
+        VERSION.setRelease(this, v);
+        sweepIfDue();
+        return node.data;
+    }
+
+    // Unlink every removed node no open snapshot can see, once enough have piled up
+    private void sweepIfDue() {
+        if (retired < sweepAt) {
+            return;
+        }
+        long h = reclaimHorizon();
+
+        // Unlinked nodes keep their next link, so a reader standing on one can still move on
+        VersionedNode<T> pred = head;
+        for (VersionedNode<T> cur = head.next; cur != null; cur = cur.next) {
+            if (isDeadAt(cur, h)) {
+                NEXT.setRelease(pred, cur.next);
+                retired--;
+            } else {
+                pred = cur;
+            }
+        }
+        physicalTail = pred;
+        sweepAt = retired + Math.max(MIN_SWEEP, size / 2);
+    }
+
+    private static boolean isDeadAt(VersionedNode<?> node, long version) {
+        long died = node.died;
+        return died != 0 && died <= version;
+    }
+
+    // The oldest version any snapshot may still be reading
+    private long reclaimHorizon() {
+        long h = version;
+        horizon = h;
+        for (int i = 0; i < MAX_SNAPSHOTS; i++) {
+            h = Math.min(h, pins.get(i));
+        }
+        horizon = h;
+        return h;
+    }
+}
@@ -0,0 +1,291 @@
+package com.github.andrz25.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the K items with the highest counts while increments stream in, e.g. the bestseller list
+ * from a stream of sales.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Indexed Min-Heap:</b> The leaders are kept in a binary min-heap ordered by count, and each
+ * counter remembers its slot in the heap. Incrementing a leader sifts it down from its own slot and
+ * never searches for it. An item outside the heap only has to beat the root, the smallest leader,
+ * to replace it.
+ * </li>
+ * <li>
+ * <b>Exact Mode:</b> With {@link #TopKTracker(int)} every item gets a counter in a {@link HashMap},
+ * so the counts and the top K are exact. Since counts only grow, an item leaves the heap only when
+ * another one passes it, and an item outside the heap can only enter it when it is incremented. That
+ * is why deltas must be positive. Memory grows with the number of distinct items.
+ * </li>
+ * <li>
+ * <b>Space-Saving Mode:</b> With {@link #TopKTracker(int, int)} only a fixed number of counters is
+ * kept, all of them in the heap. A new item takes over the counter with the smallest count, inheriting
+ * that count as its possible overcount (Metwally et al., "Efficient Computation of Frequent and Top-k
+ * Elements in Data Streams"). Memory is bounded however many distinct items arrive. Every item whose
+ * true count exceeds the total of all increments divided by the number of counters is guaranteed to
+ * be monitored, and {@link Entry#error()} bounds how much each count is overestimated.
+ * </li>
+ * <li>
+ * <b>Counter Objects Are Reused:</b> A Space-Saving eviction relabels the victim's counter instead of
+ * allocating a new one, so a full tracker processes events without creating garbage.
+ * </li>
+ * <li>
+ * <b>Not Thread-Safe:</b> Like the other structures in this project the tracker is not synchronized.
+ * Callers sharing it between threads must guard it with a lock.
+ * </li>
+ * </ul>
+ *
+ * <h2>Complexity Summary</h2>
+ * <table border="1">
+ * <tr>
+ * <th>Operation</th>
+ * <th>Time</th>
+ * </tr>
+ * <tr>
+ * <td>increment</td>
+ * <td>O(1) expected for the lookup, plus O(log K) (exact) or O(log m) (Space-Saving, m counters) to sift</td>
+ * </tr>
+ * <tr>
+ * <td>top</td>
+ * <td>O(K log K) exact, O(m log m) Space-Saving, to rank the counters</td>
+ * </tr>
+ * <tr>
+ * <td>count</td>
+ * <td>O(1) expected</td>
+ * </tr>
+ * </table>
+ *
+ * @param <T> the type of the items
+ */
+public class TopKTracker<T> {
+
+    /**
+     * An item and its count
+     *
+     * @param item the item
+     * @param count the count, an upper bound in Space-Saving mode
+     * @param error how much the count may overestimate, always 0 in exact mode
+     */
+    public record Entry<T>(T item, long count, long error) {
+    }
+
+    private static final class Counter<T> {
+        T item;
+        long count;
+        long error;
+        // Position in the heap, -1 when not a leader
+        int slot = -1;
+
+        Counter(T item) {
+            this.item = item;
+        }
+    }
+
+    private final int k;
+    private final boolean exact;
+
+    private final Map<T, Counter<T>> counters;
+    private final Counter<T>[] heap;
+    private int size;
+
+    private long total;
+
+    /**
+     * Creates an exact tracker, which counts every item
+     *
+     * @param k the number of leaders to keep
+     */
+    public TopKTracker(int k) {
+        this(k, k, true);
+    }
+
+    /**
+     * Creates an approximate Space-Saving tracker with a fixed number of counters
+     *
+     * @param k the number of leaders reported by {@link #top()}
+     * @param counters the number of items monitored, at least k; more counters give smaller errors
+     */
+    public TopKTracker(int k, int counters) {
+        this(k, counters, false);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TopKTracker(int k, int capacity, boolean exact) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        if (capacity < k) {
+            throw new IllegalArgumentException("counters must be at least k");
+        }
+        this.k = k;
+        this.exact = exact;
+        this.counters = new HashMap<>(exact ? 16 : (int) (capacity / 0.75f) + 1);
+        this.heap = (Counter<T>[]) new Counter[capacity];
+    }
+
+    ///////////////// Updates/////////////////
+
+    /**
+     * Adds one to the count of the item
+     *
+     * @param item the item
+     */
+    public void increment(T item) {
+        increment(item, 1);
+    }
+
+    /**
+     * Adds delta to the count of the item
+     *
+     * @param item the item
+     * @param delta the amount to add, positive
+     */
+    public void increment(T item, long delta) {
+        Objects.requireNonNull(item, "item");
+        if (delta <= 0) {
+            throw new IllegalArgumentException("delta must be positive");
+        }
+        total += delta;
+
+        Counter<T> counter = counters.get(item);
+        if (counter == null) {
+            if (!exact && size == heap.length) {
+                // Take over the smallest counter, whose count becomes the overcount
+                counter = heap[0];
+                counters.remove(counter.item);
+                counter.item = item;
+                counter.error = counter.count;
+                counter.count += delta;
+                counters.put(item, counter);
+                siftDown(0);
+                return;
+            }
+            counter = new Counter<>(item);
+            counters.put(item, counter);
+        }
+        counter.count += delta;
+
+        if (counter.slot >= 0) {
+            // A larger count moves towards the leaves of the min-heap
+            siftDown(counter.slot);
+        } else if (size < heap.length) {
+            counter.slot = size;
+            heap[size++] = counter;
+            siftUp(counter.slot);
+        } else if (counter.count > heap[0].count) {
+            // Replace the smallest leader
+            heap[0].slot = -1;
+            counter.slot = 0;
+            heap[0] = counter;
+            siftDown(0);
+        }
+    }
+
+    ///////////////// Queries/////////////////
+
+    /**
+     * Returns the leaders
+     *
+     * @return up to k entries in descending count order
+     */
+    public List<Entry<T>> top() {
+        Counter<T>[] ranked = Arrays.copyOf(heap, size);
+        Arrays.sort(ranked, Comparator.comparingLong((Counter<T> counter) -> counter.count).reversed());
+
+        List<Entry<T>> result = new ArrayList<>(Math.min(k, size));
+        for (int i = 0; i < Math.min(k, size); i++) {
+            result.add(new Entry<>(ranked[i].item, ranked[i].count, ranked[i].error));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the count of an item
+     *
+     * @param item the item
+     * @return the exact count, or in Space-Saving mode an upper bound of it
+     */
+    public long count(T item) {
+        Counter<T> counter = counters.get(item);
+        if (counter != null) {
+            return counter.count;
+        }
+        // An unmonitored item cannot have been counted more often than the smallest counter
+        return (exact || size < heap.length) ? 0 : heap[0].count;
+    }
+
+    /**
+     * Gets the sum of all increments
+     *
+     * @return the total count
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Gets the number of items with a counter
+     *
+     * @return every distinct item in exact mode, at most the number of counters in Space-Saving mode
+     */
+    public int trackedItems() {
+        return counters.size();
+    }
+
+    /**
+     * Tells whether counts are exact
+     *
+     * @return true if created with {@link #TopKTracker(int)}
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    ///////////////// Heap/////////////////
+
+    private void siftUp(int slot) {
+        Counter<T> counter = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], slot);
+            slot = parent;
+        }
+        place(counter, slot);
+    }
+
+    private void siftDown(int slot) {
+        Counter<T> counter = heap[slot];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (heap[child].count >= counter.count) {
+                break;
+            }
+            place(heap[child], slot);
+            slot = child;
+        }
+        place(counter, slot);
+    }
+
+    private void place(Counter<T> counter, int slot) {
+        heap[slot] = counter;
+        counter.slot = slot;
+    }
+}
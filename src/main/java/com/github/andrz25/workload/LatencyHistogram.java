@@ -0,0 +1,137 @@
+package com.github.andrz25.workload;
+
+/**
+ * Counts latencies in nanoseconds in logarithmic buckets, for percentiles that stay accurate from
+ * nanoseconds to seconds.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Log-Linear Buckets:</b> Values below {@value #SUB_BUCKETS} have a bucket each. Every power of two
+ * above that is split into {@value #HALF} equal buckets, so a reported value is never more than 1/64
+ * (1.6%) above the recorded one, whatever its magnitude. All longs fit in under 4,000 buckets, 30 KB.
+ * </li>
+ * <li>
+ * <b>Constant-Time Recording:</b> The bucket is computed from the position of the highest set bit,
+ * without a search or an allocation, so recording does not disturb the latencies being measured.
+ * </li>
+ * <li>
+ * <b>Conservative Percentiles:</b> A percentile reports the highest value its bucket can hold, so
+ * it never understates a latency.
+ * </li>
+ * <li>
+ * <b>Not Thread-Safe:</b> Each replay records into its own histogram, and {@link #add} merges them.
+ * </li>
+ * </ul>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKETS = 128;
+    private static final int HALF = SUB_BUCKETS / 2;
+    private static final int BUCKETS = (Long.SIZE - 6) * HALF;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long max;
+
+    ///////////////// Recording/////////////////
+
+    /**
+     * Records one latency
+     *
+     * @param nanos the latency in nanoseconds, negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[index(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds every latency recorded by another histogram
+     *
+     * @param other the histogram to merge into this one
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    ///////////////// Queries/////////////////
+
+    /**
+     * Returns the latency that the given percentage of recordings do not exceed
+     *
+     * @param percentile between 0 and 100, e.g. 99.9
+     * @return the latency in nanoseconds, rounded up to its bucket, 0 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highest(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Gets the number of recorded latencies
+     *
+     * @return the count
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Gets the mean latency
+     *
+     * @return the mean in nanoseconds, 0 if nothing was recorded
+     */
+    public double mean() {
+        return (count == 0) ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets the highest recorded latency, exactly
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long max() {
+        return max;
+    }
+
+    // Values below SUB_BUCKETS map to themselves, larger ones keep their 7 highest bits
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 7 - Long.numberOfLeadingZeros(value);
+        return (shift + 1) * HALF + (int) (value >>> shift) - HALF;
+    }
+
+    // The highest value that maps to a bucket
+    private static long highest(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long lowest = (long) (HALF + index % HALF) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.andrz25.workload;
+
+import com.github.andrz25.api.BinarySearchTree;
+import com.github.andrz25.metrics.Operation;
+
+/**
+ * A Binary Search Tree that passes every call to another tree and records its inserts, lookups
+ * and deletes to a {@link TraceWriter}.
+ *
+ * <p>An operation is recorded after the delegate completes it, so a call that throws is left out of
+ * the trace. Traversals and properties are not recorded.</p>
+ *
+ * @param <T> the type of the keys
+ */
+public class RecordingBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private final BinarySearchTree<T> tree;
+    private final TraceWriter<T> writer;
+
+    /**
+     * Wraps a tree
+     *
+     * @param tree the tree doing the work
+     * @param writer receives the operations
+     */
+    public RecordingBinarySearchTree(BinarySearchTree<T> tree, TraceWriter<T> writer) {
+        this.tree = tree;
+        this.writer = writer;
+    }
+
+    ///////////////// Core Operations/////////////////
+
+    // Insert and record
+    @Override
+    public void insert(T data) {
+        tree.insert(data);
+        writer.record(Operation.INSERT, 0, data);
+    }
+
+    // Look up and record
+    @Override
+    public boolean contains(T data) {
+        boolean found = tree.contains(data);
+        writer.record(Operation.CONTAINS, 0, data);
+        return found;
+    }
+
+    // Delete and record
+    @Override
+    public void delete(T data) {
+        tree.delete(data);
+        writer.record(Operation.DELETE, 0, data);
+    }
+
+    ///////////////// Traversals/////////////////
+
+    @Override
+    public void inOrderTraversal() {
+        tree.inOrderTraversal();
+    }
+
+    @Override
+    public void preOrderTraversal() {
+        tree.preOrderTraversal();
+    }
+
+    @Override
+    public void postOrderTraversal() {
+        tree.postOrderTraversal();
+    }
+
+    @Override
+    public void levelOrderTraversal() {
+        tree.levelOrderTraversal();
+    }
+
+    ///////////////// Properties/////////////////
+
+    @Override
+    public int height() {
+        return tree.height();
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tree.isEmpty();
+    }
+}
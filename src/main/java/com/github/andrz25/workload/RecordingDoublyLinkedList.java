@@ -0,0 +1,141 @@
+package com.github.andrz25.workload;
+
+import com.github.andrz25.api.DoublyLinkedList;
+import com.github.andrz25.metrics.Operation;
+
+/**
+ * A Doubly Linked List that passes every call to another list and records it to a
+ * {@link TraceWriter}.
+ *
+ * <p>An operation is recorded after the delegate completes it, so a call that throws is left out of
+ * the trace. size and isEmpty are not recorded.</p>
+ *
+ * @param <T> the type of elements in the list
+ */
+public class RecordingDoublyLinkedList<T> implements DoublyLinkedList<T> {
+    private final DoublyLinkedList<T> list;
+    private final TraceWriter<T> writer;
+
+    /**
+     * Wraps a list
+     *
+     * @param list the list doing the work
+     * @param writer receives the operations
+     */
+    public RecordingDoublyLinkedList(DoublyLinkedList<T> list, TraceWriter<T> writer) {
+        this.list = list;
+        this.writer = writer;
+    }
+
+    ///////////////// Basic Operations/////////////////
+
+    // Insert at the head and record
+    @Override
+    public void addFirst(T data) {
+        list.addFirst(data);
+        writer.record(Operation.ADD_FIRST, 0, data);
+    }
+
+    // Insert at the tail and record
+    @Override
+    public void addLast(T data) {
+        list.addLast(data);
+        writer.record(Operation.ADD_LAST, 0, data);
+    }
+
+    // Insert at a given index and record
+    @Override
+    public void insertAt(int index, T data) {
+        list.insertAt(index, data);
+        writer.record(Operation.INSERT_AT, index, data);
+    }
+
+    ///////////////// Deletion/////////////////
+
+    // Remove from head and record
+    @Override
+    public T removeFirst() {
+        T data = list.removeFirst();
+        writer.record(Operation.REMOVE_FIRST, 0, null);
+        return data;
+    }
+
+    // Remove from tail and record
+    @Override
+    public T removeLast() {
+        T data = list.removeLast();
+        writer.record(Operation.REMOVE_LAST, 0, null);
+        return data;
+    }
+
+    // Remove from a given index and record
+    @Override
+    public T removeAt(int index) {
+        T data = list.removeAt(index);
+        writer.record(Operation.REMOVE_AT, index, null);
+        return data;
+    }
+
+    ///////////////// Access/////////////////
+
+    // Get head element and record
+    @Override
+    public T getFirst() {
+        T data = list.getFirst();
+        writer.record(Operation.GET_FIRST, 0, null);
+        return data;
+    }
+
+    // Get tail element and record
+    @Override
+    public T getLast() {
+        T data = list.getLast();
+        writer.record(Operation.GET_LAST, 0, null);
+        return data;
+    }
+
+    // Get element at index and record
+    @Override
+    public T getAt(int index) {
+        T data = list.getAt(index);
+        writer.record(Operation.GET_AT, index, null);
+        return data;
+    }
+
+    ///////////////// Utility/////////////////
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    // Remove all elements and record
+    @Override
+    public void clear() {
+        list.clear();
+        writer.record(Operation.CLEAR, 0, null);
+    }
+
+    ///////////////// Search/////////////////
+
+    // Search and record
+    @Override
+    public boolean contains(T data) {
+        boolean found = list.contains(data);
+        writer.record(Operation.CONTAINS, 0, data);
+        return found;
+    }
+
+    // Find the index and record
+    @Override
+    public int indexOf(T data) {
+        int index = list.indexOf(data);
+        writer.record(Operation.INDEX_OF, 0, data);
+        return index;
+    }
+}
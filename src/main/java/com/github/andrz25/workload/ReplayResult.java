@@ -0,0 +1,28 @@
+package com.github.andrz25.workload;
+
+/**
+ * The outcome of replaying a trace.
+ *
+ * @param operations the number of operations replayed
+ * @param elapsedNanos the time from the first operation's start to the last one's end
+ * @param targetRate the open-loop arrival rate in operations per second, 0 for a closed loop
+ * @param latencies the latency of every operation
+ */
+public record ReplayResult(long operations, long elapsedNanos, double targetRate, LatencyHistogram latencies) {
+
+    /**
+     * Gets the achieved throughput
+     *
+     * @return operations per second
+     */
+    public double throughput() {
+        return (elapsedNanos == 0) ? 0 : operations / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d ops, %,.0f ops/s, p50 %,d ns, p99 %,d ns, p99.9 %,d ns, max %,d ns",
+                operations, throughput(), latencies.percentile(50), latencies.percentile(99),
+                latencies.percentile(99.9), latencies.max());
+    }
+}
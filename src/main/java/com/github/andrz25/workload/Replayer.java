@@ -0,0 +1,106 @@
+package com.github.andrz25.workload;
+
+import com.github.andrz25.api.BinarySearchTree;
+import com.github.andrz25.api.DoublyLinkedList;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Replays a {@link Trace} against a structure and measures the latency of every operation.
+ *
+ * <h2>Design Choices & Trade-offs</h2>
+ * <ul>
+ * <li>
+ * <b>Closed Loop:</b> With {@link #Replayer()} each operation starts as soon as the previous one
+ * finishes, as a single client waiting on every reply would. The latency is the service time and
+ * the throughput is the most the structure can do on one thread.
+ * </li>
+ * <li>
+ * <b>Open Loop:</b> With {@link #Replayer(double)} operation i is due at <code>i / rate</code>
+ * seconds, as if requests kept arriving at a fixed rate whether or not the structure keeps up. The
+ * latency is measured from the due time rather than the start, so an operation waiting behind a
+ * slow one is charged the wait. Measuring from the start would hide exactly the stalls that
+ * production clients see (coordinated omission).
+ * </li>
+ * <li>
+ * <b>Single-Threaded Pacing:</b> The replayer spins until each due time instead of sleeping, since
+ * a sleep is far coarser than one operation. The structure and the timing share one thread, so a
+ * recorded trace replays in its recorded order against any implementation.
+ * </li>
+ * </ul>
+ */
+public class Replayer {
+    private final double rate;
+
+    /**
+     * Creates a closed-loop replayer
+     */
+    public Replayer() {
+        this.rate = 0;
+    }
+
+    /**
+     * Creates an open-loop replayer
+     *
+     * @param operationsPerSecond the fixed arrival rate
+     */
+    public Replayer(double operationsPerSecond) {
+        if (!(operationsPerSecond > 0) || Double.isInfinite(operationsPerSecond)) {
+            throw new IllegalArgumentException("operationsPerSecond must be positive");
+        }
+        this.rate = operationsPerSecond;
+    }
+
+    /**
+     * Tells whether operations arrive at a fixed rate
+     *
+     * @return true for an open-loop replayer
+     */
+    public boolean isOpenLoop() {
+        return rate > 0;
+    }
+
+    /**
+     * Replays a trace of tree operations
+     *
+     * @param trace the trace, of insert, contains and delete operations
+     * @param tree the tree to run it against, usually empty
+     * @param <T> the type of the keys
+     * @return the latencies and throughput
+     */
+    public <T extends Comparable<T>> ReplayResult replay(Trace<T> trace, BinarySearchTree<T> tree) {
+        return run(trace.size(), i -> trace.apply(i, tree));
+    }
+
+    /**
+     * Replays a trace of list operations
+     *
+     * @param trace the trace, of list operations
+     * @param list the list to run it against, usually empty
+     * @param <T> the type of the keys
+     * @return the latencies and throughput
+     */
+    public <T> ReplayResult replay(Trace<T> trace, DoublyLinkedList<T> list) {
+        return run(trace.size(), i -> trace.apply(i, list));
+    }
+
+    private ReplayResult run(int operations, IntConsumer operation) {
+        LatencyHistogram latencies = new LatencyHistogram();
+        long start = System.nanoTime();
+        long previous = start;
+        for (int i = 0; i < operations; i++) {
+            long due = previous;
+            if (rate > 0) {
+                due = start + (long) (i * 1e9 / rate);
+                while (System.nanoTime() < due) {
+                    Thread.onSpinWait();
+                }
+            }
+            operation.accept(i);
+            long end = System.nanoTime();
+            latencies.record(end - due);
+            previous = end;
+        }
+        return new ReplayResult(operations, previous - start, rate, latencies);
+    }
+}
@@ -0,0 +1,214 @@
+package com.github.andrz25.workload;
+
+import com.github.andrz25.api.BinarySearchTree;
+import com.github.andrz25.api.DoublyLinkedList;
+import com.github.andrz25.metrics.Operation;
+import com.github.andrz25.model.RecordCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A recorded sequence of operations, loaded into memory for replay.
+ *
+ * <p>Keys are decoded when the trace is read, so a replay only measures the structure. A trace holds
+ * about one byte, one int and one key reference per operation.</p>
+ *
+ * @param <T> the type of the keys
+ */
+public final class Trace<T> {
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final byte[] operations;
+    private final int[] indexes;
+    private final Object[] keys;
+    private final int size;
+
+    private Trace(byte[] operations, int[] indexes, Object[] keys, int size) {
+        this.operations = operations;
+        this.indexes = indexes;
+        this.keys = keys;
+        this.size = size;
+    }
+
+    /**
+     * Loads a trace written by {@link TraceWriter}
+     *
+     * @param file the trace file
+     * @param codec decodes the keys, the codec the trace was written with
+     * @param <T> the type of the keys
+     * @return the trace
+     * @throws IOException if the file cannot be read, is not a trace or is truncated
+     */
+    public static <T> Trace<T> read(Path file, RecordCodec<T> codec) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.limit() < TraceWriter.HEADER || buffer.getInt(0) != TraceWriter.MAGIC) {
+            throw new IOException(file + " is not a trace file");
+        }
+        if (buffer.getInt(4) != TraceWriter.VERSION) {
+            throw new IOException("unsupported trace version " + buffer.getInt(4));
+        }
+        if (buffer.getInt(8) != codec.width()) {
+            throw new IOException("trace keys are " + buffer.getInt(8) + " bytes, codec reads " + codec.width());
+        }
+
+        int capacity = 1024;
+        byte[] operations = new byte[capacity];
+        int[] indexes = new int[capacity];
+        Object[] keys = new Object[capacity];
+        int size = 0;
+        int position = TraceWriter.HEADER;
+        int end = buffer.limit();
+        while (position < end) {
+            int ordinal = buffer.get(position++);
+            if (ordinal < 0 || ordinal >= OPERATIONS.length) {
+                throw new IOException("unknown operation " + ordinal + " at byte " + (position - 1));
+            }
+            Operation operation = OPERATIONS[ordinal];
+            if (size == capacity) {
+                capacity += capacity >> 1;
+                operations = Arrays.copyOf(operations, capacity);
+                indexes = Arrays.copyOf(indexes, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+            }
+            operations[size] = (byte) ordinal;
+
+            if (hasIndex(operation)) {
+                int index = 0;
+                for (int shift = 0; ; shift += 7) {
+                    if (position == end || shift > 28) {
+                        throw new IOException("truncated trace record " + size);
+                    }
+                    byte b = buffer.get(position++);
+                    index |= (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                indexes[size] = index;
+            }
+            if (hasKey(operation)) {
+                if (position + codec.width() > end) {
+                    throw new IOException("truncated trace record " + size);
+                }
+                keys[size] = codec.read(buffer, position);
+                position += codec.width();
+            }
+            size++;
+        }
+        return new Trace<>(operations, indexes, keys, size);
+    }
+
+    ///////////////// Queries/////////////////
+
+    /**
+     * Gets the number of operations
+     *
+     * @return the trace length
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets an operation
+     *
+     * @param i the position in the trace
+     * @return the operation at that position
+     */
+    public Operation operation(int i) {
+        return OPERATIONS[operations[checkPosition(i)]];
+    }
+
+    /**
+     * Gets the key of an operation
+     *
+     * @param i the position in the trace
+     * @return the key, or null if the operation takes none
+     */
+    @SuppressWarnings("unchecked")
+    public T key(int i) {
+        return (T) keys[checkPosition(i)];
+    }
+
+    /**
+     * Gets the index of an operation
+     *
+     * @param i the position in the trace
+     * @return the index, or 0 if the operation takes none
+     */
+    public int index(int i) {
+        return indexes[checkPosition(i)];
+    }
+
+    /**
+     * Counts the operations of each kind
+     *
+     * @return the number of operations per kind, kinds that do not occur are left out
+     */
+    public Map<Operation, Integer> mix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (int i = 0; i < size; i++) {
+            mix.merge(OPERATIONS[operations[i]], 1, Integer::sum);
+        }
+        return mix;
+    }
+
+    ///////////////// Replay/////////////////
+
+    // Runs one operation against a tree
+    @SuppressWarnings("unchecked")
+    <C extends Comparable<C>> void apply(int i, BinarySearchTree<C> tree) {
+        C key = (C) keys[i];
+        switch (OPERATIONS[operations[i]]) {
+            case INSERT -> tree.insert(key);
+            case CONTAINS -> tree.contains(key);
+            case DELETE -> tree.delete(key);
+            default -> throw new UnsupportedOperationException(OPERATIONS[operations[i]] + " is not a tree operation");
+        }
+    }
+
+    // Runs one operation against a list
+    @SuppressWarnings("unchecked")
+    void apply(int i, DoublyLinkedList<T> list) {
+        T key = (T) keys[i];
+        switch (OPERATIONS[operations[i]]) {
+            case ADD_FIRST -> list.addFirst(key);
+            case ADD_LAST -> list.addLast(key);
+            case INSERT_AT -> list.insertAt(indexes[i], key);
+            case REMOVE_FIRST -> list.removeFirst();
+            case REMOVE_LAST -> list.removeLast();
+            case REMOVE_AT -> list.removeAt(indexes[i]);
+            case GET_FIRST -> list.getFirst();
+            case GET_LAST -> list.getLast();
+            case GET_AT -> list.getAt(indexes[i]);
+            case CONTAINS -> list.contains(key);
+            case INDEX_OF -> list.indexOf(key);
+            case CLEAR -> list.clear();
+            default -> throw new UnsupportedOperationException(OPERATIONS[operations[i]] + " is not a list operation");
+        }
+    }
+
+    static boolean hasIndex(Operation operation) {
+        return operation == Operation.INSERT_AT || operation == Operation.REMOVE_AT || operation == Operation.GET_AT;
+    }
+
+    static boolean hasKey(Operation operation) {
+        return switch (operation) {
+            case INSERT, CONTAINS, DELETE, ADD_FIRST, ADD_LAST, INSERT_AT, INDEX_OF -> true;
+            default -> false;
+        };
+    }
+
+    private int checkPosition(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(i);
+        }
+        return i;
+    }
+}
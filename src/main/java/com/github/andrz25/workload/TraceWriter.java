@@ -0,0 +1,130 @@
+package com.github.andrz25.workload;
+
+import com.github.andrz25.metrics.Operation;
+import com.github.andrz25.model.RecordCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Appends operations to a trace file, which {@link Trace#read} loads for replay.
+ *
+ * <p>The file starts with a 12 byte header: a magic number, the format version and the key width.
+ * Every record is the operation's ordinal in one byte, followed by the index as a variable-length
+ * integer (7 bits per byte) for operations that take one, then the key encoded by the
+ * {@link RecordCodec} for operations that take one. An insert of an int key takes 5 bytes.</p>
+ *
+ * <p>Records are buffered and written in blocks. Recording is synchronized, so a structure shared by
+ * several threads is recorded in the order its operations finished.</p>
+ *
+ * @param <T> the type of the keys
+ */
+public class TraceWriter<T> implements AutoCloseable {
+    static final int MAGIC = 0x57545243;
+    static final int VERSION = 1;
+    static final int HEADER = 12;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final RecordCodec<T> codec;
+    private final OutputStream out;
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private int position;
+    private long records;
+    private boolean closed;
+
+    /**
+     * Creates or replaces a trace file
+     *
+     * @param file the trace file
+     * @param codec encodes the keys
+     * @throws IOException if the file cannot be created
+     */
+    public TraceWriter(Path file, RecordCodec<T> codec) throws IOException {
+        this.codec = codec;
+        this.out = Files.newOutputStream(file);
+        this.bytes = new byte[Math.max(BUFFER_BYTES, 6 + codec.width())];
+        this.buffer = ByteBuffer.wrap(bytes);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, codec.width());
+        position = HEADER;
+    }
+
+    /**
+     * Appends one operation
+     *
+     * @param operation the operation
+     * @param index the index for {@link Operation#INSERT_AT}, {@link Operation#REMOVE_AT} and
+     *              {@link Operation#GET_AT}, ignored otherwise
+     * @param key the key for operations taking one, ignored otherwise
+     */
+    public synchronized void record(Operation operation, int index, T key) {
+        if (closed) {
+            throw new IllegalStateException("trace writer is closed");
+        }
+        if (Trace.hasIndex(operation) && index < 0) {
+            throw new IllegalArgumentException("index must not be negative");
+        }
+        if (Trace.hasKey(operation) && key == null) {
+            throw new NullPointerException("key");
+        }
+        if (position + 6 + codec.width() > bytes.length) {
+            flush();
+        }
+
+        bytes[position++] = (byte) operation.ordinal();
+        if (Trace.hasIndex(operation)) {
+            int rest = index;
+            while (rest >= 0x80) {
+                bytes[position++] = (byte) (rest | 0x80);
+                rest >>>= 7;
+            }
+            bytes[position++] = (byte) rest;
+        }
+        if (Trace.hasKey(operation)) {
+            codec.write(key, buffer, position);
+            position += codec.width();
+        }
+        records++;
+    }
+
+    /**
+     * Gets the number of operations recorded
+     *
+     * @return the record count
+     */
+    public synchronized long records() {
+        return records;
+    }
+
+    /**
+     * Writes the buffered records and closes the file
+     *
+     * @throws IOException if the records cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (out) {
+            out.write(bytes, 0, position);
+        }
+    }
+
+    private void flush() {
+        try {
+            out.write(bytes, 0, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.andrz25.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class FrequencySketchTest {
+
+    @Test
+    void packedCountersSaturateAndHalve() {
+        FrequencySketch<Integer> sketch = new FrequencySketch<>(1 << 10);
+        for (int i = 0; i < 20; i++) sketch.increment(1);
+        for (int i = 0; i < 3; i++) sketch.increment(2);
+        // Counters are 4 bits, so they stop at 15 without spilling into the counter sharing their byte
+        assertEquals(15, sketch.frequency(1));
+        assertEquals(3, sketch.frequency(2));
+        assertEquals(0, sketch.frequency(3));
+
+        // Ten times the row width of additions halves every counter, a saturated one to at most 7 plus collisions
+        for (int key = 100; key < 100 + 10 * 1024; key++) sketch.increment(key);
+        assertTrue(sketch.frequency(1) < 15, "frequency " + sketch.frequency(1));
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.andrz25.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class LruCachePerformanceTest {
+
+    private static final int KEYS = 100_000;
+    private static final int TRACE_LENGTH = 1_000_000;
+
+    /**
+     * Replays Zipfian key traces through the cache and reports hit rate and
+     * throughput for plain LRU, TinyLFU admission and a LinkedHashMap LRU.
+     * Misses are filled with put, as a read-through cache in front of a slow
+     * lookup would do. The cache counts that get and put as one access, so
+     * the sketch sees each trace entry once.
+     */
+    @Test
+    void benchmarkZipfianTrace() {
+        double[] skews = {0.8, 1.0, 1.2};
+        int[] capacities = {1_000, 10_000};
+
+        System.out.println("--- Zipfian Trace Benchmark (keys=" + KEYS + ", trace=" + TRACE_LENGTH + ") ---");
+        System.out.printf("%-8s %-10s %-16s %-12s %-12s%n", "Skew", "Capacity", "Policy", "Hit Rate", "Mops/s");
+
+        for (double skew : skews) {
+            int[] trace = new ZipfianGenerator(KEYS, skew, 42).trace(TRACE_LENGTH);
+
+            for (int capacity : capacities) {
+                for (LruCache.Admission admission : LruCache.Admission.values()) {
+                    LruCache<Integer, Integer> cache = new LruCache<>(capacity, (key, value) -> 1, admission);
+
+                    long startTime = System.nanoTime();
+                    for (int key : trace) {
+                        if (cache.get(key) == null) {
+                            cache.put(key, key);
+                        }
+                    }
+                    long endTime = System.nanoTime();
+
+                    System.out.printf("%-8.1f %-10d %-16s %-12.4f %-12.2f%n", skew, capacity, admission,
+                            cache.hitRate(), TRACE_LENGTH * 1000.0 / (endTime - startTime));
+                }
+
+                Map<Integer, Integer> linked = new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                        return size() > capacity;
+                    }
+                };
+                long hits = 0;
+                long startTime = System.nanoTime();
+                for (int key : trace) {
+                    if (linked.get(key) == null) {
+                        linked.put(key, key);
+                    } else {
+                        hits++;
+                    }
+                }
+                long endTime = System.nanoTime();
+
+                System.out.printf("%-8.1f %-10d %-16s %-12.4f %-12.2f%n", skew, capacity, "LinkedHashMap",
+                        (double) hits / TRACE_LENGTH, TRACE_LENGTH * 1000.0 / (endTime - startTime));
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.andrz25.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    @Test
+    void getAndPut() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        assertNull(cache.get("a"));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a"));
+        assertEquals(2, cache.get("b"));
+        assertEquals(2, cache.size());
+
+        cache.put("a", 10);
+        assertEquals(10, cache.get("a"));
+        assertEquals(2, cache.size());
+
+        assertEquals(3, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");         // b is now the least recently used
+        cache.put("c", 3);
+
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void weightedCapacity() {
+        LruCache<String, String> cache = new LruCache<>(10, (key, value) -> value.length(), LruCache.Admission.ALWAYS);
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        assertEquals(8, cache.weight());
+
+        cache.put("c", "ccccccc");  // needs both a and b gone
+        assertEquals(1, cache.size());
+        assertEquals(7, cache.weight());
+        assertEquals(2, cache.evictionCount());
+
+        cache.put("d", "ddddddddddd");  // heavier than the whole cache
+        assertNull(cache.get("d"));
+        assertEquals(1, cache.rejectionCount());
+    }
+
+    @Test
+    void loader() {
+        LruCache<Integer, String> cache = new LruCache<>(4);
+        assertEquals("1", cache.get(1, String::valueOf));
+        assertEquals("1", cache.get(1, key -> "reloaded"));
+        assertNull(cache.get(2, key -> null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void remove() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        assertEquals(1, cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+    }
+
+    @Test
+    void tinyLfuKeepsFrequentEntries() {
+        LruCache<String, Integer> cache = new LruCache<>(2, (key, value) -> 1, LruCache.Admission.TINY_LFU);
+        cache.put("hot1", 1);
+        cache.put("hot2", 2);
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot1");
+            cache.get("hot2");
+        }
+
+        // A stream of one-hit wonders must not flush the popular entries
+        for (int i = 0; i < 100; i++) {
+            cache.put("cold" + i, i);
+        }
+
+        assertEquals(1, cache.get("hot1"));
+        assertEquals(2, cache.get("hot2"));
+        assertEquals(100, cache.rejectionCount());
+    }
+
+    @Test
+    void tinyLfuCountsReadThroughOnce() {
+        LruCache<String, Integer> cache = new LruCache<>(1, (key, value) -> 1, LruCache.Admission.TINY_LFU);
+        cache.put("resident", 1);
+
+        // The put fills the miss of the same access, so "new" has been seen once, like "resident"
+        assertNull(cache.get("new"));
+        cache.put("new", 2);
+        assertEquals(1, cache.rejectionCount());
+
+        // A second access makes it more frequent than the resident entry
+        assertNull(cache.get("new"));
+        cache.put("new", 2);
+        assertEquals(2, cache.get("new"));
+    }
+
+    @Test
+    void tinyLfuWeighsAllVictims() {
+        LruCache<String, String> cache = new LruCache<>(10, (key, value) -> value.length(), LruCache.Admission.TINY_LFU);
+        cache.put("a", "aaaaa");
+        cache.put("b", "bbbbb");
+        cache.get("a");
+        cache.get("b");
+
+        // Three accesses beat either entry alone, but not both, and the heavy entry would evict both
+        for (int i = 0; i < 3; i++) cache.get("heavy");
+        cache.put("heavy", "hhhhhhhhhh");
+        assertEquals(1, cache.rejectionCount());
+        assertEquals(2, cache.size());
+
+        // Five accesses beat the four of both together
+        cache.get("heavy");
+        cache.get("heavy");
+        cache.put("heavy", "hhhhhhhhhh");
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.evictionCount());
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.andrz25.cache;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/** Draws keys in [0, n) where key k has probability proportional to 1 / (k + 1)^s. */
+class ZipfianGenerator {
+    private final double[] cumulative;
+    private final Random random;
+
+    ZipfianGenerator(int n, double s, long seed) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, s);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+        random = new Random(seed);
+    }
+
+    int next() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0) ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+
+    int[] trace(int length) {
+        int[] trace = new int[length];
+        for (int i = 0; i < length; i++) {
+            trace[i] = next();
+        }
+        return trace;
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.andrz25.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+class CatalogPerformanceTest {
+
+    // 1M books: -DargLine="-Dcatalog.books=1000000", 5M need about 3 GB of heap: -DargLine="-Xmx3g -Dcatalog.books=5000000"
+    private static final int BOOKS = Integer.getInteger("catalog.books", 100_000);
+    private static final int AUTHORS = BOOKS / 20;
+    private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+    private static final int DAYS = 50 * 365;
+
+    /**
+     * Loads the catalog and runs several query shapes, comparing the planner's choice with
+     * always scanning the first predicate's index and with a full scan of every book.
+     */
+    @Test
+    void benchmarkMixedQueries() {
+        System.out.println("\n--- Catalog: " + BOOKS + " books, 3 secondary indexes ---\n");
+
+        Catalog catalog = new Catalog();
+        catalog.addIndex("author", String.class, Book::author);
+        catalog.addIndex("price", Long.class, Book::priceCents);
+        catalog.addIndex("published", LocalDate.class, Book::published);
+
+        Random random = new Random(42);
+        String[] authors = new String[AUTHORS];
+        for (int i = 0; i < AUTHORS; i++) authors[i] = "author-" + i;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BOOKS; i++) {
+            // Scatter the ISBNs so books sharing a key do not form sorted runs in the index trees
+            String isbn = Long.toString(9_780_000_000_000L + (i * 2_654_435_761L) % 10_000_000_000L);
+            catalog.put(new Book(isbn, "t" + i, authors[random.nextInt(AUTHORS)],
+                    100 + random.nextInt(9_900), EPOCH.plusDays(random.nextInt(DAYS))));
+        }
+        long loaded = System.nanoTime() - start;
+        System.out.printf("load: %.0f ms (%.0f books/s)%n%n", loaded / 1e6, BOOKS / (loaded / 1e9));
+
+        List<Book> all = catalog.find(Query.whereBetween("price", null, null));
+        assertEquals(BOOKS, all.size());
+
+        run(catalog, all, "isbn lookup", seed -> Query.where(Catalog.PRIMARY, all.get(seed % BOOKS).isbn()));
+        run(catalog, all, "author", seed -> Query.where("author", authors[seed % AUTHORS]));
+        run(catalog, all, "price range", seed -> Query.whereBetween("price", 100L + seed % 9_000, 100L + seed % 9_000 + 10));
+        run(catalog, all, "date range + author", seed -> {
+            LocalDate from = EPOCH.plusDays(seed % (DAYS - 3650));
+            return Query.whereBetween("published", from, from.plusYears(10)).and("author", authors[seed % AUTHORS]);
+        });
+        run(catalog, all, "date range + price", seed -> {
+            LocalDate from = EPOCH.plusDays(seed % (DAYS - 30));
+            long price = 100L + seed % 9_000;
+            return Query.whereBetween("published", from, from.plusDays(30)).andBetween("price", price, price + 50);
+        });
+    }
+
+    private void run(Catalog catalog, List<Book> all, String name, IntFunction<Query> queries) {
+        int count = 2_000;
+        Random random = new Random(7);
+        Query[] batch = new Query[count];
+        for (int i = 0; i < count; i++) batch[i] = queries.apply(random.nextInt(Integer.MAX_VALUE));
+
+        // Warm up, then time the planner against always scanning the first predicate
+        long planned = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            long start = System.nanoTime();
+            for (Query query : batch) catalog.find(query);
+            planned = System.nanoTime() - start;
+        }
+
+        // The first predicate can be a wide range, so fewer queries
+        int firstCount = 100;
+        long first = System.nanoTime();
+        for (int i = 0; i < firstCount; i++) {
+            Query query = batch[i];
+            assertEquals(catalog.find(query).size(),
+                    catalog.execute(query, new Plan(query.predicates().get(0).index(), 0)).size());
+        }
+        first = System.nanoTime() - first;
+
+        // A full scan is slow, so only a few queries
+        int scans = 5;
+        long start = System.nanoTime();
+        for (int i = 0; i < scans; i++) {
+            List<Book> expected = new ArrayList<>();
+            Query query = batch[i];
+            for (Book book : all) {
+                if (matches(query, book)) expected.add(book);
+            }
+            assertEquals(expected.size(), catalog.find(query).size(), query.toString());
+        }
+        long scanned = System.nanoTime() - start;
+
+        System.out.printf("%-20s planner: %,10.1f queries/s   first predicate: %,10.1f queries/s   full scan: %,6.1f queries/s%n",
+                name, count / (planned / 1e9), firstCount / (first / 1e9), scans / (scanned / 1e9));
+    }
+
+    private static boolean matches(Query query, Book book) {
+        for (Query.Predicate predicate : query.predicates()) {
+            Comparable<?> key = switch (predicate.index()) {
+                case Catalog.PRIMARY -> book.isbn();
+                case "author" -> book.author();
+                case "price" -> book.priceCents();
+                default -> book.published();
+            };
+            if (!within(key, predicate.from(), predicate.to())) return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static boolean within(Comparable key, Comparable from, Comparable to) {
+        return (from == null || key.compareTo(from) >= 0) && (to == null || key.compareTo(to) <= 0);
+    }
+}
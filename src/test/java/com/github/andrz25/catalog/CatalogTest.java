@@ -0,0 +1,167 @@
+package com.github.andrz25.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class CatalogTest {
+
+    Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new Catalog();
+        catalog.addIndex("author", String.class, Book::author);
+        catalog.addIndex("price", Long.class, Book::priceCents);
+        catalog.addIndex("published", LocalDate.class, Book::published);
+    }
+
+    private static Book book(String isbn, String author, long price, int year) {
+        return new Book(isbn, "Title " + isbn, author, price, LocalDate.of(year, 1, 1));
+    }
+
+    private static List<String> isbns(List<Book> books) {
+        List<String> result = new ArrayList<>();
+        for (Book book : books) result.add(book.isbn());
+        return result;
+    }
+
+    @Test
+    void equalityAndRangeQueries() {
+        catalog.put(book("1", "Austen", 900, 1813));
+        catalog.put(book("2", "Austen", 1200, 1811));
+        catalog.put(book("3", "Bronte", 1000, 1847));
+        catalog.put(book("4", "Austen", 1500, 1815));
+        catalog.put(book("5", "Dickens", 1100, 1859));
+
+        assertEquals(List.of("1", "2", "4"), isbns(catalog.find(Query.where("author", "Austen"))));
+        // Ordered by the scanned key
+        assertEquals(List.of("3", "5", "2"), isbns(catalog.find(Query.whereBetween("price", 1000L, 1200L))));
+        assertEquals(List.of("2", "4"), isbns(catalog.find(Query.where("author", "Austen").andBetween("price", 1000L, null))));
+        assertEquals(List.of("2", "1"), isbns(catalog.find(Query.whereBetween("published", null, LocalDate.of(1814, 1, 1))
+                .and("author", "Austen"))));
+        assertEquals(List.of("3"), isbns(catalog.find(Query.where(Catalog.PRIMARY, "3").and("author", "Bronte"))));
+        assertTrue(catalog.find(Query.where(Catalog.PRIMARY, "3").and("author", "Austen")).isEmpty());
+        assertTrue(catalog.find(Query.where("author", "Tolstoy")).isEmpty());
+    }
+
+    @Test
+    void planChoosesMostSelectiveIndex() {
+        for (int i = 0; i < 1000; i++) {
+            catalog.put(book("isbn-" + i, "author-" + (i % 100), i, 1900 + i % 10));
+        }
+
+        // 10 books by the author, 100 per year, 51 in the price range
+        Query query = Query.whereBetween("published", LocalDate.of(1905, 1, 1), LocalDate.of(1905, 1, 1))
+                .and("author", "author-5")
+                .andBetween("price", 100L, 150L);
+        assertEquals(new Plan("author", 10), catalog.plan(query));
+        assertEquals(List.of("isbn-105"), isbns(catalog.find(query)));
+
+        Query narrow = Query.where("author", "author-5").andBetween("price", 205L, 205L);
+        assertEquals(new Plan("price", 1), catalog.plan(narrow));
+        assertEquals(new Plan(Catalog.PRIMARY, 1), catalog.plan(narrow.and(Catalog.PRIMARY, "isbn-205")));
+
+        // Every access path gives the same answer
+        for (String index : List.of("published", "author", "price")) {
+            assertEquals(isbns(catalog.find(query)), isbns(catalog.execute(query, new Plan(index, 0))));
+        }
+    }
+
+    @Test
+    void equalBoundsAreEquality() {
+        catalog.put(book("1", "Austen", 900, 1813));
+        catalog.put(book("2", "Bronte", 500, 1847));
+
+        // Distinct objects holding the same key
+        String isbn = new String("2");
+        Query byIsbn = Query.whereBetween(Catalog.PRIMARY, isbn, new String(isbn));
+        assertEquals(new Plan(Catalog.PRIMARY, 1), catalog.plan(byIsbn));
+        assertEquals(List.of("2"), isbns(catalog.find(byIsbn)));
+
+        Query byPrice = Query.where("author", "Bronte").andBetween("price", Long.valueOf(500), Long.valueOf(500));
+        assertEquals("author = Bronte and price = 500", byPrice.toString());
+        assertEquals(List.of("2"), isbns(catalog.find(byPrice)));
+        assertEquals("price in [500, 900]", Query.whereBetween("price", 500L, 900L).toString());
+    }
+
+    @Test
+    void updatesKeepIndexesInSync() {
+        catalog.put(book("1", "Austen", 900, 1813));
+        Book previous = catalog.put(book("1", "Bronte", 2000, 1847));
+        assertEquals("Austen", previous.author());
+        assertEquals(1, catalog.size());
+        assertTrue(catalog.find(Query.where("author", "Austen")).isEmpty());
+        assertTrue(catalog.find(Query.whereBetween("price", null, 1000L)).isEmpty());
+        assertEquals(List.of("1"), isbns(catalog.find(Query.where("author", "Bronte"))));
+
+        assertEquals("Bronte", catalog.remove("1").author());
+        assertNull(catalog.remove("1"));
+        assertNull(catalog.get("1"));
+        assertTrue(catalog.find(Query.whereBetween("price", null, null)).isEmpty());
+    }
+
+    @Test
+    void failedPutChangesNothing() {
+        catalog.put(book("1", "Austen", 900, 1813));
+        catalog.addIndex("initial", String.class, book -> book.author().equals("Nobody") ? null : book.author().substring(0, 1));
+
+        assertThrows(NullPointerException.class, () -> catalog.put(book("1", "Nobody", 100, 2000)));
+        assertEquals("Austen", catalog.get("1").author());
+        assertEquals(List.of("1"), isbns(catalog.find(Query.where("author", "Austen"))));
+        assertEquals(List.of("1"), isbns(catalog.find(Query.whereBetween("price", 900L, 900L))));
+        assertEquals(List.of("1"), isbns(catalog.find(Query.where("initial", "A"))));
+    }
+
+    @Test
+    void rejectsInvalidQueries() {
+        catalog.put(book("1", "Austen", 900, 1813));
+        assertThrows(IllegalArgumentException.class, () -> catalog.find(Query.where("title", "Emma")));
+        assertThrows(IllegalArgumentException.class, () -> catalog.find(Query.where("price", 900)));
+        assertThrows(IllegalArgumentException.class, () -> catalog.find(Query.whereBetween(Catalog.PRIMARY, "1", "2")));
+        assertThrows(IllegalArgumentException.class, () -> catalog.find(Query.where(Catalog.PRIMARY, "1").and("title", "Emma")));
+        assertThrows(IllegalArgumentException.class, () -> catalog.addIndex("author", String.class, Book::title));
+        assertThrows(IllegalArgumentException.class, () -> catalog.addIndex(Catalog.PRIMARY, String.class, Book::isbn));
+        assertThrows(IllegalArgumentException.class, () -> new Book("1", "t", "a", -1, LocalDate.now()));
+    }
+
+    @Test
+    void matchesFullScanOnRandomQueries() {
+        Random random = new Random(5);
+        List<Book> all = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Book book = book("isbn-" + random.nextInt(3000), "author-" + random.nextInt(50), random.nextInt(500), 1950 + random.nextInt(50));
+            catalog.put(book);
+        }
+        for (int i = 0; i < 3000; i++) {
+            Book book = catalog.get("isbn-" + i);
+            if (book != null) all.add(book);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            String author = "author-" + random.nextInt(50);
+            long low = random.nextInt(500);
+            long high = low + random.nextInt(100);
+            LocalDate after = LocalDate.of(1950 + random.nextInt(50), 1, 1);
+            Query query = Query.where("author", author).andBetween("price", low, high).andBetween("published", after, null);
+
+            int expected = 0;
+            for (Book book : all) {
+                if (book.author().equals(author) && book.priceCents() >= low && book.priceCents() <= high
+                        && !book.published().isBefore(after)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, catalog.find(query).size(), query.toString());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.andrz25.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.andrz25.model.MyBinarySearchTree;
+import com.github.andrz25.model.MyDoublyLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Run by the metrics-enabled surefire execution, which starts the JVM with metrics switched on
+class StructureMetricsTest {
+
+    @Test
+    void metricsAreEnabled() {
+        assertTrue(StructureMetrics.ENABLED);
+        assertNotNull(new MyBinarySearchTree<Integer>().metrics());
+        assertNotNull(new MyDoublyLinkedList<Integer>().metrics());
+    }
+
+    @Test
+    void treeCountsComparisonsAndDepth() {
+        MyBinarySearchTree<Integer> tree = new MyBinarySearchTree<>();
+        StructureMetrics metrics = tree.metrics();
+
+        // 4 is the root, 2 and 6 at depth 1, 1 at depth 2
+        for (int value : new int[] {4, 2, 6, 1}) tree.insert(value);
+        assertEquals(Map.of("INSERT", 4L), metrics.getOperationCounts());
+        assertEquals(2, metrics.getMaxInsertDepth());
+        assertEquals(2, metrics.getHeight());
+        assertEquals(1 + 1 + 2, metrics.getNodesVisited());
+        // One comparison per visited node, the last one also picks the side to attach to
+        assertEquals(1 + 1 + 2, metrics.getComparisons());
+        assertEquals(4, metrics.getNodesAllocated());
+
+        metrics.reset();
+        assertTrue(tree.contains(1));
+        assertTrue(!tree.contains(5));
+        assertEquals(2, metrics.getOperationCount());
+        // 4, 2, 1 for the hit and 4, 6 for the miss
+        assertEquals(3 + 2, metrics.getComparisons());
+        assertEquals(2.5, metrics.getAverageNodesVisited());
+
+        // Bucket 2 holds the calls that visited 2 to 3 nodes
+        long[] histogram = metrics.getVisitHistogram();
+        assertEquals(2, histogram[2]);
+        assertEquals(2, Arrays.stream(histogram).sum());
+    }
+
+    @Test
+    void treeCountsRecycledNodes() {
+        MyBinarySearchTree<Integer> tree = new MyBinarySearchTree<>(8);
+        StructureMetrics metrics = tree.metrics();
+        tree.insert(2);
+        tree.insert(1);
+        tree.insert(3);
+
+        // Deleting the root also walks to its successor
+        tree.delete(2);
+        assertEquals(2, metrics.getNodesVisited() - (0 + 1 + 1));
+        tree.insert(5);
+        // 3 is the root now, with 1 and 5 below it
+        assertEquals(1, metrics.getHeight());
+        assertEquals(3, metrics.getNodesAllocated());
+        assertEquals(1, metrics.getNodesRecycled());
+    }
+
+    @Test
+    void listCountsWalks() {
+        MyDoublyLinkedList<Integer> list = new MyDoublyLinkedList<>();
+        StructureMetrics metrics = list.metrics();
+        for (int i = 0; i < 10; i++) list.addLast(i);
+
+        list.getAt(2);          // 3 nodes from the head
+        list.getAt(8);          // 2 nodes from the tail
+        assertEquals(7, list.indexOf(7));
+        assertTrue(!list.contains(42));
+        list.insertAt(10, 10);  // at the tail, no walk
+
+        Map<String, Long> counts = metrics.getOperationCounts();
+        assertEquals(10L, counts.get("ADD_LAST"));
+        assertEquals(2L, counts.get("GET_AT"));
+        assertEquals(1L, counts.get("INSERT_AT"));
+        assertEquals(3 + 2 + 8 + 10, metrics.getNodesVisited());
+        assertEquals(8 + 10, metrics.getComparisons());
+        assertEquals(11, metrics.getNodesAllocated());
+        assertEquals(-1, metrics.getHeight());
+    }
+
+    @Test
+    void registersAsMXBean() throws JMException {
+        MyBinarySearchTree<Integer> tree = new MyBinarySearchTree<>();
+        for (int i = 0; i < 100; i++) tree.insert(i);
+
+        ObjectName name = tree.metrics().register("books");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals("com.github.andrz25:type=MyBinarySearchTree,name=\"books\"", name.toString());
+            assertEquals(100L, server.getAttribute(name, "OperationCount"));
+            assertEquals(99, server.getAttribute(name, "MaxInsertDepth"));
+            assertEquals(99, server.getAttribute(name, "Height"));
+            // Deletions lower the height but not the deepest insertion
+            for (int i = 50; i < 100; i++) tree.delete(i);
+            assertEquals(49, server.getAttribute(name, "Height"));
+            assertEquals(99, server.getAttribute(name, "MaxInsertDepth"));
+
+            server.invoke(name, "reset", null, null);
+            assertArrayEquals(new long[Integer.SIZE + 1], (long[]) server.getAttribute(name, "VisitHistogram"));
+        } finally {
+            tree.metrics().unregister();
+        }
+        assertTrue(!ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.andrz25.api.DoublyLinkedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+class ArrayDoublyLinkedListTest {
+
+    ArrayDoublyLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new ArrayDoublyLinkedList<>(4);
+    }
+
+    private void assertContents(Integer... expected) {
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.getAt(i));
+        }
+    }
+
+    @Test
+    void endOperationsWrapAround() {
+        assertNull(list.removeFirst());
+        assertNull(list.removeLast());
+        assertNull(list.getFirst());
+
+        // Head moves backwards past slot 0
+        list.addLast(2);
+        list.addFirst(1);
+        list.addFirst(0);
+        list.addLast(3);
+        assertEquals(4, list.capacity());
+        assertContents(0, 1, 2, 3);
+
+        // Growing while wrapped keeps the order
+        list.addFirst(-1);
+        assertEquals(8, list.capacity());
+        assertContents(-1, 0, 1, 2, 3);
+
+        assertEquals(-1, list.removeFirst());
+        assertEquals(3, list.removeLast());
+        assertEquals(0, list.getFirst());
+        assertEquals(2, list.getLast());
+        assertNull(list.getAt(3));
+        assertNull(list.getAt(-1));
+    }
+
+    @Test
+    void middleOperationsShiftTheShorterSide() {
+        for (int i = 0; i < 6; i++) list.addLast(i);
+        list.insertAt(1, 10);
+        list.insertAt(6, 20);
+        list.insertAt(0, 30);
+        list.insertAt(list.size(), 40);
+        assertContents(30, 0, 10, 1, 2, 3, 4, 20, 5, 40);
+
+        assertEquals(10, list.removeAt(2));
+        assertEquals(20, list.removeAt(6));
+        assertEquals(30, list.removeAt(0));
+        assertEquals(40, list.removeAt(list.size() - 1));
+        assertContents(0, 1, 2, 3, 4, 5);
+
+        assertEquals(3, list.indexOf(3));
+        assertFalse(list.contains(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(7, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(6));
+        assertThrows(NullPointerException.class, () -> list.addFirst(null));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertNull(list.getLast());
+    }
+
+    @Test
+    void matchesArrayListOnRandomOperations() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int op = random.nextInt(6);
+            int value = random.nextInt(1000);
+            if (op == 0) {
+                list.addFirst(value);
+                expected.add(0, value);
+            } else if (op == 1) {
+                list.addLast(value);
+                expected.add(value);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size() + 1);
+                list.insertAt(index, value);
+                expected.add(index, value);
+            } else if (!expected.isEmpty()) {
+                int index = (op == 3) ? 0 : (op == 4) ? expected.size() - 1 : random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.removeAt(index));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        int i = 0;
+        for (Integer value : list) {
+            assertEquals(expected.get(i++), value);
+        }
+    }
+
+    @Test
+    void iteratorFailsFast() {
+        list.addLast(1);
+        list.addLast(2);
+        Iterator<Integer> it = list.iterator();
+        assertEquals(1, it.next());
+        list.addLast(3);
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    //Performance Tests
+
+    @Test
+    void benchmarkMatrix() {
+        System.out.println("\n--- Benchmark matrix: MyDoublyLinkedList vs ArrayDoublyLinkedList (μs) ---\n");
+        System.out.printf("%-8s %-6s %12s %12s %12s %12s %12s%n", "n", "list", "deque", "getAt", "middle", "iterate", "purge half");
+
+        Purge removeIf = list -> ((MyDoublyLinkedList<Integer>) list).removeIf(x -> x % 2 == 0);
+        Purge removeAt = list -> {
+            for (int i = 0; i < list.size(); i++) {
+                if (list.getAt(i) % 2 == 0) list.removeAt(i--);
+            }
+        };
+
+        // Warm up the JIT so the first row is not mostly interpreter time
+        for (int i = 0; i < 3; i++) {
+            run(10_000, MyDoublyLinkedList::new, removeIf);
+            run(10_000, ArrayDoublyLinkedList::new, removeAt);
+        }
+
+        for (int n : new int[] {1_000, 10_000, 100_000}) {
+            print(n, "linked", run(n, MyDoublyLinkedList::new, removeIf));
+            print(n, "array", run(n, ArrayDoublyLinkedList::new, removeAt));
+        }
+    }
+
+    private interface Purge {
+        void purge(DoublyLinkedList<Integer> list);
+    }
+
+    // Times each workload on a fresh list of n elements
+    private long[] run(int n, Supplier<DoublyLinkedList<Integer>> factory, Purge purge) {
+        long[] micros = new long[5];
+        Random random = new Random(3);
+
+        DoublyLinkedList<Integer> target = filled(factory, n);
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            target.addLast(i);
+            target.removeFirst();
+            target.addFirst(i);
+            target.removeLast();
+        }
+        micros[0] = (System.nanoTime() - start) / 1000;
+
+        long sum = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) sum += target.getAt(random.nextInt(n));
+        micros[1] = (System.nanoTime() - start) / 1000;
+
+        start = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            target.insertAt(n / 2, i);
+            target.removeAt(n / 2);
+        }
+        micros[2] = (System.nanoTime() - start) / 1000;
+
+        start = System.nanoTime();
+        for (Integer value : (Iterable<Integer>) target) sum += value;
+        micros[3] = (System.nanoTime() - start) / 1000;
+
+        target = filled(factory, n);
+        start = System.nanoTime();
+        purge.purge(target);
+        micros[4] = (System.nanoTime() - start) / 1000;
+
+        assertEquals(n / 2, target.size());
+        assertTrue(sum > 0);
+        return micros;
+    }
+
+    private DoublyLinkedList<Integer> filled(Supplier<DoublyLinkedList<Integer>> factory, int n) {
+        DoublyLinkedList<Integer> target = factory.get();
+        for (int i = 0; i < n; i++) target.addLast(i);
+        return target;
+    }
+
+    private void print(int n, String name, long[] micros) {
+        System.out.printf("%-8d %-6s %12d %12d %12d %12d %12d%n", n, name, micros[0], micros[1], micros[2], micros[3], micros[4]);
+    }
+}
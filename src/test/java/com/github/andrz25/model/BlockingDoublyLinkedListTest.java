@@ -0,0 +1,260 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BlockingDoublyLinkedListTest {
+
+    BlockingDoublyLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new BlockingDoublyLinkedList<>(3);
+    }
+
+    @Test
+    void interfaceOperations() {
+        list.addLast(2);
+        list.addFirst(1);
+        list.insertAt(2, 3);
+        assertEquals(3, list.size());
+        assertEquals(0, list.remainingCapacity());
+        assertThrows(IllegalStateException.class, () -> list.addLast(4));
+
+        assertEquals(1, list.getFirst());
+        assertEquals(3, list.getLast());
+        assertEquals(1, list.indexOf(2));
+        assertTrue(list.contains(3));
+
+        assertEquals(2, list.removeAt(1));
+        assertEquals(3, list.removeLast());
+        assertEquals(1, list.removeFirst());
+        assertNull(list.removeFirst());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void timeouts() throws InterruptedException {
+        assertNull(list.pollFirst(10, TimeUnit.MILLISECONDS));
+
+        assertTrue(list.offerLast(1, 10, TimeUnit.MILLISECONDS));
+        assertTrue(list.offerFirst(0, 10, TimeUnit.MILLISECONDS));
+        list.putLast(2);
+        assertFalse(list.offerLast(3, 10, TimeUnit.MILLISECONDS));
+
+        assertEquals(2, list.pollLast(10, TimeUnit.MILLISECONDS));
+        assertEquals(0, list.takeFirst());
+        assertEquals(1, list.takeLast());
+    }
+
+    @Test
+    void blocksUntilSpaceOrElement() throws Exception {
+        list.putLast(1);
+        list.putLast(2);
+        list.putLast(3);
+
+        Thread producer = new Thread(() -> {
+            try {
+                list.putFirst(0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        assertEquals(3, list.takeLast());
+        producer.join();
+        assertEquals(0, list.getFirst());
+
+        list.clear();
+        // The value is checked on the test thread, an assertion failing in the consumer would be lost
+        FutureTask<Integer> consumer = new FutureTask<>(list::takeFirst);
+        new Thread(consumer).start();
+        list.putLast(7);
+        assertEquals(7, consumer.get(10, TimeUnit.SECONDS));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void batches() throws InterruptedException {
+        BlockingDoublyLinkedList<Integer> large = new BlockingDoublyLinkedList<>(10);
+        large.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        assertEquals(5, large.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, large.drainTo(drained, 3));
+        assertEquals(Arrays.asList(1, 2, 3), drained);
+        assertEquals(2, large.drainTo(drained, 10));
+        assertEquals(0, large.drainTo(drained, 10));
+        assertEquals(5, drained.size());
+
+        // A batch larger than the capacity waits for a consumer to make room
+        Thread consumer = new Thread(() -> {
+            int received = 0;
+            List<Integer> sink = new ArrayList<>();
+            while (received < 25) {
+                received += list.drainTo(sink, 2);
+                Thread.yield();
+            }
+        });
+        consumer.start();
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < 25; i++) batch.add(i);
+        list.addAll(batch);
+        consumer.join();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void drainToKeepsCountWhenTargetThrows() throws InterruptedException {
+        for (int i = 1; i <= 3; i++) list.putLast(i);
+        // Accepts two elements, then rejects
+        List<Integer> drained = new ArrayList<>() {
+            @Override
+            public boolean add(Integer e) {
+                if (size() == 2) throw new IllegalStateException("full");
+                return super.add(e);
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> list.drainTo(drained, 10));
+        assertEquals(Arrays.asList(1, 2), drained);
+        // The rejected element is still queued, and the freed slots can be used without blocking
+        assertEquals(1, list.size());
+        assertEquals(3, list.getFirst());
+        assertEquals(2, list.remainingCapacity());
+        assertTrue(list.offerLast(4, 10, TimeUnit.MILLISECONDS));
+        assertTrue(list.offerLast(5, 10, TimeUnit.MILLISECONDS));
+        assertFalse(list.offerLast(6, 10, TimeUnit.MILLISECONDS));
+    }
+
+    //Performance Tests
+
+    private static final int ITEMS = 200_000;
+    private static final int PRODUCERS = 2;
+    private static final int CONSUMERS = 2;
+
+    private interface Consumer {
+        void run(AtomicInteger consumed, long[] latencies, AtomicInteger latencyIndex) throws InterruptedException;
+    }
+
+    // Virtual threads when running on Java 21+, platform threads otherwise
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private void handOff(String name, java.util.function.LongConsumer produce, Consumer consume) throws Exception {
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicInteger latencyIndex = new AtomicInteger();
+        long[] latencies = new long[ITEMS];
+
+        ExecutorService executor = newExecutor();
+        long startTime = System.nanoTime();
+        List<java.util.concurrent.Future<?>> tasks = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < ITEMS / PRODUCERS; i++) produce.accept(System.nanoTime());
+                return null;
+            }));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            tasks.add(executor.submit(() -> {
+                consume.run(consumed, latencies, latencyIndex);
+                return null;
+            }));
+        }
+        for (java.util.concurrent.Future<?> task : tasks) task.get();
+        long endTime = System.nanoTime();
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("%-22s %-12.0f %-10d %-10d %-10d%n", name, ITEMS * 1e9 / (endTime - startTime),
+                latencies[ITEMS / 2] / 1000, latencies[ITEMS * 99 / 100] / 1000, latencies[ITEMS * 999 / 1000] / 1000);
+    }
+
+    /**
+     * Compares hand-off throughput and per-item latency (enqueue to dequeue)
+     * of blocking take, batched drainTo and busy-polling removeFirst on a
+     * synchronized MyDoublyLinkedList.
+     */
+    @Test
+    void benchmarkHandOff() throws Exception {
+        System.out.println("\n--- Hand-off Benchmark (" + ITEMS + " items, " + PRODUCERS + " producers, " + CONSUMERS + " consumers) ---");
+        System.out.printf("%-22s %-12s %-10s %-10s %-10s%n", "Consumer", "Items/s", "p50 (μs)", "p99 (μs)", "p99.9 (μs)");
+
+        BlockingDoublyLinkedList<Long> queue = new BlockingDoublyLinkedList<>(1024);
+        handOff("takeFirst", timestamp -> {
+            try {
+                queue.putLast(timestamp);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, (consumed, latencies, index) -> {
+            while (consumed.get() < ITEMS) {
+                Long timestamp = queue.pollFirst(10, TimeUnit.MILLISECONDS);
+                if (timestamp == null) continue;
+                latencies[index.getAndIncrement()] = System.nanoTime() - timestamp;
+                consumed.incrementAndGet();
+            }
+        });
+
+        BlockingDoublyLinkedList<Long> batched = new BlockingDoublyLinkedList<>(1024);
+        handOff("drainTo (batch 64)", timestamp -> {
+            try {
+                batched.putLast(timestamp);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, (consumed, latencies, index) -> {
+            List<Long> batch = new ArrayList<>(64);
+            while (consumed.get() < ITEMS) {
+                Long first = batched.pollFirst(10, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                batched.drainTo(batch, 63);
+                long now = System.nanoTime();
+                for (Long timestamp : batch) latencies[index.getAndIncrement()] = now - timestamp;
+                consumed.addAndGet(batch.size());
+                batch.clear();
+            }
+        });
+
+        MyDoublyLinkedList<Long> polled = new MyDoublyLinkedList<>();
+        handOff("busy-poll removeFirst", timestamp -> {
+            synchronized (polled) {
+                polled.addLast(timestamp);
+            }
+        }, (consumed, latencies, index) -> {
+            while (consumed.get() < ITEMS) {
+                Long timestamp;
+                synchronized (polled) {
+                    timestamp = polled.removeFirst();
+                }
+                if (timestamp == null) {
+                    Thread.yield();
+                    continue;
+                }
+                latencies[index.getAndIncrement()] = System.nanoTime() - timestamp;
+                consumed.incrementAndGet();
+            }
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Supplier;
+
+class CompletionTriePerformanceTest {
+
+    // The README numbers use 2M titles: -DargLine="-Dtrie.titles=2000000"
+    private static final int TITLES = Integer.getInteger("trie.titles", 100_000);
+
+    /**
+     * Compares top 10 completions of the trie, with and without a prefix cache, against a range
+     * scan of a MyBinarySearchTree, and reports the memory each takes.
+     */
+    @Test
+    void benchmarkAgainstSortedTree() {
+        int n = TITLES;
+        System.out.println("\n--- Autocomplete: " + n + " titles, top 10 ---\n");
+
+        // Titles of 2 to 5 words drawn from a skewed vocabulary, scored with skewed popularity
+        Random random = new Random(42);
+        String[] words = new String[5_000];
+        for (int i = 0; i < words.length; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(6);
+            for (int j = 0; j < length; j++) word.append((char) ('a' + random.nextInt(26)));
+            words[i] = word.toString();
+        }
+        String[] titles = new String[n];
+        int[] scores = new int[n];
+        for (int i = 0; i < n; i++) {
+            StringBuilder title = new StringBuilder(words[skewed(random, words.length)]);
+            int count = 1 + random.nextInt(4);
+            for (int j = 0; j < count; j++) title.append(' ').append(words[skewed(random, words.length)]);
+            titles[i] = title.toString();
+            scores[i] = (int) (1_000_000 / (1 + skewed(random, 1_000_000)));
+        }
+
+        // Keystrokes: the first 1 to 8 characters of popular titles
+        String[] prefixes = new String[20_000];
+        for (int i = 0; i < prefixes.length; i++) {
+            String title = titles[skewed(random, n)];
+            prefixes[i] = title.substring(0, Math.min(title.length(), 1 + random.nextInt(8)));
+        }
+
+        long start = System.nanoTime();
+        long[] trieBytes = new long[1];
+        CompletionTrie trie = retained(() -> new CompletionTrie(titles, scores), trieBytes);
+        long built = System.nanoTime() - start;
+        CompletionTrie cached = new CompletionTrie(titles, scores, 10_000);
+
+        Map<String, Integer> scoreOf = new HashMap<>();
+        for (int i = 0; i < n; i++) scoreOf.merge(titles[i], scores[i], Math::max);
+        long[] sortedBytes = new long[1];
+        String[] sorted = retained(() -> scoreOf.keySet().stream().sorted().toArray(String[]::new), sortedBytes);
+        MyBinarySearchTree<String> tree = new MyBinarySearchTree<>();
+        for (String title : scoreOf.keySet()) tree.insert(title);
+
+        System.out.printf("build: %d ms, %d titles, %d nodes%n", built / 1_000_000, trie.size(), trie.nodeCount());
+        // Both share the title strings, a compact Latin-1 String is a 24 byte object and a byte array
+        long stringBytes = 0;
+        for (String title : sorted) stringBytes += 24 + ((16 + title.length() + 7) & ~7);
+        System.out.printf("memory: titles %.1f MB, sorted array %.1f MB, trie %.1f MB%n%n",
+                stringBytes / 1e6, sortedBytes[0] / 1e6, trieBytes[0] / 1e6);
+        Reference.reachabilityFence(sorted);
+
+        // The tree answers with a range scan over every title with the prefix, keeping the best 10
+        int treeQueries = 2_000;
+        long sink = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            long treeTime = System.nanoTime();
+            for (int i = 0; i < treeQueries; i++) sink += treeTopK(tree, scoreOf, prefixes[i], 10).size();
+            treeTime = System.nanoTime() - treeTime;
+
+            long trieTime = System.nanoTime();
+            for (String prefix : prefixes) sink += trie.complete(prefix, 10).size();
+            trieTime = System.nanoTime() - trieTime;
+
+            long cachedTime = System.nanoTime();
+            for (String prefix : prefixes) sink += cached.complete(prefix, 10).size();
+            cachedTime = System.nanoTime() - cachedTime;
+
+            if (pass == 1) {
+                System.out.printf("tree range scan: %,.0f queries/s%n", treeQueries / (treeTime / 1e9));
+                System.out.printf("trie:            %,.0f queries/s%n", prefixes.length / (trieTime / 1e9));
+                System.out.printf("trie with cache: %,.0f queries/s (hit rate %.2f)%n",
+                        prefixes.length / (cachedTime / 1e9), cached.cacheHitRate());
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            List<String> expected = treeTopK(tree, scoreOf, prefixes[i], 10);
+            List<String> actual = trie.complete(prefixes[i], 10);
+            assertEquals(expected.size(), actual.size());
+            for (int j = 0; j < actual.size(); j++) {
+                assertEquals(scoreOf.get(expected.get(j)), scoreOf.get(actual.get(j)));
+            }
+        }
+        assertTrue(sink > 0);
+    }
+
+    private static int skewed(Random random, int n) {
+        // Roughly Zipfian: small indexes are much more likely
+        return (int) Math.min(n - 1, Math.pow(n, random.nextDouble()) - 1);
+    }
+
+    private static List<String> treeTopK(MyBinarySearchTree<String> tree, Map<String, Integer> scoreOf, String prefix, int k) {
+        PriorityQueue<String> top = new PriorityQueue<>(Comparator.comparing((String s) -> scoreOf.get(s)).thenComparing(Comparator.reverseOrder()));
+        Iterator<String> it = tree.rangeIterator(prefix, prefix + Character.MAX_VALUE);
+        while (it.hasNext()) {
+            top.offer(it.next());
+            if (top.size() > k) top.poll();
+        }
+        List<String> result = new ArrayList<>(top);
+        result.sort(Comparator.comparing((String s) -> -scoreOf.get(s)).thenComparing(s -> s));
+        return result;
+    }
+
+    private static <T> T retained(Supplier<T> build, long[] bytes) {
+        for (int i = 0; i < 3; i++) System.gc();
+        long before = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        T result = build.get();
+        for (int i = 0; i < 3; i++) System.gc();
+        bytes[0] = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() - before;
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class CompletionTrieTest {
+
+    @Test
+    void completesByScore() {
+        CompletionTrie trie = new CompletionTrie(
+                new String[] {"the hobbit", "the road", "the", "then", "hobbit", "the hobbit", "there"},
+                new int[] {5, 9, 1, 7, 3, 8, 7});
+
+        // Duplicates keep their best score, equal scores come in lexicographic order
+        assertEquals(6, trie.size());
+        assertEquals(List.of("the road", "the hobbit", "then", "there", "the"), trie.complete("the", 10));
+        assertEquals(List.of("the road", "the hobbit"), trie.complete("the ", 2));
+        assertEquals(List.of("then"), trie.complete("then", 5));
+        assertEquals(List.of("the road", "the hobbit", "then"), trie.complete("", 3));
+        assertEquals(List.of("the hobbit"), trie.complete("the h", 3));
+        assertTrue(trie.complete("thx", 3).isEmpty());
+        assertTrue(trie.complete("there and back", 3).isEmpty());
+        assertTrue(trie.complete("the", 0).isEmpty());
+
+        assertTrue(new CompletionTrie(new String[0], new int[0]).complete("", 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> trie.complete("a", -1));
+        assertThrows(IllegalArgumentException.class, () -> new CompletionTrie(new String[] {"a"}, new int[0]));
+        assertThrows(UnsupportedOperationException.class, () -> trie.complete("the", 3).add("x"));
+    }
+
+    @Test
+    void cacheServesRepeatedPrefixes() {
+        CompletionTrie trie = new CompletionTrie(new String[] {"ab", "ac", "ad"}, new int[] {1, 2, 3}, 100);
+        assertEquals(List.of("ad", "ac"), trie.complete("a", 2));
+        assertEquals(List.of("ad", "ac", "ab"), trie.complete("a", 3));
+        assertEquals(List.of("ad"), trie.complete("a", 1));
+        assertEquals(2.0 / 3, trie.cacheHitRate(), 1e-9);
+        assertEquals(List.of("ab"), trie.complete("ab", 20));
+    }
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(9);
+        String[] strings = new String[5_000];
+        int[] scores = new int[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            StringBuilder s = new StringBuilder();
+            int length = 1 + random.nextInt(8);
+            for (int j = 0; j < length; j++) s.append((char) ('a' + random.nextInt(4)));
+            strings[i] = s.toString();
+            scores[i] = random.nextInt(100);
+        }
+        CompletionTrie trie = new CompletionTrie(strings, scores);
+
+        Map<String, Integer> bestScores = new HashMap<>();
+        for (int i = 0; i < strings.length; i++) bestScores.merge(strings[i], scores[i], Math::max);
+        List<String> ranked = new ArrayList<>(bestScores.keySet());
+        ranked.sort(Comparator.comparing((String s) -> -bestScores.get(s)).thenComparing(s -> s));
+
+        for (int q = 0; q < 500; q++) {
+            String string = strings[random.nextInt(strings.length)];
+            String prefix = string.substring(0, Math.min(string.length(), random.nextInt(4)));
+            int k = 1 + random.nextInt(20);
+            List<String> expected = new ArrayList<>();
+            for (String s : ranked) {
+                if (expected.size() < k && s.startsWith(prefix)) expected.add(s);
+            }
+            assertEquals(expected, trie.complete(prefix, k), prefix);
+        }
+        assertTrue(trie.nodeCount() <= 2 * trie.size());
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+class ConcurrentDoublyLinkedListTest {
+
+    ConcurrentDoublyLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new ConcurrentDoublyLinkedList<>();
+    }
+
+    @Test
+    void dequeOperations() {
+        assertNull(list.removeFirst());
+        assertNull(list.removeLast());
+        assertTrue(list.isEmpty());
+
+        list.addLast(2);
+        list.addFirst(1);
+        list.addLast(3);
+        assertEquals(1, list.getFirst());
+        assertEquals(3, list.getLast());
+        assertEquals(3, list.size());
+        assertEquals(2, list.getAt(1));
+        assertEquals(2, list.indexOf(3));
+        assertTrue(list.contains(2));
+        assertFalse(list.contains(4));
+
+        assertEquals(3, list.removeLast());
+        assertEquals(1, list.removeFirst());
+        assertEquals(2, list.removeLast());
+        assertTrue(list.isEmpty());
+        assertNull(list.getFirst());
+    }
+
+    @Test
+    void clearAndUnsupported() {
+        list.addLast(1);
+        list.addLast(2);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+
+        assertThrows(UnsupportedOperationException.class, () -> list.insertAt(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.removeAt(0));
+        assertThrows(NullPointerException.class, () -> list.addLast(null));
+    }
+
+    @Test
+    void removedNodesCanBeCollected() {
+        for (boolean queueToTheRight : new boolean[] {true, false}) {
+            ConcurrentDoublyLinkedList<Object> queue = new ConcurrentDoublyLinkedList<>();
+            // Keep a backlog, so the ends never meet and the list never goes empty
+            for (int i = 0; i < 10; i++) queue.addLast(new Object());
+
+            List<WeakReference<Object>> removed = new ArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                Object element;
+                if (queueToTheRight) {
+                    queue.addLast(new Object());
+                    element = queue.removeFirst();
+                } else {
+                    queue.addFirst(new Object());
+                    element = queue.removeLast();
+                }
+                if (i < 100) removed.add(new WeakReference<>(element));
+            }
+            assertEquals(10, queue.size());
+
+            // The live ends must not link back to the removed nodes
+            for (int attempt = 0; attempt < 10 && removed.stream().anyMatch(ref -> ref.get() != null); attempt++) {
+                System.gc();
+            }
+            assertTrue(removed.stream().allMatch(ref -> ref.get() == null), "removed elements are still reachable");
+            // The queue itself must stay reachable until here, or its nodes would be collected with it
+            Reference.reachabilityFence(queue);
+        }
+    }
+
+    @Test
+    void concurrentProducersAndConsumers() throws InterruptedException {
+        int threads = 4;
+        int perThread = 50_000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            boolean front = t % 2 == 0;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    if (front) list.addFirst(base + i); else list.addLast(base + i);
+                    Integer value = front ? list.removeLast() : list.removeFirst();
+                    if (value != null) seen.incrementAndGet(value);
+                }
+            }));
+        }
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+
+        Integer value;
+        while ((value = list.removeFirst()) != null) {
+            seen.incrementAndGet(value);
+        }
+
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i), "element " + i + " must be removed exactly once");
+        }
+    }
+
+    //Performance Tests
+
+    private interface Deque {
+        void addFirst(Integer data);
+        void addLast(Integer data);
+        Integer removeFirst();
+        Integer removeLast();
+    }
+
+    private static Deque lockFree() {
+        ConcurrentDoublyLinkedList<Integer> list = new ConcurrentDoublyLinkedList<>();
+        return new Deque() {
+            public void addFirst(Integer data) { list.addFirst(data); }
+            public void addLast(Integer data) { list.addLast(data); }
+            public Integer removeFirst() { return list.removeFirst(); }
+            public Integer removeLast() { return list.removeLast(); }
+        };
+    }
+
+    private static Deque locked() {
+        MyDoublyLinkedList<Integer> list = new MyDoublyLinkedList<>();
+        return new Deque() {
+            public synchronized void addFirst(Integer data) { list.addFirst(data); }
+            public synchronized void addLast(Integer data) { list.addLast(data); }
+            public synchronized Integer removeFirst() { return list.removeFirst(); }
+            public synchronized Integer removeLast() { return list.removeLast(); }
+        };
+    }
+
+    private static Deque jdk() {
+        ConcurrentLinkedDeque<Integer> list = new ConcurrentLinkedDeque<>();
+        return new Deque() {
+            public void addFirst(Integer data) { list.addFirst(data); }
+            public void addLast(Integer data) { list.addLast(data); }
+            public Integer removeFirst() { return list.pollFirst(); }
+            public Integer removeLast() { return list.pollLast(); }
+        };
+    }
+
+    private double throughput(Deque deque, int threads, int opsPerThread) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < opsPerThread; i += 2) {
+                    if ((i + id) % 4 < 2) {
+                        deque.addFirst(i);
+                        deque.removeLast();
+                    } else {
+                        deque.addLast(i);
+                        deque.removeFirst();
+                    }
+                }
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+        long endTime = System.nanoTime();
+
+        return (double) threads * opsPerThread * 1000 / (endTime - startTime);
+    }
+
+    /**
+     * Measures throughput of mixed push/pop operations on both ends with
+     * 1 to 16 threads. Numbers only show scaling on a multi-core machine.
+     */
+    @Test
+    void benchmarkThroughput() throws InterruptedException {
+        int[] threadCounts = {1, 2, 4, 8, 16};
+        int opsPerThread = 200_000;
+
+        System.out.println("\n--- Concurrent Deque Throughput (Mops/s, " + Runtime.getRuntime().availableProcessors() + " cpus) ---");
+        System.out.printf("%-10s %-15s %-15s %-25s%n", "Threads", "Lock-free", "Locked", "ConcurrentLinkedDeque");
+
+        for (int threads : threadCounts) {
+            double lockFree = throughput(lockFree(), threads, opsPerThread);
+            double locked = throughput(locked(), threads, opsPerThread);
+            double jdk = throughput(jdk(), threads, opsPerThread);
+            System.out.printf("%-10d %-15.2f %-15.2f %-25.2f%n", threads, lockFree, locked, jdk);
+        }
+    }
+}
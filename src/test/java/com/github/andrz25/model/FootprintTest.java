@@ -0,0 +1,204 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Retained heap bytes per element of every structure, failing when one grows past its limit.
+ *
+ * <p>Run by the footprint surefire executions, once with and once without compressed oops, both
+ * with the serial collector so that the heap in use after a full collection is exact. The
+ * structure's own bytes are measured apart from the elements, which are created beforehand and
+ * shared by every structure, so the limits hold for any element type.</p>
+ */
+class FootprintTest {
+
+    private static final int N = 1_000_000;
+    private static final boolean COMPRESSED_OOPS = Boolean.parseBoolean(ManagementFactory
+            .getPlatformMXBean(HotSpotDiagnosticMXBean.class).getVMOption("UseCompressedOops").getValue());
+    private static final int REFERENCE = COMPRESSED_OOPS ? 4 : 8;
+
+    // Allowance for the few unrelated objects allocated while measuring, 0.5 MB in all
+    private static final double TOLERANCE = 0.5;
+
+    // Every structure is measured this many times and the smallest result kept, as garbage left by
+    // the JIT or the collector can only add to a measurement
+    private static final int MEASUREMENTS = 3;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+
+    // Expected bytes per element with and without compressed oops, NaN for reference collections
+    private record Candidate(String name, double compressedLimit, double uncompressedLimit, Function<Object[], Object> build) {
+        double limit() {
+            return COMPRESSED_OOPS ? compressedLimit : uncompressedLimit;
+        }
+    }
+
+    private record ElementType(String name, IntFunction<Object> create) {
+    }
+
+    private static final List<ElementType> ELEMENT_TYPES = List.of(
+            new ElementType("Integer", i -> i),
+            new ElementType("Long", i -> (long) i),
+            new ElementType("String", i -> "isbn-" + i));
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final List<Candidate> BOXED = List.of(
+            new Candidate("MyDoublyLinkedList", 24, 40, elements -> {
+                MyDoublyLinkedList list = new MyDoublyLinkedList();
+                for (Object e : elements) list.addLast(e);
+                return list;
+            }),
+            new Candidate("MyBinarySearchTree", 24, 40, elements -> {
+                MyBinarySearchTree tree = new MyBinarySearchTree();
+                for (Object e : elements) tree.insert((Comparable) e);
+                return tree;
+            }),
+            // Capacity is the next power of two, 2^20 slots for a million elements
+            new Candidate("ArrayDoublyLinkedList", 4 * 1.048576, 8 * 1.048576, elements -> {
+                ArrayDoublyLinkedList list = new ArrayDoublyLinkedList();
+                for (Object e : elements) list.addLast(e);
+                return list;
+            }),
+            new Candidate("ConcurrentDoublyLinkedList", 24, 40, elements -> {
+                ConcurrentDoublyLinkedList list = new ConcurrentDoublyLinkedList();
+                for (Object e : elements) list.addLast(e);
+                return list;
+            }),
+            new Candidate("SnapshotDoublyLinkedList", 48, 64, elements -> {
+                SnapshotDoublyLinkedList list = new SnapshotDoublyLinkedList();
+                for (Object e : elements) list.addLast(e);
+                return list;
+            }),
+            new Candidate("LinkedList", Double.NaN, Double.NaN, elements -> {
+                LinkedList list = new LinkedList();
+                for (Object e : elements) list.addLast(e);
+                return list;
+            }),
+            new Candidate("TreeSet", Double.NaN, Double.NaN, elements -> {
+                TreeSet set = new TreeSet();
+                for (Object e : elements) set.add(e);
+                return set;
+            }));
+
+    private long usedAfterGc() {
+        for (int i = 0; i < 3; i++) System.gc();
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    // Heap bytes still in use after build, with whatever it returns kept reachable
+    private long retained(Supplier<Object> build) {
+        long before = usedAfterGc();
+        Object structure = build.get();
+        long after = usedAfterGc();
+        Reference.reachabilityFence(structure);
+        return after - before;
+    }
+
+    // Elements in random order, so the tree is built with its expected height
+    private static Object[] elements(ElementType type) {
+        Object[] elements = new Object[N];
+        for (int i = 0; i < N; i++) elements[i] = type.create().apply(i);
+        Random random = new Random(7);
+        for (int i = N - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object swap = elements[i];
+            elements[i] = elements[j];
+            elements[j] = swap;
+        }
+        return elements;
+    }
+
+    // The smallest bytes per element over a fixed number of measurements
+    private double perElement(Supplier<Object> build) {
+        double bytes = Double.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            bytes = Math.min(bytes, (double) retained(build) / N);
+        }
+        return bytes;
+    }
+
+    private static void check(List<String> failures, String name, double bytes, double limit) {
+        if (bytes > limit + TOLERANCE) {
+            failures.add(String.format("%s: %.2f bytes per element, limit %.2f", name, bytes, limit));
+        }
+    }
+
+    @Test
+    void boxedStructuresStayWithinLimits() {
+        System.out.printf("%n--- Footprint: bytes per element (compressed oops %s) ---%n%n", COMPRESSED_OOPS);
+        System.out.printf("%-28s %-8s %10s %10s %10s %8s%n", "structure", "element", "structure", "element", "total", "limit");
+
+        List<String> failures = new ArrayList<>();
+        for (ElementType type : ELEMENT_TYPES) {
+            long arrayBytes = 16 + (long) N * REFERENCE;
+            double elementBytes = (double) (retained(() -> elements(type)) - arrayBytes) / N;
+
+            Object[] elements = elements(type);
+            for (Candidate candidate : BOXED) {
+                double bytes = perElement(() -> candidate.build().apply(elements));
+                System.out.printf("%-28s %-8s %10.2f %10.2f %10.2f %8.1f%n",
+                        candidate.name(), type.name(), bytes, elementBytes, bytes + elementBytes, candidate.limit());
+                if (!Double.isNaN(candidate.limit())) {
+                    check(failures, candidate.name() + " of " + type.name(), bytes, candidate.limit());
+                }
+            }
+            Reference.reachabilityFence(elements);
+        }
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void primitiveStructuresStayWithinLimits() throws IOException {
+        System.out.printf("%n--- Footprint: primitive lists, bytes per element (compressed oops %s) ---%n%n", COMPRESSED_OOPS);
+
+        List<String> failures = new ArrayList<>();
+        // The arrays grow by half, so up to a third of the slots may be spare
+        double intBytes = perElement(() -> {
+            IntDoublyLinkedList list = new IntDoublyLinkedList();
+            for (int i = 0; i < N; i++) list.addLast(i);
+            return list;
+        });
+        check(failures, "IntDoublyLinkedList", intBytes, 12 * 1.5);
+
+        double longBytes = perElement(() -> {
+            LongDoublyLinkedList list = new LongDoublyLinkedList();
+            for (int i = 0; i < N; i++) list.addLast(i);
+            return list;
+        });
+        check(failures, "LongDoublyLinkedList", longBytes, 16 * 1.5);
+
+        // Only the chunk table is on the heap, each list is closed before the next is measured
+        double offHeapBytes = Double.MAX_VALUE;
+        for (int m = 0; m < MEASUREMENTS; m++) {
+            OffHeapDoublyLinkedList<Integer>[] offHeap = new OffHeapDoublyLinkedList[1];
+            offHeapBytes = Math.min(offHeapBytes, (double) retained(() -> {
+                offHeap[0] = new OffHeapDoublyLinkedList<>(RecordCodec.INT);
+                for (int i = 0; i < N; i++) offHeap[0].addLast(i);
+                return offHeap[0];
+            }) / N);
+            offHeap[0].close();
+        }
+        check(failures, "OffHeapDoublyLinkedList", offHeapBytes, 0.1);
+
+        System.out.printf("IntDoublyLinkedList: %.2f, LongDoublyLinkedList: %.2f, OffHeapDoublyLinkedList (heap only): %.2f%n",
+                intBytes, longBytes, offHeapBytes);
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.NoSuchElementException;
+
+class IntDoublyLinkedListTest {
+
+    IntDoublyLinkedList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IntDoublyLinkedList(2);
+    }
+
+    @Test
+    void addAndRemoveAtEnds() {
+        list.addFirst(2);
+        list.addLast(3);
+        list.addFirst(1);
+        assertEquals(3, list.size());
+        assertEquals(1, list.getFirst());
+        assertEquals(3, list.getLast());
+
+        assertEquals(1, list.removeFirst());
+        assertEquals(3, list.removeLast());
+        assertEquals(2, list.removeLast());
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+        assertThrows(NoSuchElementException.class, list::getLast);
+    }
+
+    @Test
+    void positionalOperations() {
+        for (int i = 0; i < 10; i++) list.addLast(i);
+
+        list.insertAt(0, -1);
+        list.insertAt(11, 10);
+        list.insertAt(8, 100);
+        assertEquals(-1, list.getAt(0));
+        assertEquals(100, list.getAt(8));
+        assertEquals(7, list.getAt(9));
+        assertEquals(10, list.getLast());
+
+        assertEquals(100, list.removeAt(8));
+        assertEquals(2, list.removeAt(3));
+        assertEquals(11, list.size());
+        assertEquals(3, list.indexOf(3));
+        assertFalse(list.contains(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getAt(11));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(12, 0));
+    }
+
+    @Test
+    void reusesFreedSlots() {
+        for (int i = 0; i < 100; i++) list.addLast(i);
+        for (int i = 0; i < 100; i++) list.removeFirst();
+        for (int i = 0; i < 100; i++) list.addFirst(i);
+        assertEquals(100, list.size());
+        assertEquals(99, list.getFirst());
+        assertEquals(0, list.getLast());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.addLast(5);
+        assertEquals(5, list.getFirst());
+    }
+
+    @Test
+    void longList() {
+        LongDoublyLinkedList longs = new LongDoublyLinkedList();
+        longs.addLast(1L << 40);
+        longs.addFirst(-1L);
+        longs.insertAt(1, 7L);
+        assertEquals(-1L, longs.getFirst());
+        assertEquals(7L, longs.getAt(1));
+        assertEquals(2, longs.indexOf(1L << 40));
+        assertEquals(1L << 40, longs.removeLast());
+        assertEquals(7L, longs.removeAt(1));
+        assertEquals(1, longs.size());
+    }
+
+    //Performance Tests
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static long retainedBytes() {
+        for (int i = 0; i < 3; i++) System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Reports retained heap bytes per element for the primitive and the
+     * generic list. Values are distinct and outside the Integer cache, as
+     * event IDs would be.
+     */
+    @Test
+    void testBytesPerElement() {
+        int n = 1_000_000;
+        System.out.println("\n--- Memory: bytes per element (n=" + n + ") ---\n");
+
+        long before = retainedBytes();
+        IntDoublyLinkedList ints = new IntDoublyLinkedList();
+        for (int i = 0; i < n; i++) ints.addLast(i + 1_000_000);
+        long intBytes = retainedBytes() - before;
+
+        before = retainedBytes();
+        MyDoublyLinkedList<Integer> boxed = new MyDoublyLinkedList<>();
+        for (int i = 0; i < n; i++) boxed.addLast(i + 1_000_000);
+        long boxedBytes = retainedBytes() - before;
+
+        System.out.printf("IntDoublyLinkedList: %.1f bytes/element, MyDoublyLinkedList<Integer>: %.1f bytes/element%n",
+                (double) intBytes / n, (double) boxedBytes / n);
+        assertEquals(n, ints.size());
+        assertFalse(boxed.isEmpty());
+    }
+
+    /** Reports bytes allocated per addLast/removeFirst pair once the list is warmed up. */
+    @Test
+    void testSteadyStateAllocation() {
+        int n = 10_000;
+        int cycles = 1_000_000;
+        System.out.println("\n--- Allocation: addLast + removeFirst cycles ---\n");
+
+        IntDoublyLinkedList ints = new IntDoublyLinkedList();
+        for (int i = 0; i < n; i++) ints.addLast(i);
+        long before = allocatedBytes();
+        for (int i = 0; i < cycles; i++) ints.addLast(ints.removeFirst() + 1_000_000);
+        long intAllocated = allocatedBytes() - before;
+
+        MyDoublyLinkedList<Integer> boxed = new MyDoublyLinkedList<>();
+        for (int i = 0; i < n; i++) boxed.addLast(i);
+        before = allocatedBytes();
+        for (int i = 0; i < cycles; i++) boxed.addLast(boxed.removeFirst() + 1_000_000);
+        long boxedAllocated = allocatedBytes() - before;
+
+        System.out.printf("IntDoublyLinkedList: %.2f bytes/cycle, MyDoublyLinkedList<Integer>: %.2f bytes/cycle%n",
+                (double) intAllocated / cycles, (double) boxedAllocated / cycles);
+        assertEquals(n, ints.size());
+    }
+}
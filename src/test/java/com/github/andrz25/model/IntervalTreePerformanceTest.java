@@ -0,0 +1,107 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+class IntervalTreePerformanceTest {
+
+    // 1M windows: -DargLine="-Dinterval.windows=1000000"
+    private static final int INTERVALS = Integer.getInteger("interval.windows", 100_000);
+    // Validity windows over ten years, in seconds
+    private static final long DAY = 24 * 3600;
+    private static final long SPAN = 10 * 365 * DAY;
+
+    /**
+     * Loads validity windows, mostly up to a day long with a few lasting weeks, and compares
+     * stabbing and overlap queries on the interval tree with a linear scan over every interval.
+     */
+    @Test
+    void benchmarkAgainstLinearScan() {
+        System.out.println("\n--- Interval tree: " + INTERVALS + " windows over ten years ---\n");
+
+        Random random = new Random(42);
+        Long[] lows = new Long[INTERVALS];
+        Long[] highs = new Long[INTERVALS];
+        // The tree keeps one value per distinct window, so the scan must not see duplicates either
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < INTERVALS; i++) {
+            long low = (long) (random.nextDouble() * SPAN);
+            long length = random.nextInt(100) == 0 ? (long) (random.nextDouble() * 30 * DAY) : (long) (random.nextDouble() * DAY);
+            if (!seen.add(low * 100_000_000L + length)) {
+                i--;
+                continue;
+            }
+            lows[i] = low;
+            highs[i] = low + length;
+        }
+
+        IntervalTree<Long, Integer> balanced = load("balanced, random order", new IntervalTree<>(), lows, highs);
+        assertEquals(INTERVALS, balanced.size());
+        IntervalTree<Long, Integer> unbalanced = load("unbalanced, random order", new IntervalTree<>(false), lows, highs);
+        // Windows are usually created in time order, which only the balanced tree absorbs
+        Long[] sortedLows = lows.clone();
+        Arrays.sort(sortedLows);
+        Long[] sortedHighs = new Long[INTERVALS];
+        for (int i = 0; i < INTERVALS; i++) sortedHighs[i] = sortedLows[i] + DAY;
+        load("balanced, sorted order", new IntervalTree<>(), sortedLows, sortedHighs);
+        System.out.println();
+
+        System.out.printf("%-24s %-14s %-14s %-14s %-10s%n", "Query", "AVL q/s", "Unbalanced q/s", "Scan q/s", "Results");
+        for (long width : new long[] {0, 3600, 7 * DAY}) {
+            String label = width == 0 ? "stab" : "overlap " + (width == 3600 ? "1 hour" : "7 days");
+            // The first pass warms up the JIT
+            for (int pass = 0; pass < 2; pass++) {
+                Random queries = new Random(pass);
+                long[] from = new long[10_000];
+                for (int i = 0; i < from.length; i++) from[i] = (long) (queries.nextDouble() * SPAN);
+
+                long results = 0;
+                long start = System.nanoTime();
+                for (long f : from) results += balanced.overlapping(f, f + width).size();
+                double balancedRate = from.length / ((System.nanoTime() - start) / 1e9);
+
+                long unbalancedResults = 0;
+                start = System.nanoTime();
+                for (long f : from) unbalancedResults += unbalanced.overlapping(f, f + width).size();
+                double unbalancedRate = from.length / ((System.nanoTime() - start) / 1e9);
+                assertEquals(results, unbalancedResults);
+
+                // A scan of every interval per query is slow, so it answers only the first 100
+                int scanned = 100;
+                long scanResults = 0;
+                long treeResults = 0;
+                start = System.nanoTime();
+                for (int q = 0; q < scanned; q++) {
+                    long f = from[q];
+                    long t = f + width;
+                    for (int i = 0; i < INTERVALS; i++) {
+                        if (lows[i] <= t && highs[i] >= f) scanResults++;
+                    }
+                }
+                double scanRate = scanned / ((System.nanoTime() - start) / 1e9);
+                for (int q = 0; q < scanned; q++) treeResults += balanced.overlapping(from[q], from[q] + width).size();
+                assertEquals(scanResults, treeResults);
+
+                if (pass == 1) {
+                    System.out.printf("%-24s %-14.0f %-14.0f %-14.1f %-10.1f%n", label, balancedRate, unbalancedRate,
+                            scanRate, (double) results / from.length);
+                }
+            }
+        }
+    }
+
+    private static IntervalTree<Long, Integer> load(String label, IntervalTree<Long, Integer> tree, Long[] lows, Long[] highs) {
+        long start = System.nanoTime();
+        for (int i = 0; i < lows.length; i++) tree.put(lows[i], highs[i], i);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("load %-26s %6.0f ms  %,10.0f puts/s  height %d%n", label, elapsed / 1e6,
+                lows.length / (elapsed / 1e9), tree.height());
+        return tree;
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+class IntervalTreeTest {
+
+    @Test
+    void stabAndOverlapPromotionWindows() {
+        IntervalTree<LocalDate, String> promotions = new IntervalTree<>();
+        assertTrue(promotions.isEmpty());
+        assertTrue(promotions.stab(LocalDate.of(2024, 1, 1)).isEmpty());
+
+        promotions.put(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), "january");
+        promotions.put(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15), "winter");
+        promotions.put(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1), "one day");
+        promotions.put(LocalDate.of(2023, 6, 1), LocalDate.of(2024, 12, 31), "long");
+        assertEquals("january", promotions.put(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), "new year"));
+        assertEquals(4, promotions.size());
+
+        assertEquals(List.of("long", "new year", "winter"), values(promotions.stab(LocalDate.of(2024, 1, 20))));
+        // Both ends are inclusive
+        assertEquals(List.of("long", "winter"), values(promotions.stab(LocalDate.of(2024, 2, 15))));
+        assertEquals(List.of("long", "one day"), values(promotions.stab(LocalDate.of(2024, 3, 1))));
+        assertEquals(List.of("long", "winter", "one day"),
+                values(promotions.overlapping(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1))));
+        assertTrue(promotions.stab(LocalDate.of(2025, 1, 1)).isEmpty());
+
+        assertEquals("long", promotions.remove(LocalDate.of(2023, 6, 1), LocalDate.of(2024, 12, 31)));
+        assertNull(promotions.remove(LocalDate.of(2023, 6, 1), LocalDate.of(2024, 12, 31)));
+        assertEquals(List.of("one day"), values(promotions.stab(LocalDate.of(2024, 3, 1))));
+        assertEquals("winter", promotions.get(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15)));
+        assertNull(promotions.get(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 16)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> promotions.put(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), "backwards"));
+        assertThrows(NullPointerException.class, () -> promotions.stab(null));
+        promotions.clear();
+        assertEquals(-1, promotions.height());
+    }
+
+    @Test
+    void balancedTreeStaysShallowOnSortedInput() {
+        IntervalTree<Integer, Integer> balanced = new IntervalTree<>();
+        IntervalTree<Integer, Integer> unbalanced = new IntervalTree<>(false);
+        assertTrue(balanced.isBalanced());
+        assertFalse(unbalanced.isBalanced());
+        int n = 1 << 12;
+        for (int i = 0; i < n; i++) {
+            balanced.put(i, i + 10, i);
+            unbalanced.put(i, i + 10, i);
+        }
+        // AVL trees are at most about 1.44 log2(n) high
+        assertTrue(balanced.height() <= 1.45 * 12, "height " + balanced.height());
+        assertEquals(n - 1, unbalanced.height());
+        // A degenerate tree is queried without recursion
+        assertEquals(11, unbalanced.stab(n / 2).size());
+        assertEquals(11, balanced.stab(n / 2).size());
+
+        for (int i = 0; i < n; i += 2) balanced.remove(i, i + 10);
+        assertEquals(n / 2, balanced.size());
+        assertTrue(balanced.height() <= 1.45 * 11, "height " + balanced.height());
+        assertEquals(List.of(99, 101, 103, 105, 107, 109), values(balanced.stab(109)));
+    }
+
+    @Test
+    void randomOperationsMatchLinearScan() {
+        for (boolean balanced : new boolean[] {true, false}) {
+            IntervalTree<Integer, Integer> tree = new IntervalTree<>(balanced);
+            // Intervals by (low, high), the oracle answers queries by scanning them all
+            TreeMap<List<Integer>, Integer> expected = new TreeMap<>(
+                    Comparator.<List<Integer>, Integer>comparing(key -> key.get(0)).thenComparing(key -> key.get(1)));
+            Random random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                int low = random.nextInt(2_000);
+                int high = low + (random.nextInt(10) == 0 ? random.nextInt(600) : random.nextInt(50));
+                List<Integer> key = List.of(low, high);
+                switch (random.nextInt(4)) {
+                    case 0, 1 -> assertEquals(expected.put(key, i), tree.put(low, high, i));
+                    case 2 -> assertEquals(expected.remove(key), tree.remove(low, high));
+                    default -> {
+                        int to = low + random.nextInt(100);
+                        List<Integer> scan = new ArrayList<>();
+                        expected.forEach((interval, value) -> {
+                            if (interval.get(0) <= to && interval.get(1) >= low) scan.add(value);
+                        });
+                        assertEquals(scan, values(tree.overlapping(low, to)));
+                    }
+                }
+            }
+            assertEquals(expected.size(), tree.size());
+            List<Integer> all = values(tree.overlapping(Integer.MIN_VALUE, Integer.MAX_VALUE));
+            assertEquals(new ArrayList<>(expected.values()), all);
+        }
+    }
+
+    private static <T, V> List<V> values(List<IntervalTree.Entry<T, V>> entries) {
+        List<V> values = new ArrayList<>();
+        for (IntervalTree.Entry<T, V> entry : entries) values.add(entry.value());
+        return values;
+    }
+}
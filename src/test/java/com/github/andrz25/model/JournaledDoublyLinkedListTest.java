@@ -0,0 +1,232 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.andrz25.model.JournaledDoublyLinkedList.Durability;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+class JournaledDoublyLinkedListTest {
+
+    // Journal header, then records of [op][index][int element][checksum]
+    private static final int HEADER = 16;
+    private static final int RECORD = 13;
+
+    @TempDir
+    Path dir;
+
+    private JournaledDoublyLinkedList<Integer> open() throws IOException {
+        return new JournaledDoublyLinkedList<>(RecordCodec.INT, dir);
+    }
+
+    private static void assertContents(JournaledDoublyLinkedList<Integer> list, Integer... expected) {
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.getAt(i));
+        }
+    }
+
+    @Test
+    void recoversEveryOperation() throws IOException {
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertNull(list.removeFirst());
+            for (int i = 0; i < 6; i++) list.addLast(i);
+            list.addFirst(-1);
+            list.insertAt(3, 42);
+            assertEquals(-1, list.removeFirst());
+            assertEquals(5, list.removeLast());
+            assertEquals(2, list.removeAt(3));
+            assertContents(list, 0, 1, 42, 3, 4);
+        }
+
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertContents(list, 0, 1, 42, 3, 4);
+            list.clear();
+            list.addLast(7);
+        }
+
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertContents(list, 7);
+        }
+    }
+
+    @Test
+    void recoversWithoutClose() throws IOException {
+        // Written records are in the page cache, so they survive the process dying
+        JournaledDoublyLinkedList<Integer> crashed = new JournaledDoublyLinkedList<>(RecordCodec.INT, dir, Durability.NONE);
+        for (int i = 0; i < 1000; i++) crashed.addLast(i);
+        crashed.removeFirst();
+
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertEquals(999, list.size());
+            assertEquals(1, list.getFirst());
+            assertEquals(999, list.getLast());
+        }
+    }
+
+    @Test
+    void ignoresTornRecord() throws IOException {
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            for (int i = 0; i < 10; i++) list.addLast(i);
+        }
+
+        // Flip a byte of the last element, as if the crash happened halfway through writing it
+        try (FileChannel journal = FileChannel.open(dir.resolve(JournaledDoublyLinkedList.JOURNAL_FILE), StandardOpenOption.WRITE)) {
+            journal.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), HEADER + 9L * RECORD + 6);
+        }
+
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertContents(list, 0, 1, 2, 3, 4, 5, 6, 7, 8);
+            list.addLast(100);
+        }
+
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertContents(list, 0, 1, 2, 3, 4, 5, 6, 7, 8, 100);
+        }
+    }
+
+    @Test
+    void ignoresRecordsLeftAfterTornFirstRecord() throws IOException {
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            for (int i = 0; i < 3; i++) list.addLast(i);
+        }
+
+        // Tear the first record, the two valid records behind it stay in the file
+        try (FileChannel journal = FileChannel.open(dir.resolve(JournaledDoublyLinkedList.JOURNAL_FILE), StandardOpenOption.WRITE)) {
+            journal.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), HEADER + 6);
+        }
+
+        // Nothing replays, and the new record overwrites the torn one
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertContents(list);
+            list.addLast(100);
+        }
+
+        // The records after it are from an older generation now and must not replay
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertContents(list, 100);
+        }
+    }
+
+    @Test
+    void compactsIntoSnapshot() throws IOException {
+        try (JournaledDoublyLinkedList<Integer> list = new JournaledDoublyLinkedList<>(RecordCodec.INT, dir, Durability.BATCHED, 8, 50)) {
+            for (int i = 0; i < 200; i++) {
+                list.addLast(i);
+                if (i % 2 == 0) list.removeFirst();
+            }
+            assertTrue(Files.exists(dir.resolve(JournaledDoublyLinkedList.SNAPSHOT_FILE)));
+            assertTrue(list.journalRecords() < 200);
+        }
+
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertEquals(100, list.size());
+            assertEquals(100, list.getFirst());
+            assertEquals(199, list.getLast());
+            assertEquals(0, list.journalRecords());
+        }
+    }
+
+    @Test
+    void ignoresJournalAlreadyInSnapshot() throws IOException {
+        Path journal = dir.resolve(JournaledDoublyLinkedList.JOURNAL_FILE);
+        Path stale = dir.resolve("stale");
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            for (int i = 0; i < 5; i++) list.addLast(i);
+            list.sync();
+            Files.copy(journal, stale);
+            list.compact();
+        }
+
+        // A crash between writing the snapshot and resetting the journal leaves the old journal behind
+        Files.copy(stale, journal, StandardCopyOption.REPLACE_EXISTING);
+
+        try (JournaledDoublyLinkedList<Integer> list = open()) {
+            assertContents(list, 0, 1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    void rejectsInvalidUse() throws IOException {
+        JournaledDoublyLinkedList<Integer> list = open();
+        assertThrows(NullPointerException.class, () -> list.addLast(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(0));
+        assertEquals(0, list.journalRecords());
+
+        list.close();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.addLast(1));
+        assertThrows(IllegalStateException.class, list::size);
+
+        assertThrows(IOException.class, () -> new JournaledDoublyLinkedList<>(RecordCodec.LONG, dir));
+    }
+
+    //Performance Tests
+
+    @Test
+    void benchmarkDurabilityAndRecovery() throws IOException {
+        System.out.println("\n--- Journal: throughput per durability level ---\n");
+
+        int n = 1_000_000;
+        long start = System.nanoTime();
+        MyDoublyLinkedList<Integer> memory = new MyDoublyLinkedList<>();
+        for (int i = 0; i < n; i++) memory.addLast(i);
+        report("in-memory", n, System.nanoTime() - start);
+        memory = null;
+
+        int level = 0;
+        for (Durability durability : Durability.values()) {
+            // A force per record is a system call each, so fewer operations are enough
+            int ops = (durability == Durability.PER_OP) ? 10_000 : n;
+            Path levelDir = dir.resolve("level" + level++);
+            try (JournaledDoublyLinkedList<Integer> list = new JournaledDoublyLinkedList<>(RecordCodec.INT, levelDir, durability)) {
+                start = System.nanoTime();
+                for (int i = 0; i < ops; i++) list.addLast(i);
+                list.sync();
+                report(durability.name(), ops, System.nanoTime() - start);
+            }
+        }
+
+        System.out.println("\n--- Journal: recovery time ---\n");
+
+        int entries = 10_000_000;
+        Path recoveryDir = dir.resolve("recovery");
+        try (JournaledDoublyLinkedList<Integer> list = new JournaledDoublyLinkedList<>(RecordCodec.INT, recoveryDir, Durability.NONE, 1024, Long.MAX_VALUE)) {
+            for (int i = 0; i < entries; i++) list.addLast(i);
+        }
+
+        start = System.nanoTime();
+        try (JournaledDoublyLinkedList<Integer> list = open(recoveryDir)) {
+            long replayed = System.nanoTime() - start;
+            assertEquals(entries, list.size());
+            System.out.printf("replay %d journal records and compact: %.2f ms%n", entries, replayed / 1_000_000.0);
+        }
+
+        start = System.nanoTime();
+        try (JournaledDoublyLinkedList<Integer> list = open(recoveryDir)) {
+            long loaded = System.nanoTime() - start;
+            assertEquals(entries - 1, list.getLast());
+            System.out.printf("load snapshot of %d elements: %.2f ms%n", entries, loaded / 1_000_000.0);
+        }
+    }
+
+    private JournaledDoublyLinkedList<Integer> open(Path directory) throws IOException {
+        return new JournaledDoublyLinkedList<>(RecordCodec.INT, directory, Durability.NONE);
+    }
+
+    private void report(String name, int ops, long nanos) {
+        System.out.printf("%-10s %,12.0f ops/s (%d ops)%n", name, ops / (nanos / 1_000_000_000.0), ops);
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.andrz25.catalog.Book;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+
+class MyBinarySearchTreeMapPerformanceTest {
+
+    // 500k books: -DargLine="-Dmap.books=500000"
+    private static final int BOOKS = Integer.getInteger("map.books", 100_000);
+    private static final int OPERATIONS = 4 * BOOKS;
+
+    /**
+     * Compares MyBinarySearchTreeMap from ISBN to Book with the pairing it replaces: a
+     * MyBinarySearchTree of ISBNs for ordering next to a HashMap from ISBN to Book.
+     */
+    @Test
+    void benchmarkAgainstTreeAndHashMap() {
+        System.out.println("\n--- ISBN map: " + BOOKS + " books, " + OPERATIONS + " operations per row ---\n");
+        System.out.printf("%-22s %-16s %-16s %-10s%n", "Operation", "Tree+Hash ops/s", "BST map ops/s", "map/pair");
+
+        // Scatter the ISBNs so the trees stay bushy
+        String[] isbns = new String[BOOKS];
+        Book[] books = new Book[BOOKS];
+        for (int i = 0; i < BOOKS; i++) {
+            isbns[i] = Long.toString(9_780_000_000_000L + (i * 2_654_435_761L) % 10_000_000_000L);
+            books[i] = new Book(isbns[i], "t" + i, "author-" + i % 1_000, 100 + i % 9_900, LocalDate.of(2000, 1, 1));
+        }
+
+        Paired paired = null;
+        MyBinarySearchTreeMap<String, Book> map = null;
+        // The first pass warms up the JIT
+        for (int pass = 0; pass < 2; pass++) {
+            paired = new Paired();
+            map = new MyBinarySearchTreeMap<>();
+            boolean print = pass == 1;
+
+            Paired p = paired;
+            MyBinarySearchTreeMap<String, Book> m = map;
+            row(print, "put (load)", BOOKS,
+                    () -> { for (int i = 0; i < BOOKS; i++) p.put(isbns[i], books[i]); },
+                    () -> { for (int i = 0; i < BOOKS; i++) m.put(isbns[i], books[i]); });
+
+            Random random = new Random(42);
+            int[] picks = new int[OPERATIONS];
+            for (int i = 0; i < OPERATIONS; i++) picks[i] = random.nextInt(BOOKS);
+
+            long[] sink = new long[2];
+            row(print, "get", OPERATIONS,
+                    () -> { for (int i : picks) sink[0] += p.get(isbns[i]).priceCents(); },
+                    () -> { for (int i : picks) sink[1] += m.get(isbns[i]).priceCents(); });
+            assertEquals(sink[0], sink[1]);
+
+            // Read-modify-write: reprice a book, half of the picks hitting ISBNs not yet present
+            row(print, "merge (reprice/add)", OPERATIONS,
+                    () -> { for (int i : picks) p.merge(key(isbns, i), books[i], MyBinarySearchTreeMapPerformanceTest::reprice); },
+                    () -> { for (int i : picks) m.merge(key(isbns, i), books[i], MyBinarySearchTreeMapPerformanceTest::reprice); });
+            row(print, "computeIfAbsent", OPERATIONS,
+                    () -> { for (int i : picks) p.computeIfAbsent(key(isbns, i ^ 1), books[i]); },
+                    () -> { for (int i : picks) m.computeIfAbsent(key(isbns, i ^ 1), k -> books[i]); });
+            assertEquals(p.books.size(), m.size());
+            assertEquals(p.isbns.size(), m.size());
+        }
+    }
+
+    // Every other ISBN gets a suffix, so it misses the loaded books
+    private static String key(String[] isbns, int i) {
+        return (i & 1) == 0 ? isbns[i] : isbns[i] + "X";
+    }
+
+    private static Book reprice(Book old, Book update) {
+        return new Book(old.isbn(), old.title(), old.author(), old.priceCents() + 1, old.published());
+    }
+
+    private static void row(boolean print, String label, int operations, Runnable paired, Runnable map) {
+        long start = System.nanoTime();
+        paired.run();
+        long pairedNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        map.run();
+        long mapNanos = System.nanoTime() - start;
+        if (print) {
+            System.out.printf("%-22s %-16.0f %-16.0f %-10.2f%n", label, operations / (pairedNanos / 1e9), operations / (mapNanos / 1e9),
+                    (double) pairedNanos / mapNanos);
+        }
+    }
+
+    // The tree keeps the ISBNs ordered, the hash map holds the books
+    private static final class Paired {
+        final MyBinarySearchTree<String> isbns = new MyBinarySearchTree<>();
+        final Map<String, Book> books = new HashMap<>();
+
+        void put(String isbn, Book book) {
+            if (books.put(isbn, book) == null) isbns.insert(isbn);
+        }
+
+        Book get(String isbn) {
+            return books.get(isbn);
+        }
+
+        void merge(String isbn, Book book, BinaryOperator<Book> function) {
+            Book old = books.get(isbn);
+            if (old == null) {
+                books.put(isbn, book);
+                isbns.insert(isbn);
+            } else {
+                books.put(isbn, function.apply(old, book));
+            }
+        }
+
+        void computeIfAbsent(String isbn, Book book) {
+            if (!books.containsKey(isbn)) {
+                books.put(isbn, book);
+                isbns.insert(isbn);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+class MyBinarySearchTreeMapTest {
+
+    @Test
+    void putGetRemoveAndNavigate() {
+        MyBinarySearchTreeMap<Integer, String> map = new MyBinarySearchTreeMap<>();
+        assertTrue(map.isEmpty());
+        assertThrows(NoSuchElementException.class, map::firstKey);
+
+        for (int key : new int[] {50, 30, 70, 20, 40, 60, 80}) assertNull(map.put(key, "v" + key));
+        assertEquals("v40", map.put(40, "forty"));
+        assertEquals(7, map.size());
+        assertEquals("forty", map.get(40));
+        assertNull(map.get(45));
+        assertTrue(map.containsKey(80));
+        assertEquals("none", map.getOrDefault(45, "none"));
+
+        assertEquals(20, map.firstKey());
+        assertEquals(80, map.lastKey());
+        assertEquals(40, map.floorKey(45));
+        assertEquals(40, map.floorKey(40));
+        assertEquals(30, map.lowerKey(40));
+        assertEquals(50, map.ceilingKey(45));
+        assertEquals(60, map.higherKey(50));
+        assertNull(map.lowerKey(20));
+        assertNull(map.higherKey(80));
+
+        // Removing the root, which has two children, keeps the order and the other entries
+        Map.Entry<Integer, String> sixty = map.rangeIterator(60, 60).next();
+        assertEquals("v50", map.remove(50));
+        assertNull(map.remove(50));
+        assertEquals(List.of(20, 30, 40, 60, 70, 80), keys(map.rangeIterator(null, null)));
+        assertEquals(List.of(30, 40, 60), keys(map.rangeIterator(25, 65)));
+        assertEquals(60, sixty.getKey());
+        sixty.setValue("sixty");
+        assertEquals("sixty", map.get(60));
+
+        assertEquals(Map.of(20, "v20", 30, "v30", 40, "forty", 60, "sixty", 70, "v70", 80, "v80"), map);
+        assertThrows(NullPointerException.class, () -> map.put(null, "x"));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.floorKey(10));
+    }
+
+    @Test
+    void computeIfAbsentAndMergeInOneDescent() {
+        MyBinarySearchTreeMap<String, Integer> counts = new MyBinarySearchTreeMap<>();
+        for (String word : "the cat and the dog and the bird".split(" ")) counts.merge(word, 1, Integer::sum);
+        assertEquals(Map.of("the", 3, "and", 2, "cat", 1, "dog", 1, "bird", 1), counts);
+
+        // A null result of merge removes the key
+        assertNull(counts.merge("cat", 1, (a, b) -> null));
+        assertFalse(counts.containsKey("cat"));
+
+        MyBinarySearchTreeMap<String, List<Integer>> groups = new MyBinarySearchTreeMap<>();
+        for (int i = 0; i < 10; i++) groups.computeIfAbsent(i % 2 == 0 ? "even" : "odd", k -> new ArrayList<>()).add(i);
+        assertEquals(List.of(0, 2, 4, 6, 8), groups.get("even"));
+        List<Integer> odd = groups.get("odd");
+        assertSame(odd, groups.computeIfAbsent("odd", k -> new ArrayList<>()));
+        // A null result stores nothing, and a key mapped to null counts as absent
+        assertNull(groups.computeIfAbsent("none", k -> null));
+        assertFalse(groups.containsKey("none"));
+        groups.put("empty", null);
+        assertEquals(List.of(), groups.computeIfAbsent("empty", k -> List.of()));
+        assertEquals(3, groups.size());
+
+        // A mapping function that modifies the map is detected
+        assertThrows(ConcurrentModificationException.class,
+                () -> groups.computeIfAbsent("new", k -> groups.put("other", List.of())));
+        Iterator<Map.Entry<String, List<Integer>>> it = groups.entrySet().iterator();
+        groups.remove("even");
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    void randomOperationsMatchTreeMap() {
+        MyBinarySearchTreeMap<Integer, Integer> map = new MyBinarySearchTreeMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(2_000);
+            int value = random.nextInt(10);
+            switch (random.nextInt(6)) {
+                case 0 -> assertEquals(expected.put(key, value), map.put(key, value));
+                case 1 -> assertEquals(expected.remove(key), map.remove(key));
+                case 2 -> assertEquals(expected.computeIfAbsent(key, k -> value), map.computeIfAbsent(key, k -> value));
+                case 3 -> {
+                    // Sums that reach 0 remove the key
+                    Integer merged = expected.merge(key, value - 4, (a, b) -> a + b == 0 ? null : a + b);
+                    assertEquals(merged, map.merge(key, value - 4, (a, b) -> a + b == 0 ? null : a + b));
+                }
+                case 4 -> {
+                    assertEquals(expected.floorKey(key), map.floorKey(key));
+                    assertEquals(expected.higherKey(key), map.higherKey(key));
+                }
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+        assertEquals(new ArrayList<>(expected.subMap(500, true, 900, true).keySet()), keys(map.rangeIterator(500, 900)));
+        assertEquals(expected.firstKey(), map.firstKey());
+        assertEquals(expected.lastKey(), map.lastKey());
+    }
+
+    private static <K, V> List<K> keys(Iterator<Map.Entry<K, V>> it) {
+        List<K> keys = new ArrayList<>();
+        while (it.hasNext()) keys.add(it.next().getKey());
+        return keys;
+    }
+}
@@ -2,6 +2,7 @@ package com.github.andrz25.model;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -15,7 +16,7 @@ class MyBinarySearchTreePerformanceTest {
     @BeforeEach
     void setUp() {
         bst = new MyBinarySearchTree<>();
-        random = new Random();
+        random = new Random(42); // Fixed seed so every run times the same keys
     }
 
     /**
@@ -107,4 +108,41 @@ class MyBinarySearchTreePerformanceTest {
             System.out.printf("%-15d %-15d%n", n, durationMs);
         }
     }
+
+    /**
+     * Benchmarks bytes allocated per delete + insert cycle on a populated tree,
+     * with and without node recycling.
+     * Expected: Recycling allocates nothing once the tree is built.
+     */
+    @Test
+    void benchmarkRecyclingAllocation() {
+        int n = 100000;
+        int cycles = 1000000;
+        Integer[] keys = new Integer[2 * n];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        System.out.println("\n--- Delete + Insert Allocation Benchmark (N=" + n + ") ---");
+        System.out.printf("%-15s %-15s%n", "Tree", "Bytes/Cycle");
+
+        for (int recycleCapacity : new int[] {0, 64}) {
+            bst = new MyBinarySearchTree<>(recycleCapacity);
+            for (int i = 0; i < n; i++) {
+                bst.insert(keys[i]);
+            }
+
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long before = threads.getCurrentThreadAllocatedBytes();
+
+            // Delete the oldest key and insert a new one, keeping the size constant
+            for (int i = 0; i < cycles; i++) {
+                bst.delete(keys[i % keys.length]);
+                bst.insert(keys[(i + n) % keys.length]);
+            }
+
+            long after = threads.getCurrentThreadAllocatedBytes();
+            System.out.printf("%-15s %-15.2f%n", recycleCapacity == 0 ? "Plain" : "Recycling", (double) (after - before) / cycles);
+        }
+    }
 }
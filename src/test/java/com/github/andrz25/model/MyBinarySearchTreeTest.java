@@ -6,6 +6,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -104,6 +109,28 @@ class MyBinarySearchTreeTest {
         assertEquals(4, bst.size());
     }
 
+    @Test
+    void deleteWithRecycling() {
+        bst = new MyBinarySearchTree<>(2);
+        bst.insert(50);
+        bst.insert(30);
+        bst.insert(70);
+        bst.insert(60);
+
+        bst.delete(50);     // two children, successor node 60 is recycled
+        bst.delete(30);     // leaf
+        bst.delete(99);
+        assertEquals(2, bst.size());
+
+        bst.insert(40);
+        bst.insert(80);
+        bst.insert(65);
+        assertEquals(5, bst.size());
+
+        bst.inOrderTraversal();
+        assertEquals("40 60 65 70 80 ", outContent.toString());
+    }
+
     @Test
     void inOrderTraversal() {
         // Expected: Left, Root, Right (Sorted)
@@ -219,4 +246,27 @@ class MyBinarySearchTreeTest {
         bst.delete(10);
         assertTrue(bst.isEmpty());
     }
+
+    @Test
+    void rangeIterator() {
+        int[] values = {50, 30, 70, 20, 40, 60, 80, 35, 45};
+        for (int value : values) bst.insert(value);
+
+        assertEquals(Arrays.asList(35, 40, 45, 50, 60), collect(bst.rangeIterator(32, 60)));
+        assertEquals(Arrays.asList(20, 30), collect(bst.rangeIterator(null, 34)));
+        assertEquals(Arrays.asList(70, 80), collect(bst.rangeIterator(65, null)));
+        assertEquals(9, collect(bst.rangeIterator(null, null)).size());
+        assertTrue(collect(bst.rangeIterator(81, 100)).isEmpty());
+        assertTrue(collect(bst.rangeIterator(61, 69)).isEmpty());
+
+        Iterator<Integer> empty = new MyBinarySearchTree<Integer>().rangeIterator(null, null);
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, empty::next);
+    }
+
+    private static List<Integer> collect(Iterator<Integer> it) {
+        List<Integer> result = new ArrayList<>();
+        while (it.hasNext()) result.add(it.next());
+        return result;
+    }
 }
@@ -3,6 +3,7 @@ package com.github.andrz25.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +12,19 @@ import org.junit.jupiter.api.Test;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 
 class MyDoublyLinkedListTest {
@@ -199,6 +212,324 @@ class MyDoublyLinkedListTest {
         assertEquals(-1, list.indexOf(6));
     }
 
+    @Test
+    void listIteratorTraversal() {
+        list.addLast(5);
+        list.addLast(4);
+        list.addLast(3);
+
+        ListIterator<Integer> it = list.listIterator();
+        assertFalse(it.hasPrevious());
+        assertEquals(5, it.next());
+        assertEquals(4, it.next());
+        assertEquals(3, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+
+        assertEquals(3, it.previous());
+        assertEquals(4, it.previous());
+        assertEquals(1, it.nextIndex());
+        assertEquals(0, it.previousIndex());
+
+        ListIterator<Integer> fromIndex = list.listIterator(2);
+        assertEquals(3, fromIndex.next());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(4));
+    }
+
+    @Test
+    void listIteratorEdits() {
+        list.addLast(1);
+        list.addLast(2);
+        list.addLast(3);
+
+        ListIterator<Integer> it = list.listIterator();
+        it.add(0);                  // 0 1 2 3
+        assertEquals(1, it.next());
+        it.remove();                // 0 2 3
+        assertThrows(IllegalStateException.class, it::remove);
+        assertEquals(2, it.next());
+        it.set(20);                 // 0 20 3
+        assertEquals(20, it.previous());
+        it.remove();                // 0 3
+        assertEquals(3, it.next());
+        it.add(4);                  // 0 3 4
+
+        assertEquals(3, list.size());
+        assertEquals(0, list.getFirst());
+        assertEquals(3, list.getAt(1));
+        assertEquals(4, list.getLast());
+        assertEquals(4, it.previous());
+    }
+
+    @Test
+    void listIteratorFailFast() {
+        list.addLast(1);
+        list.addLast(2);
+
+        ListIterator<Integer> it = list.listIterator();
+        it.next();
+        list.addLast(3);
+        assertThrows(ConcurrentModificationException.class, it::next);
+
+        ListIterator<Integer> other = list.listIterator();
+        other.next();
+        list.removeFirst();
+        assertThrows(ConcurrentModificationException.class, other::remove);
+    }
+
+    @Test
+    void handles() {
+        MyDoublyLinkedList.Handle<Integer> five = list.linkLast(5);
+        MyDoublyLinkedList.Handle<Integer> four = list.linkLast(4);
+        MyDoublyLinkedList.Handle<Integer> one = list.linkFirst(1);
+        assertEquals(5, five.get());
+
+        list.insertBefore(five, 2);     // 1 2 5 4
+        list.insertAfter(four, 6);      // 1 2 5 4 6
+        assertEquals(2, list.getAt(1));
+        assertEquals(6, list.getLast());
+
+        list.moveToFront(four);         // 4 1 2 5 6
+        assertEquals(4, list.getFirst());
+        list.moveToBack(one);           // 4 2 5 6 1
+        assertEquals(1, list.getLast());
+        assertEquals(5, list.getAt(2));
+
+        assertEquals(5, list.remove(five));
+        assertEquals(4, list.size());
+        assertEquals(-1, list.indexOf(5));
+        assertThrows(IllegalArgumentException.class, () -> list.remove(five));
+
+        list.clear();
+        assertThrows(IllegalArgumentException.class, () -> list.moveToFront(four));
+    }
+
+    private MyDoublyLinkedList<Integer> listOf(int... values) {
+        MyDoublyLinkedList<Integer> result = new MyDoublyLinkedList<>();
+        for (int value : values) result.addLast(value);
+        return result;
+    }
+
+    private void assertContents(MyDoublyLinkedList<Integer> actual, int... expected) {
+        assertEquals(expected.length, actual.size());
+        ListIterator<Integer> it = actual.listIterator();
+        for (int value : expected) assertEquals(value, it.next());
+        assertFalse(it.hasNext());
+        // Walk backwards too, to check the prev links
+        for (int i = expected.length - 1; i >= 0; i--) assertEquals(expected[i], it.previous());
+    }
+
+    @Test
+    void appendAll() {
+        list = listOf(1, 2);
+        MyDoublyLinkedList<Integer> other = listOf(3, 4);
+        MyDoublyLinkedList.Handle<Integer> five = other.linkLast(5);
+
+        list.appendAll(other);
+        assertContents(list, 1, 2, 3, 4, 5);
+        assertTrue(other.isEmpty());
+        assertNull(other.getFirst());
+
+        // Moved handles belong to the receiving list
+        list.moveToFront(five);
+        assertContents(list, 5, 1, 2, 3, 4);
+
+        MyDoublyLinkedList<Integer> empty = new MyDoublyLinkedList<>();
+        empty.appendAll(list);
+        assertContents(empty, 5, 1, 2, 3, 4);
+        assertThrows(IllegalArgumentException.class, () -> empty.appendAll(empty));
+    }
+
+    @Test
+    void splitAt() {
+        list = listOf(1, 2, 3, 4, 5);
+
+        MyDoublyLinkedList<Integer> rest = list.splitAt(3);
+        assertContents(list, 1, 2, 3);
+        assertContents(rest, 4, 5);
+
+        assertContents(list.splitAt(3));
+        MyDoublyLinkedList<Integer> all = list.splitAt(0);
+        assertContents(all, 1, 2, 3);
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> all.splitAt(4));
+    }
+
+    @Test
+    void spliceAt() {
+        list = listOf(1, 5);
+        list.spliceAt(1, listOf(2, 3, 4));
+        assertContents(list, 1, 2, 3, 4, 5);
+
+        list.spliceAt(0, listOf(0));
+        list.spliceAt(6, listOf(6));
+        list.spliceAt(3, new MyDoublyLinkedList<>());
+        assertContents(list, 0, 1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    void reverse() {
+        list.reverse();
+        assertTrue(list.isEmpty());
+
+        list = listOf(1, 2, 3, 4);
+        list.reverse();
+        assertContents(list, 4, 3, 2, 1);
+        list.addLast(0);
+        list.addFirst(5);
+        assertContents(list, 5, 4, 3, 2, 1, 0);
+    }
+
+    @Test
+    void recycling() {
+        list = new MyDoublyLinkedList<>(2);
+        MyDoublyLinkedList.Handle<Integer> one = list.linkLast(1);
+        list.addLast(2);
+        list.addLast(3);
+
+        assertEquals(1, list.removeFirst());
+        assertNull(one.get(), "Recycled nodes must not keep their element");
+        assertThrows(IllegalArgumentException.class, () -> list.remove(one));
+
+        list.removeFirst();
+        list.removeFirst();
+        list.addLast(4);
+        list.addFirst(5);
+        list.addLast(6);
+        assertEquals(3, list.size());
+        assertEquals(5, list.getFirst());
+        assertEquals(4, list.getAt(1));
+        assertEquals(6, list.getLast());
+
+        list.clear();
+        list.insertAt(0, 7);
+        assertEquals(7, list.getFirst());
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    void iteratorAndStream() {
+        int sum = 0;
+        for (int value : list) sum += value;
+        assertEquals(0, sum);
+
+        for (int i = 1; i <= 5000; i++) list.addLast(i);
+        for (int value : list) sum += value;
+        assertEquals(5000 * 5001 / 2, sum);
+
+        assertEquals(5000 * 5001 / 2, list.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(5000 * 5001 / 2, list.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(Arrays.asList(1, 2, 3), list.stream().limit(3).collect(Collectors.toList()));
+        assertEquals(list.size(), list.parallelStream().filter(v -> v > 0).count());
+    }
+
+    @Test
+    void spliterator() {
+        for (int i = 0; i < 5000; i++) list.addLast(i);
+
+        Spliterator<Integer> rest = list.spliterator();
+        assertTrue(rest.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(5000, rest.estimateSize());
+
+        Spliterator<Integer> first = rest.trySplit();
+        assertEquals(1024, first.estimateSize());
+        assertEquals(5000 - 1024, rest.estimateSize());
+        Spliterator<Integer> second = rest.trySplit();
+        assertEquals(2048, second.estimateSize());
+
+        List<Integer> seen = new ArrayList<>();
+        first.forEachRemaining(seen::add);
+        second.forEachRemaining(seen::add);
+        rest.forEachRemaining(seen::add);
+        assertEquals(5000, seen.size());
+        for (int i = 0; i < 5000; i++) assertEquals(i, seen.get(i));
+
+        Spliterator<Integer> failing = list.spliterator();
+        failing.tryAdvance(v -> { });
+        list.addLast(-1);
+        assertThrows(ConcurrentModificationException.class, () -> failing.forEachRemaining(v -> { }));
+    }
+
+    @Test
+    void sort() {
+        list.sort(null);
+        assertTrue(list.isEmpty());
+
+        list = listOf(5, 3, 9, 1, 3, 7, 2, 8, 6, 4, 0);
+        list.sort(null);
+        assertContents(list, 0, 1, 2, 3, 3, 4, 5, 6, 7, 8, 9);
+        list.sort(Comparator.reverseOrder());
+        assertContents(list, 9, 8, 7, 6, 5, 4, 3, 3, 2, 1, 0);
+
+        // Stability: equal keys keep their relative order
+        MyDoublyLinkedList<String> words = new MyDoublyLinkedList<>();
+        for (String word : new String[] {"pear", "fig", "apple", "kiwi", "plum", "date"}) words.addLast(word);
+        words.sort(Comparator.comparingInt(String::length));
+        assertEquals(Arrays.asList("fig", "pear", "kiwi", "plum", "date", "apple"), words.stream().collect(Collectors.toList()));
+
+        Random random = new Random(7);
+        MyDoublyLinkedList<Integer> large = new MyDoublyLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10_001; i++) {
+            int value = random.nextInt(1000);
+            large.addLast(value);
+            expected.add(value);
+        }
+        Collections.sort(expected);
+        large.sort(null);
+        assertEquals(expected, large.stream().collect(Collectors.toList()));
+        assertEquals(expected.get(expected.size() - 1), large.getLast());
+        assertEquals(expected.get(5000), large.getAt(5000));
+    }
+
+    @Test
+    void sortedInsert() {
+        list.sortedInsert(5, null);
+        list.sortedInsert(1, null);
+        list.sortedInsert(9, null);
+        list.sortedInsert(5, null);
+        list.sortedInsert(7, null);
+        assertContents(list, 1, 5, 5, 7, 9);
+
+        list.sort(Comparator.reverseOrder());
+        list.sortedInsert(6, Comparator.reverseOrder());
+        assertContents(list, 9, 7, 6, 5, 5, 1);
+    }
+
+    @Test
+    void removeIf() {
+        assertEquals(0, list.removeIf(x -> true));
+
+        list = listOf(1, 2, 3, 4, 5, 6, 7, 8);
+        assertEquals(4, list.removeIf(x -> x % 2 == 0));
+        assertContents(list, 1, 3, 5, 7);
+
+        // Removing the ends must update head and tail
+        assertEquals(2, list.removeIf(x -> x == 1 || x == 7));
+        assertContents(list, 3, 5);
+        list.addFirst(0);
+        list.addLast(9);
+        assertContents(list, 0, 3, 5, 9);
+
+        assertEquals(4, list.removeIf(x -> true));
+        assertTrue(list.isEmpty());
+        assertNull(list.getFirst());
+        assertNull(list.getLast());
+    }
+
+    @Test
+    void removeAllAndRetainAll() {
+        list = listOf(1, 2, 3, 2, 4, 5, 2);
+        assertEquals(3, list.removeAll(Collections.singleton(2)));
+        assertContents(list, 1, 3, 4, 5);
+        assertEquals(0, list.removeAll(Collections.singleton(42)));
+
+        assertEquals(2, list.retainAll(new HashSet<>(Arrays.asList(3, 5, 42))));
+        assertContents(list, 3, 5);
+        assertEquals(2, list.retainAll(Collections.emptySet()));
+        assertTrue(list.isEmpty());
+    }
+
     //Performance Tests
     private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
 
@@ -288,6 +619,233 @@ class MyDoublyLinkedListTest {
         }
     }
 
+    @Test
+    void testEditPassTime(){
+        System.out.println("\n--- Time: edit pass (remove every other element) ---\n");
+
+        for(int n: sizes){
+            MyDoublyLinkedList<Integer> indexList = new MyDoublyLinkedList<>();
+            MyDoublyLinkedList<Integer> cursorList = new MyDoublyLinkedList<>();
+            populate(indexList, n);
+            populate(cursorList, n);
+
+            long startIndex = System.nanoTime();
+            for(int i = 0; i < n / 2; i++) indexList.removeAt(i);
+            long endIndex = System.nanoTime();
+
+            long startCursor = System.nanoTime();
+            ListIterator<Integer> it = cursorList.listIterator();
+            while(it.hasNext()){
+                it.next();
+                it.remove();
+                if(it.hasNext()) it.next();
+            }
+            long endCursor = System.nanoTime();
+
+            assertEquals(n / 2, cursorList.size());
+            System.out.printf("n=%d%nremoveAt: %d μs, Cursor: %d μs%n", n, (endIndex - startIndex)/1000, (endCursor - startCursor)/1000);
+        }
+    }
+
+    @Test
+    void testMoveToFrontTime(){
+        System.out.println("\n--- Time: move middle element to front ---\n");
+
+        for(int n: sizes){
+            MyDoublyLinkedList<Integer> myList = new MyDoublyLinkedList<>();
+            LinkedList<Integer> javaList = new LinkedList<>();
+            MyDoublyLinkedList.Handle<Integer> middle = null;
+            for(int i = 0; i < n; i++){
+                MyDoublyLinkedList.Handle<Integer> handle = myList.linkLast(i);
+                if(i == n/2) middle = handle;
+            }
+            populate(javaList, n);
+
+            long startMy = System.nanoTime();
+            myList.moveToFront(middle);
+            long endMy = System.nanoTime();
+
+            long startJava = System.nanoTime();
+            javaList.addFirst(javaList.remove(n/2));
+            long endJava = System.nanoTime();
+
+            System.out.printf("n=%d%nMyList (handle): %d ns, JavaList (index): %d ns%n", n, (endMy-startMy), (endJava - startJava));
+        }
+    }
+
+    @Test
+    void testMergeShardsTime(){
+        int shards = 64;
+        int perShard = 100_000;
+        System.out.println("\n--- Time: merge " + shards + " shard lists of " + perShard + " ---\n");
+
+        List<MyDoublyLinkedList<Integer>> copied = new ArrayList<>();
+        List<MyDoublyLinkedList<Integer>> relinked = new ArrayList<>();
+        for(int s = 0; s < shards; s++){
+            MyDoublyLinkedList<Integer> shard = new MyDoublyLinkedList<>();
+            populate(shard, perShard);
+            copied.add(shard);
+            relinked.add(shard);
+        }
+
+        long startCopy = System.nanoTime();
+        MyDoublyLinkedList<Integer> copyMerged = new MyDoublyLinkedList<>();
+        for(MyDoublyLinkedList<Integer> shard: copied){
+            ListIterator<Integer> it = shard.listIterator();
+            while(it.hasNext()) copyMerged.addLast(it.next());
+        }
+        long endCopy = System.nanoTime();
+        assertEquals(shards * perShard, copyMerged.size());
+        copyMerged.clear();
+
+        long startRelink = System.nanoTime();
+        MyDoublyLinkedList<Integer> relinkMerged = new MyDoublyLinkedList<>();
+        for(MyDoublyLinkedList<Integer> shard: relinked) relinkMerged.appendAll(shard);
+        long endRelink = System.nanoTime();
+        assertEquals(shards * perShard, relinkMerged.size());
+
+        System.out.printf("addLast copy: %.2f ms, appendAll: %.3f ms%n", (endCopy - startCopy)/1_000_000.0, (endRelink - startRelink)/1_000_000.0);
+    }
+
+    private static long allocatedBytes(){
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    void testRecyclingAllocation(){
+        int cycles = 1_000_000;
+        System.out.println("\n--- Allocation: addLast + removeFirst cycles ---\n");
+
+        for(int n: sizes){
+            MyDoublyLinkedList<Integer> plain = new MyDoublyLinkedList<>();
+            MyDoublyLinkedList<Integer> recycling = new MyDoublyLinkedList<>(64);
+            populate(plain, n);
+            populate(recycling, n);
+
+            long startPlain = allocatedBytes();
+            for(int i = 0; i < cycles; i++) plain.addLast(plain.removeFirst());
+            long plainBytes = allocatedBytes() - startPlain;
+
+            long startRecycling = allocatedBytes();
+            for(int i = 0; i < cycles; i++) recycling.addLast(recycling.removeFirst());
+            long recyclingBytes = allocatedBytes() - startRecycling;
+
+            System.out.printf("n=%d%nPlain: %.2f bytes/cycle, Recycling: %.2f bytes/cycle%n", n, (double) plainBytes / cycles, (double) recyclingBytes / cycles);
+        }
+    }
+
+    @Test
+    void testStreamTime(){
+        int n = 2_000_000;
+        int rounds = 5;
+        System.out.println("\n--- Time: filter + sum over " + n + " elements (" + Runtime.getRuntime().availableProcessors() + " cpus) ---\n");
+
+        MyDoublyLinkedList<Integer> myList = new MyDoublyLinkedList<>();
+        populate(myList, n);
+        List<Integer> arrayList = new ArrayList<>();
+        for(int i = 0; i < n; i++) arrayList.add(i);
+
+        long[] times = new long[3];
+        long expected = 0;
+        for(int r = 0; r < rounds; r++){
+            long start = System.nanoTime();
+            long copied = toArrayList(myList).stream().filter(v -> v % 3 == 0).mapToLong(Integer::longValue).sum();
+            long afterCopy = System.nanoTime();
+            long sequential = myList.stream().filter(v -> v % 3 == 0).mapToLong(Integer::longValue).sum();
+            long afterSequential = System.nanoTime();
+            long parallel = myList.parallelStream().filter(v -> v % 3 == 0).mapToLong(Integer::longValue).sum();
+            long afterParallel = System.nanoTime();
+
+            assertEquals(copied, sequential);
+            assertEquals(copied, parallel);
+            expected = copied;
+            times[0] += afterCopy - start;
+            times[1] += afterSequential - afterCopy;
+            times[2] += afterParallel - afterSequential;
+        }
+
+        assertEquals(expected, arrayList.stream().filter(v -> v % 3 == 0).mapToLong(Integer::longValue).sum());
+        System.out.printf("copy to ArrayList: %.2f ms, stream: %.2f ms, parallelStream: %.2f ms%n",
+                times[0] / rounds / 1_000_000.0, times[1] / rounds / 1_000_000.0, times[2] / rounds / 1_000_000.0);
+    }
+
+    private static List<Integer> toArrayList(MyDoublyLinkedList<Integer> source){
+        List<Integer> copy = new ArrayList<>(source.size());
+        for(Integer value: source) copy.add(value);
+        return copy;
+    }
+
+    @Test
+    void testSortTime(){
+        int n = 1_000_000;
+        System.out.println("\n--- Time: sort " + n + " random elements ---\n");
+
+        Random random = new Random(42);
+        MyDoublyLinkedList<Integer> inPlace = new MyDoublyLinkedList<>();
+        MyDoublyLinkedList<Integer> rebuilt = new MyDoublyLinkedList<>();
+        for(int i = 0; i < n; i++){
+            Integer price = random.nextInt(10_000);
+            inPlace.addLast(price);
+            rebuilt.addLast(price);
+        }
+
+        long startRebuild = System.nanoTime();
+        long allocRebuild = allocatedBytes();
+        Object[] copy = new Object[n];
+        int i = 0;
+        for(Integer value: rebuilt) copy[i++] = value;
+        Arrays.sort(copy);
+        rebuilt.clear();
+        for(Object value: copy) rebuilt.addLast((Integer) value);
+        long rebuildBytes = allocatedBytes() - allocRebuild;
+        long endRebuild = System.nanoTime();
+
+        long startSort = System.nanoTime();
+        long allocSort = allocatedBytes();
+        inPlace.sort(null);
+        long sortBytes = allocatedBytes() - allocSort;
+        long endSort = System.nanoTime();
+
+        assertEquals(rebuilt.getAt(n / 2), inPlace.getAt(n / 2));
+        System.out.printf("copy-sort-rebuild: %.2f ms (%d KB allocated), sort: %.2f ms (%d KB allocated)%n",
+                (endRebuild - startRebuild)/1_000_000.0, rebuildBytes/1024, (endSort - startSort)/1_000_000.0, sortBytes/1024);
+    }
+
+    @Test
+    void testPurgeTime(){
+        System.out.println("\n--- Time: purge 10% of the elements ---\n");
+
+        for(int n: sizes){
+            MyDoublyLinkedList<Integer> indexList = new MyDoublyLinkedList<>();
+            MyDoublyLinkedList<Integer> bulkList = new MyDoublyLinkedList<>();
+            populate(indexList, n);
+            populate(bulkList, n);
+
+            long startIndex = System.nanoTime();
+            for(int i = 0; i < indexList.size(); i++){
+                if(indexList.getAt(i) % 10 == 0) indexList.removeAt(i--);
+            }
+            long endIndex = System.nanoTime();
+
+            long startBulk = System.nanoTime();
+            int removed = bulkList.removeIf(x -> x % 10 == 0);
+            long endBulk = System.nanoTime();
+
+            assertEquals(n / 10, removed);
+            assertEquals(indexList.size(), bulkList.size());
+            System.out.printf("n=%d%ngetAt/removeAt: %d μs, removeIf: %d μs%n", n, (endIndex - startIndex)/1000, (endBulk - startBulk)/1000);
+        }
+
+        int n = 1_000_000;
+        MyDoublyLinkedList<Integer> large = new MyDoublyLinkedList<>();
+        populate(large, n);
+        long start = System.nanoTime();
+        int removed = large.removeIf(x -> x % 10 == 0);
+        long end = System.nanoTime();
+        assertEquals(n / 10, removed);
+        System.out.printf("n=%d%nremoveIf: %d μs%n", n, (end - start)/1000);
+    }
+
     //Memory Test
     @Test
     void testMemoryUsage(){
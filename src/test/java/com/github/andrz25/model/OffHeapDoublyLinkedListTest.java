@@ -0,0 +1,185 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+class OffHeapDoublyLinkedListTest {
+
+    OffHeapDoublyLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new OffHeapDoublyLinkedList<>(RecordCodec.INT);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        list.close();
+    }
+
+    @Test
+    void dequeOperations() {
+        assertNull(list.removeFirst());
+        assertNull(list.getLast());
+
+        list.addLast(2);
+        list.addFirst(1);
+        list.addLast(3);
+        assertEquals(1, list.getFirst());
+        assertEquals(3, list.getLast());
+        assertEquals(3, list.size());
+
+        assertEquals(1, list.removeFirst());
+        assertEquals(3, list.removeLast());
+        assertEquals(2, list.removeLast());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void positionalOperations() {
+        for (int i = 0; i < 5; i++) list.addLast(i);
+        list.insertAt(2, 10);
+        assertEquals(10, list.getAt(2));
+        assertEquals(2, list.getAt(3));
+        assertNull(list.getAt(6));
+
+        assertEquals(10, list.removeAt(2));
+        assertEquals(4, list.indexOf(4));
+        assertTrue(list.contains(0));
+        assertFalse(list.contains(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(5));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void spansChunksAndReusesSlots() {
+        int n = 200_000;
+        for (int i = 0; i < n; i++) list.addLast(i);
+        assertEquals(n, list.size());
+        assertEquals(n - 1, list.getLast());
+        assertEquals(150_000, list.getAt(150_000));
+
+        long reserved = list.reservedBytes();
+        for (int i = 0; i < n; i++) list.addLast(list.removeFirst());
+        assertEquals(reserved, list.reservedBytes());
+        assertEquals(0, list.getFirst());
+    }
+
+    @Test
+    void fileBacked(@TempDir Path dir) throws IOException {
+        try (OffHeapDoublyLinkedList<Long> mapped = new OffHeapDoublyLinkedList<>(RecordCodec.LONG, dir.resolve("list.bin"))) {
+            for (long i = 0; i < 100_000; i++) mapped.addFirst(i << 20);
+            assertEquals(99_999L << 20, mapped.getFirst());
+            assertEquals(0L, mapped.removeLast());
+            assertEquals(99_999, mapped.size());
+        }
+    }
+
+    @Test
+    void closed() throws IOException {
+        list.addLast(1);
+        list.close();
+        list.close();
+        assertThrows(IllegalStateException.class, () -> list.addLast(2));
+        assertThrows(IllegalStateException.class, list::getFirst);
+    }
+
+    @Test
+    void rejectsRecordsTooWideForAChunk(@TempDir Path dir) {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapDoublyLinkedList<>(codec(40_000)));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapDoublyLinkedList<>(codec(40_000), dir.resolve("list.bin")));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapDoublyLinkedList<>(codec(-1)));
+        // The file is not created for a rejected codec
+        assertFalse(dir.resolve("list.bin").toFile().exists());
+    }
+
+    private static RecordCodec<byte[]> codec(int width) {
+        return new RecordCodec<>() {
+            @Override
+            public int width() {
+                return width;
+            }
+
+            @Override
+            public void write(byte[] value, ByteBuffer buffer, int offset) {
+                buffer.put(offset, value);
+            }
+
+            @Override
+            public byte[] read(ByteBuffer buffer, int offset) {
+                byte[] value = new byte[width];
+                buffer.get(offset, value);
+                return value;
+            }
+        };
+    }
+
+    //Performance Tests
+
+    private static long gcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Keeps a large list alive while the application churns through
+     * short-lived garbage, and reports the time spent in GC (including an
+     * explicit full collection) along with the addLast/removeFirst throughput.
+     */
+    @Test
+    void benchmarkGcAndThroughput() throws IOException {
+        int n = 2_000_000;
+        int cycles = 2_000_000;
+        System.out.println("\n--- Off-heap vs on-heap list (n=" + n + ") ---");
+        System.out.printf("%-25s %-15s %-15s %-15s%n", "List", "Mops/s", "GC time (ms)", "Full GC (ms)");
+
+        MyDoublyLinkedList<Long> onHeap = new MyDoublyLinkedList<>();
+        report("MyDoublyLinkedList", onHeap, n, cycles);
+        onHeap.clear();
+
+        try (OffHeapDoublyLinkedList<Long> offHeap = new OffHeapDoublyLinkedList<>(RecordCodec.LONG)) {
+            report("OffHeapDoublyLinkedList", offHeap, n, cycles);
+        }
+    }
+
+    private void report(String name, com.github.andrz25.api.DoublyLinkedList<Long> target, int n, int cycles) {
+        for (long i = 0; i < n; i++) target.addLast(i);
+        System.gc();
+
+        long gcBefore = gcTimeMs();
+        long startTime = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < cycles; i++) {
+            target.addLast(target.removeFirst() + n);
+            sink += new long[8].length;
+        }
+        long endTime = System.nanoTime();
+        long churnGc = gcTimeMs() - gcBefore;
+
+        long fullBefore = gcTimeMs();
+        System.gc();
+        long fullGc = gcTimeMs() - fullBefore;
+
+        assertEquals(cycles * 8L, sink);
+        System.out.printf("%-25s %-15.2f %-15d %-15d%n", name, cycles * 1000.0 / (endTime - startTime), churnGc, fullGc);
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.andrz25.api.BinarySearchTree;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+class ShardedBinarySearchTreePerformanceTest {
+
+    private static final int KEYS = 200_000;
+    private static final int OPERATIONS = 1_000_000;
+
+    /**
+     * Splits a fixed number of random inserts and deletes among 1 to 32 threads, comparing one
+     * MyBinarySearchTree behind a single lock with a ShardedBinarySearchTree. Both start with half
+     * of the keys present.
+     */
+    @Test
+    void benchmarkWriteScaling() throws InterruptedException {
+        System.out.println("\n--- Write scaling: " + OPERATIONS + " inserts/deletes over " + KEYS + " keys, "
+                + Runtime.getRuntime().availableProcessors() + " CPUs ---\n");
+        System.out.printf("%-8s %-14s %-14s %-8s%n", "Threads", "Locked Mops/s", "Sharded Mops/s", "Shards");
+
+        List<Integer> sample = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) sample.add(random.nextInt(KEYS));
+
+        for (int threads : new int[] {1, 2, 4, 8, 16, 32}) {
+            LockedTree locked = new LockedTree();
+            ShardedBinarySearchTree<Integer> sharded = new ShardedBinarySearchTree<>(sample, 16);
+            double lockedRate = 0;
+            double shardedRate = 0;
+            // The first pass warms up the JIT
+            for (int pass = 0; pass < 2; pass++) {
+                lockedRate = run(locked, threads);
+                shardedRate = run(sharded, threads);
+            }
+            System.out.printf("%-8d %-14.2f %-14.2f %-8d%n", threads, lockedRate, shardedRate, sharded.shardCount());
+            assertTrue(sharded.size() > 0);
+        }
+    }
+
+    // Mops/s for the operations split evenly among the threads
+    private static double run(BinarySearchTree<Integer> tree, int threads) throws InterruptedException {
+        Random preload = new Random(1);
+        for (int i = 0; i < KEYS / 2; i++) tree.insert(preload.nextInt(KEYS));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            Thread worker = new Thread(() -> {
+                Random random = new Random(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < OPERATIONS / threads; i++) {
+                    int key = random.nextInt(KEYS);
+                    if ((i & 1) == 0) tree.insert(key);
+                    else tree.delete(key);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+        long elapsed = System.nanoTime() - startTime;
+        return OPERATIONS * 1000.0 / elapsed;
+    }
+
+    // A MyBinarySearchTree whose writes all take one lock
+    private static final class LockedTree extends MyBinarySearchTree<Integer> {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        @Override
+        public void insert(Integer data) {
+            lock.lock();
+            try {
+                super.insert(data);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void delete(Integer data) {
+            lock.lock();
+            try {
+                super.delete(data);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+class ShardedBinarySearchTreeTest {
+
+    @Test
+    void sampledShardsBehaveAsOneTree() {
+        List<Integer> sample = IntStream.range(0, 1_000).boxed().toList();
+        ShardedBinarySearchTree<Integer> tree = new ShardedBinarySearchTree<>(sample, 4);
+        assertEquals(4, tree.shardCount());
+        assertTrue(tree.isEmpty());
+
+        for (int key : new int[] {500, 250, 750, -5, 1_200, 250, 999, 0}) tree.insert(key);
+        assertEquals(7, tree.size());
+        assertTrue(tree.contains(-5));
+        assertTrue(tree.contains(1_200));
+        assertFalse(tree.contains(251));
+
+        tree.delete(750);
+        tree.delete(751);
+        assertEquals(6, tree.size());
+        assertEquals(List.of(-5, 0, 250, 500, 999, 1_200), collect(tree.rangeIterator(null, null)));
+        // Ranges span shard bounds, both ends inclusive
+        assertEquals(List.of(250, 500), collect(tree.rangeIterator(1, 500)));
+        assertEquals(List.of(999, 1_200), collect(tree.rangeIterator(750, null)));
+        assertTrue(collect(tree.rangeIterator(600, 700)).isEmpty());
+        assertEquals(1, tree.height());
+
+        assertThrows(NullPointerException.class, () -> tree.insert(null));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedBinarySearchTree<>(sample, 0));
+        // Duplicate sample keys give fewer shards
+        assertEquals(2, new ShardedBinarySearchTree<>(List.of(7, 7, 7), 4).shardCount());
+    }
+
+    @Test
+    void hotShardsSplitAndColdOnesMerge() {
+        // Ascending inserts keep the last shard hot, so it keeps splitting and the cold ones merge
+        ShardedBinarySearchTree<Integer> tree = new ShardedBinarySearchTree<>(List.of(), 1, 8, 64);
+        for (int key = 0; key < 20_000; key++) tree.insert(key);
+
+        assertTrue(tree.shardCount() > 1 && tree.shardCount() <= 8, "shards: " + tree.shardCount());
+        assertTrue(tree.splitCount() > 8);
+        assertTrue(tree.mergeCount() > 0);
+        assertEquals(20_000, tree.size());
+        List<Integer> keys = collect(tree.rangeIterator(null, null));
+        assertEquals(IntStream.range(0, 20_000).boxed().toList(), keys);
+        for (int key = 0; key < 20_000; key += 7) assertTrue(tree.contains(key));
+
+        for (int key = 0; key < 20_000; key += 2) tree.delete(key);
+        assertEquals(10_000, tree.size());
+        assertEquals(IntStream.range(0, 10_000).map(i -> 2 * i + 1).boxed().toList(), collect(tree.rangeIterator(null, null)));
+    }
+
+    @Test
+    void concurrentWritersWhileShardsResize() throws InterruptedException {
+        int threads = 8;
+        ShardedBinarySearchTree<Integer> tree = new ShardedBinarySearchTree<>(List.of(), 1, 16, 32);
+        Set<Integer> expected = new ConcurrentSkipListSet<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> failures = new ArrayList<>();
+
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            writers.add(new Thread(() -> {
+                Random random = new Random(id);
+                Set<Integer> mine = new TreeSet<>();
+                try {
+                    start.await();
+                    for (int i = 0; i < 20_000; i++) {
+                        // Each thread owns the keys congruent to its id, so the final contents are known
+                        int key = random.nextInt(10_000) * threads + id;
+                        if (random.nextInt(3) < 2) {
+                            tree.insert(key);
+                            mine.add(key);
+                        } else {
+                            tree.delete(key);
+                            mine.remove(key);
+                        }
+                        if (tree.contains(key) != mine.contains(key)) {
+                            throw new AssertionError("key " + key);
+                        }
+                    }
+                    expected.addAll(mine);
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+        }
+
+        // A reader iterating meanwhile must always see ascending keys
+        Thread reader = new Thread(() -> {
+            try {
+                start.await();
+                for (int pass = 0; pass < 20; pass++) {
+                    Integer previous = null;
+                    Iterator<Integer> it = tree.rangeIterator(null, null);
+                    while (it.hasNext()) {
+                        Integer key = it.next();
+                        if (previous != null && key <= previous) {
+                            throw new AssertionError(key + " after " + previous);
+                        }
+                        previous = key;
+                    }
+                }
+            } catch (Throwable e) {
+                synchronized (failures) {
+                    failures.add(e);
+                }
+            }
+        });
+
+        writers.forEach(Thread::start);
+        reader.start();
+        start.countDown();
+        for (Thread writer : writers) writer.join();
+        reader.join();
+
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertTrue(tree.splitCount() > 0);
+        assertEquals(expected.size(), tree.size());
+        assertEquals(new ArrayList<>(expected), collect(tree.rangeIterator(null, null)));
+    }
+
+    private static <T> List<T> collect(Iterator<T> it) {
+        List<T> list = new ArrayList<>();
+        while (it.hasNext()) list.add(it.next());
+        return list;
+    }
+}
@@ -0,0 +1,236 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+class SnapshotDoublyLinkedListTest {
+
+    SnapshotDoublyLinkedList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new SnapshotDoublyLinkedList<>();
+    }
+
+    private static List<Integer> contents(SnapshotDoublyLinkedList<Integer>.Snapshot snapshot) {
+        List<Integer> result = new ArrayList<>();
+        for (Integer data : snapshot) result.add(data);
+        return result;
+    }
+
+    @Test
+    void listOperations() {
+        assertNull(list.removeFirst());
+        assertNull(list.getFirst());
+        assertNull(list.getLast());
+
+        for (int i = 0; i < 5; i++) list.addLast(i);
+        list.addFirst(-1);
+        list.insertAt(3, 42);
+        assertEquals(7, list.size());
+        assertEquals(-1, list.getFirst());
+        assertEquals(4, list.getLast());
+        assertEquals(42, list.getAt(3));
+        assertNull(list.getAt(7));
+        assertEquals(3, list.indexOf(42));
+        assertFalse(list.contains(100));
+
+        assertEquals(-1, list.removeFirst());
+        assertEquals(4, list.removeLast());
+        assertEquals(42, list.removeAt(2));
+        try (SnapshotDoublyLinkedList<Integer>.Snapshot snapshot = list.snapshot()) {
+            assertEquals(Arrays.asList(0, 1, 2, 3), contents(snapshot));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(5, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(4));
+        assertThrows(NullPointerException.class, () -> list.addLast(null));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertNull(list.getFirst());
+    }
+
+    @Test
+    void snapshotKeepsItsVersion() {
+        for (int i = 0; i < 5; i++) list.addLast(i);
+
+        try (SnapshotDoublyLinkedList<Integer>.Snapshot before = list.snapshot()) {
+            list.removeFirst();
+            list.insertAt(2, 42);
+            list.addLast(5);
+            list.removeAt(1);
+
+            assertEquals(Arrays.asList(0, 1, 2, 3, 4), contents(before));
+            try (SnapshotDoublyLinkedList<Integer>.Snapshot after = list.snapshot()) {
+                assertEquals(Arrays.asList(1, 42, 3, 4, 5), contents(after));
+                assertTrue(after.version() > before.version());
+            }
+
+            list.clear();
+            assertEquals(Arrays.asList(0, 1, 2, 3, 4), contents(before));
+        }
+
+        SnapshotDoublyLinkedList<Integer>.Snapshot closed = list.snapshot();
+        Iterator<Integer> it = closed.iterator();
+        closed.close();
+        closed.close();
+        assertThrows(IllegalStateException.class, it::hasNext);
+    }
+
+    @Test
+    void removedNodesAreReclaimedOnceNoSnapshotSeesThem() {
+        for (int i = 0; i < 1000; i++) list.addLast(i);
+
+        SnapshotDoublyLinkedList<Integer>.Snapshot pinned = list.snapshot();
+        for (int i = 0; i < 1000; i++) list.removeFirst();
+        assertEquals(1000, list.physicalSize());
+        assertEquals(1000, contents(pinned).size());
+        pinned.close();
+
+        // The next sweep no longer has to keep the removed nodes
+        for (int i = 0; i < 1000; i++) {
+            list.addLast(i);
+            list.removeFirst();
+        }
+        assertTrue(list.physicalSize() < 200);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void concurrentReadersSeeConsistentVersions() throws InterruptedException {
+        // The writer keeps the list a run of consecutive numbers, any torn view breaks the run
+        for (int i = 0; i < 1000; i++) list.addLast(i);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread[] readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                while (running.get()) {
+                    try (SnapshotDoublyLinkedList<Integer>.Snapshot snapshot = list.snapshot()) {
+                        List<Integer> seen = contents(snapshot);
+                        // 1001 between the append and the removal
+                        if (seen.size() != 1000 && seen.size() != 1001) failure.set("size " + seen.size());
+                        for (int i = 1; i < seen.size(); i++) {
+                            if (seen.get(i) != seen.get(i - 1) + 1) failure.set("gap at " + i + " in " + snapshot.version());
+                        }
+                    }
+                }
+            });
+            readers[r].start();
+        }
+
+        for (int i = 1000; i < 200_000; i++) {
+            list.addLast(i);
+            list.removeFirst();
+        }
+        running.set(false);
+        for (Thread reader : readers) reader.join();
+
+        assertNull(failure.get());
+        assertEquals(199_000, list.getFirst());
+    }
+
+    //Performance Tests
+
+    @Test
+    void benchmarkWriterDuringScans() throws InterruptedException {
+        System.out.println("\n--- Writer throughput during concurrent scans ---\n");
+
+        int n = 100_000;
+        for (int readers : new int[] {0, 1, 2, 4}) {
+            SnapshotDoublyLinkedList<Integer> snapshotList = new SnapshotDoublyLinkedList<>();
+            for (int i = 0; i < n; i++) snapshotList.addLast(i);
+            long[] snapshotResult = measureWriter(readers,
+                    () -> {
+                        snapshotList.addLast(1);
+                        snapshotList.removeFirst();
+                    },
+                    () -> {
+                        long sum = 0;
+                        try (SnapshotDoublyLinkedList<Integer>.Snapshot snapshot = snapshotList.snapshot()) {
+                            for (Integer data : snapshot) sum += data;
+                        }
+                        return sum;
+                    });
+
+            MyDoublyLinkedList<Integer> lockedList = new MyDoublyLinkedList<>();
+            ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+            for (int i = 0; i < n; i++) lockedList.addLast(i);
+            long[] lockedResult = measureWriter(readers,
+                    () -> {
+                        lock.writeLock().lock();
+                        try {
+                            lockedList.addLast(1);
+                            lockedList.removeFirst();
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                    },
+                    () -> {
+                        long sum = 0;
+                        lock.readLock().lock();
+                        try {
+                            for (Integer data : lockedList) sum += data;
+                        } finally {
+                            lock.readLock().unlock();
+                        }
+                        return sum;
+                    });
+
+            System.out.printf("readers=%d%nsnapshot: %,d writes/s (longest stall %d μs), read-write lock: %,d writes/s (longest stall %d μs)%n",
+                    readers, snapshotResult[0], snapshotResult[1] / 1000, lockedResult[0], lockedResult[1] / 1000);
+        }
+    }
+
+    private interface Scan {
+        long run();
+    }
+
+    // Writes per second of the calling thread while the readers scan in a loop, and the longest batch of 100 writes in ns
+    private long[] measureWriter(int readerCount, Runnable write, Scan scan) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] sink = new long[readerCount];
+        Thread[] readers = new Thread[readerCount];
+        for (int r = 0; r < readerCount; r++) {
+            int id = r;
+            readers[r] = new Thread(() -> {
+                while (running.get()) sink[id] += scan.run();
+            });
+            readers[r].start();
+        }
+
+        long duration = 300_000_000L;
+        long ops = 0;
+        long longest = 0;
+        long start = System.nanoTime();
+        long now = start;
+        while (now - start < duration) {
+            for (int i = 0; i < 100; i++) write.run();
+            ops += 100;
+            long batchEnd = System.nanoTime();
+            longest = Math.max(longest, batchEnd - now);
+            now = batchEnd;
+        }
+        long elapsed = now - start;
+
+        running.set(false);
+        for (Thread reader : readers) reader.join();
+        return new long[] {ops * 1_000_000_000L / elapsed, longest};
+    }
+}
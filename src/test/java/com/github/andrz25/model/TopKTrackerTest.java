@@ -0,0 +1,158 @@
+package com.github.andrz25.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+class TopKTrackerTest {
+
+    @Test
+    void exactTrackerKeepsLeaders() {
+        TopKTracker<String> tracker = new TopKTracker<>(2);
+        tracker.increment("emma", 5);
+        tracker.increment("dune", 3);
+        tracker.increment("ulysses");
+        assertEquals(List.of(new TopKTracker.Entry<>("emma", 5, 0), new TopKTracker.Entry<>("dune", 3, 0)), tracker.top());
+
+        // An item outside the top enters once it passes the smallest leader
+        tracker.increment("ulysses", 2);
+        assertEquals(List.of("emma", "dune"), items(tracker.top()));
+        tracker.increment("ulysses", 5);
+        assertEquals(List.of("ulysses", "emma"), items(tracker.top()));
+        assertEquals(3, tracker.count("dune"));
+        assertEquals(0, tracker.count("hamlet"));
+        assertEquals(16, tracker.total());
+        assertEquals(3, tracker.trackedItems());
+        assertTrue(tracker.isExact());
+
+        assertThrows(IllegalArgumentException.class, () -> tracker.increment("emma", 0));
+        assertThrows(NullPointerException.class, () -> tracker.increment(null));
+        assertThrows(IllegalArgumentException.class, () -> new TopKTracker<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new TopKTracker<>(5, 4));
+    }
+
+    @Test
+    void exactTrackerMatchesSorting() {
+        Random random = new Random(3);
+        TopKTracker<Integer> tracker = new TopKTracker<>(10);
+        Map<Integer, Long> counts = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int item = skewed(random, 5_000);
+            long delta = 1 + random.nextInt(3);
+            tracker.increment(item, delta);
+            counts.merge(item, delta, Long::sum);
+
+            if (i % 10_000 == 0) {
+                List<Long> expected = counts.values().stream().sorted((a, b) -> Long.compare(b, a)).limit(10).toList();
+                List<Long> actual = tracker.top().stream().map(TopKTracker.Entry::count).toList();
+                assertEquals(expected, actual);
+                for (TopKTracker.Entry<Integer> entry : tracker.top()) {
+                    assertEquals(counts.get(entry.item()), entry.count());
+                }
+            }
+        }
+    }
+
+    @Test
+    void spaceSavingBoundsCounts() {
+        Random random = new Random(5);
+        TopKTracker<Integer> tracker = new TopKTracker<>(200, 200);
+        Map<Integer, Long> counts = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            int item = skewed(random, 100_000);
+            tracker.increment(item);
+            counts.merge(item, 1L, Long::sum);
+        }
+        assertFalse(tracker.isExact());
+        assertEquals(200, tracker.trackedItems());
+
+        // Counts are overestimated by at most their error, which is at most total / counters
+        for (TopKTracker.Entry<Integer> entry : tracker.top()) {
+            long actual = counts.get(entry.item());
+            assertTrue(entry.count() >= actual && entry.count() - entry.error() <= actual, entry.toString());
+            assertTrue(entry.error() <= tracker.total() / 200);
+        }
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            assertTrue(tracker.count(entry.getKey()) >= entry.getValue());
+        }
+
+        // Every item counted more than total / counters times is monitored, and here every counter is reported
+        List<Integer> leaders = tracker.top().stream().map(TopKTracker.Entry::item).toList();
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            if (entry.getValue() > tracker.total() / 200) {
+                assertTrue(leaders.contains(entry.getKey()), entry.toString());
+            }
+        }
+    }
+
+    //Performance Tests
+
+    @Test
+    void benchmarkUpdateThroughput() {
+        int events = 10_000_000;
+        int items = 1_000_000;
+        int k = 100;
+        System.out.println("\n--- Top-" + k + " tracker: " + events + " events over " + items + " items ---\n");
+
+        Random random = new Random(42);
+        int[] trace = new int[events];
+        for (int i = 0; i < events; i++) trace[i] = skewed(random, items);
+        Integer[] boxed = new Integer[items];
+        for (int i = 0; i < items; i++) boxed[i] = i;
+
+        // Recounting from scratch: one HashMap merge per event, then sorting all counts once per million events
+        Map<Integer, Long> recount = new HashMap<>();
+        List<Map.Entry<Integer, Long>> leaders = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            recount.merge(boxed[trace[i]], 1L, Long::sum);
+            if ((i + 1) % 1_000_000 == 0) {
+                leaders = new ArrayList<>(recount.entrySet());
+                leaders.sort(Map.Entry.<Integer, Long>comparingByValue().reversed());
+                leaders = leaders.subList(0, k);
+            }
+        }
+        long sorted = System.nanoTime() - start;
+        Set<Integer> exactTop = new HashSet<>();
+        for (Map.Entry<Integer, Long> leader : leaders) exactTop.add(leader.getKey());
+        System.out.printf("%-30s %,12.0f events/s%n", "HashMap + sort every 1M", events / (sorted / 1e9));
+
+        TopKTracker<Integer> exact = new TopKTracker<>(k);
+        start = System.nanoTime();
+        for (int item : trace) exact.increment(boxed[item]);
+        long exactTime = System.nanoTime() - start;
+        System.out.printf("%-30s %,12.0f events/s%n", "exact", events / (exactTime / 1e9));
+        assertEquals(exactTop.size(), exact.top().stream().filter(e -> exactTop.contains(e.item())).count());
+
+        for (int counters : new int[] {1_000, 10_000}) {
+            TopKTracker<Integer> approximate = new TopKTracker<>(k, counters);
+            start = System.nanoTime();
+            for (int item : trace) approximate.increment(boxed[item]);
+            long time = System.nanoTime() - start;
+            long found = approximate.top().stream().filter(e -> exactTop.contains(e.item())).count();
+            System.out.printf("%-30s %,12.0f events/s   recall %.2f%n", "Space-Saving, " + counters + " counters",
+                    events / (time / 1e9), (double) found / k);
+        }
+        assertTrue(events / (exactTime / 1e9) > 1_000_000);
+    }
+
+    private static int skewed(Random random, int n) {
+        // Roughly Zipfian: small indexes are much more likely
+        return (int) Math.min(n - 1, Math.pow(n, random.nextDouble()) - 1);
+    }
+
+    private static List<String> items(List<TopKTracker.Entry<String>> entries) {
+        return entries.stream().map(TopKTracker.Entry::item).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.andrz25.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.andrz25.api.DoublyLinkedList;
+import com.github.andrz25.model.ArrayDoublyLinkedList;
+import com.github.andrz25.model.ConcurrentDoublyLinkedList;
+import com.github.andrz25.model.MyBinarySearchTree;
+import com.github.andrz25.model.MyDoublyLinkedList;
+import com.github.andrz25.model.RecordCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+class WorkloadPerformanceTest {
+
+    private static final int OPERATIONS = 1_000_000;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Records a queue-shaped trace against MyDoublyLinkedList, then replays it against every list
+     * implementation in a closed loop and in an open loop at a fixed arrival rate.
+     */
+    @Test
+    void benchmarkListReplay() throws IOException {
+        Path file = directory.resolve("queue.trace");
+        Random random = new Random(42);
+        try (TraceWriter<Integer> writer = new TraceWriter<>(file, RecordCodec.INT)) {
+            DoublyLinkedList<Integer> list = new RecordingDoublyLinkedList<>(new MyDoublyLinkedList<>(), writer);
+            for (int i = 0; i < OPERATIONS; i++) {
+                // Producers slightly outpace consumers, with peeks and the occasional scan near the head
+                int roll = random.nextInt(100);
+                if (roll < 45 || list.isEmpty()) list.addLast(i);
+                else if (roll < 85) list.removeFirst();
+                else if (roll < 95) list.getFirst();
+                else list.getAt(random.nextInt(Math.min(list.size(), 64)));
+            }
+        }
+        Trace<Integer> trace = Trace.read(file, RecordCodec.INT);
+        System.out.printf("%n--- Replay: queue trace, %,d operations, %.1f bytes each, %s ---%n%n",
+                trace.size(), (double) (Files.size(file) - TraceWriter.HEADER) / trace.size(), trace.mix());
+
+        List<Supplier<DoublyLinkedList<Integer>>> lists = List.of(
+                MyDoublyLinkedList::new, ArrayDoublyLinkedList::new, ConcurrentDoublyLinkedList::new);
+        for (Replayer replayer : new Replayer[] {new Replayer(), new Replayer(2_000_000)}) {
+            for (Supplier<DoublyLinkedList<Integer>> supplier : lists) {
+                ReplayResult result = null;
+                for (int pass = 0; pass < 3; pass++) {
+                    result = replayer.replay(trace, supplier.get());
+                }
+                System.out.printf("%-12s %-28s %s%n", replayer.isOpenLoop() ? "open 2M/s" : "closed",
+                        supplier.get().getClass().getSimpleName(), result);
+                assertEquals(OPERATIONS, result.operations());
+            }
+        }
+    }
+
+    /**
+     * Records a read-mostly trace against MyBinarySearchTree, then replays it closed-loop and
+     * open-loop at rising arrival rates, showing queueing once the rate nears the tree's capacity.
+     */
+    @Test
+    void benchmarkTreeReplay() throws IOException {
+        Path file = directory.resolve("tree.trace");
+        Random random = new Random(7);
+        try (TraceWriter<Long> writer = new TraceWriter<>(file, RecordCodec.LONG)) {
+            RecordingBinarySearchTree<Long> tree = new RecordingBinarySearchTree<>(new MyBinarySearchTree<>(), writer);
+            for (int i = 0; i < OPERATIONS; i++) {
+                long key = random.nextInt(200_000);
+                int roll = random.nextInt(100);
+                if (roll < 30) tree.insert(key);
+                else if (roll < 90) tree.contains(key);
+                else tree.delete(key);
+            }
+        }
+        Trace<Long> trace = Trace.read(file, RecordCodec.LONG);
+        System.out.printf("%n--- Replay: tree trace, %,d operations, %s ---%n%n", trace.size(), trace.mix());
+
+        ReplayResult closed = null;
+        for (int pass = 0; pass < 3; pass++) {
+            closed = new Replayer().replay(trace, new MyBinarySearchTree<>());
+        }
+        System.out.printf("%-12s %s%n", "closed", closed);
+
+        for (double fraction : new double[] {0.25, 0.5, 0.9}) {
+            double rate = fraction * closed.throughput();
+            ReplayResult open = new Replayer(rate).replay(trace, new MyBinarySearchTree<>());
+            System.out.printf("%-12s %s%n", String.format("open %.0f%%", fraction * 100), open);
+            assertEquals(OPERATIONS, open.operations());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.andrz25.workload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.andrz25.metrics.Operation;
+import com.github.andrz25.model.ArrayDoublyLinkedList;
+import com.github.andrz25.model.MyBinarySearchTree;
+import com.github.andrz25.model.MyDoublyLinkedList;
+import com.github.andrz25.model.RecordCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+class WorkloadTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void listTraceReplaysToTheSameContents() throws IOException {
+        Path file = directory.resolve("list.trace");
+        MyDoublyLinkedList<Integer> original = new MyDoublyLinkedList<>();
+        try (TraceWriter<Integer> writer = new TraceWriter<>(file, RecordCodec.INT)) {
+            RecordingDoublyLinkedList<Integer> list = new RecordingDoublyLinkedList<>(original, writer);
+            list.addLast(1);
+            list.addFirst(0);
+            list.insertAt(1, 300);
+            list.addLast(-7);
+            assertEquals(300, list.getAt(1));
+            assertEquals(2, list.indexOf(1));
+            assertTrue(list.contains(-7));
+            list.removeAt(2);
+            list.getFirst();
+            list.getLast();
+            list.addLast(5);
+            list.removeFirst();
+            list.removeLast();
+            // Fails in the delegate, so it is not recorded
+            assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(100));
+            assertEquals(13, writer.records());
+        }
+        // 12 byte header, 13 opcodes, 3 one-byte indexes, 7 four-byte keys
+        assertEquals(12 + 13 + 3 + 7 * 4, Files.size(file));
+
+        Trace<Integer> trace = Trace.read(file, RecordCodec.INT);
+        assertEquals(13, trace.size());
+        assertEquals(Operation.INSERT_AT, trace.operation(2));
+        assertEquals(300, trace.key(2));
+        assertEquals(1, trace.index(2));
+        assertEquals(Map.ofEntries(Map.entry(Operation.ADD_LAST, 3), Map.entry(Operation.ADD_FIRST, 1),
+                Map.entry(Operation.INSERT_AT, 1), Map.entry(Operation.GET_AT, 1), Map.entry(Operation.INDEX_OF, 1),
+                Map.entry(Operation.CONTAINS, 1), Map.entry(Operation.REMOVE_AT, 1), Map.entry(Operation.GET_FIRST, 1),
+                Map.entry(Operation.GET_LAST, 1), Map.entry(Operation.REMOVE_FIRST, 1),
+                Map.entry(Operation.REMOVE_LAST, 1)), trace.mix());
+
+        // Any implementation ends up with the same contents
+        ArrayDoublyLinkedList<Integer> replayed = new ArrayDoublyLinkedList<>();
+        ReplayResult result = new Replayer().replay(trace, replayed);
+        assertEquals(13, result.operations());
+        assertEquals(13, result.latencies().count());
+        assertEquals(contents(original), contents(replayed));
+    }
+
+    @Test
+    void treeTraceReplaysToTheSameContents() throws IOException {
+        Path file = directory.resolve("tree.trace");
+        MyBinarySearchTree<Long> original = new MyBinarySearchTree<>();
+        try (TraceWriter<Long> writer = new TraceWriter<>(file, RecordCodec.LONG)) {
+            RecordingBinarySearchTree<Long> tree = new RecordingBinarySearchTree<>(original, writer);
+            for (long key = 0; key < 5_000; key++) tree.insert(key * 7_919 % 5_003);
+            for (long key = 0; key < 5_000; key += 3) tree.delete(key);
+            for (long key = 0; key < 100; key++) tree.contains(key);
+        }
+
+        MyBinarySearchTree<Long> replayed = new MyBinarySearchTree<>();
+        new Replayer().replay(Trace.read(file, RecordCodec.LONG), replayed);
+        assertEquals(original.size(), replayed.size());
+        assertEquals(original.height(), replayed.height());
+        for (long key = 0; key < 5_003; key++) assertEquals(original.contains(key), replayed.contains(key));
+
+        // A tree trace cannot drive a list
+        assertThrows(UnsupportedOperationException.class,
+                () -> new Replayer().replay(Trace.read(file, RecordCodec.LONG), new MyDoublyLinkedList<>()));
+    }
+
+    @Test
+    void rejectsBadFiles() throws IOException {
+        Path file = directory.resolve("bad.trace");
+        try (TraceWriter<Integer> writer = new TraceWriter<>(file, RecordCodec.INT)) {
+            writer.record(Operation.ADD_LAST, 0, 1);
+            writer.record(Operation.GET_AT, Integer.MAX_VALUE, null);
+            assertThrows(NullPointerException.class, () -> writer.record(Operation.ADD_LAST, 0, null));
+            assertThrows(IllegalArgumentException.class, () -> writer.record(Operation.GET_AT, -1, null));
+        }
+        assertThrows(IOException.class, () -> Trace.read(file, RecordCodec.LONG));
+        assertEquals(Integer.MAX_VALUE, Trace.read(file, RecordCodec.INT).index(1));
+
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> Trace.read(file, RecordCodec.INT));
+
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> Trace.read(file, RecordCodec.INT));
+    }
+
+    @Test
+    void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) histogram.record(i * 10);
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(500_005, histogram.mean(), 1e-6);
+        // Reported values round up to the bucket, at most 1/64 above the exact percentile
+        for (double p : new double[] {50, 90, 99, 99.9}) {
+            long exact = (long) (p * 10_000);
+            long reported = histogram.percentile(p);
+            assertTrue(reported >= exact && reported <= exact + exact / 64, p + ": " + reported);
+        }
+        assertEquals(1_000_000, histogram.percentile(100));
+
+        LatencyHistogram small = new LatencyHistogram();
+        small.record(3);
+        small.record(-5);
+        small.record(Long.MAX_VALUE);
+        assertEquals(0, small.percentile(0));
+        assertEquals(3, small.percentile(50));
+        assertEquals(Long.MAX_VALUE, small.percentile(100));
+        histogram.add(small);
+        assertEquals(100_003, histogram.count());
+        assertEquals(0, new LatencyHistogram().percentile(99));
+        assertThrows(IllegalArgumentException.class, () -> small.percentile(101));
+    }
+
+    @Test
+    void openLoopKeepsTheArrivalRate() throws IOException {
+        Path file = directory.resolve("rate.trace");
+        try (TraceWriter<Integer> writer = new TraceWriter<>(file, RecordCodec.INT)) {
+            for (int i = 0; i < 20_000; i++) writer.record(Operation.ADD_LAST, 0, i);
+        }
+        Replayer replayer = new Replayer(100_000);
+        assertTrue(replayer.isOpenLoop());
+        assertFalse(new Replayer().isOpenLoop());
+        assertThrows(IllegalArgumentException.class, () -> new Replayer(0));
+
+        // 20,000 operations at 100,000 per second take at least 0.2 seconds
+        ReplayResult result = replayer.replay(Trace.read(file, RecordCodec.INT), new MyDoublyLinkedList<>());
+        assertTrue(result.elapsedNanos() >= 199_990_000L, result.toString());
+        assertTrue(result.throughput() <= 100_100, result.toString());
+        assertEquals(100_000, result.targetRate());
+    }
+
+    private static List<Integer> contents(Iterable<Integer> list) {
+        List<Integer> contents = new ArrayList<>();
+        for (Integer value : list) contents.add(value);
+        return contents;
+    }
+}